@@ -1,26 +1,53 @@
 package _1danhebojo.coalarm.coalarm_service.domain.alert.controller;
 
+import _1danhebojo.coalarm.coalarm_service.domain.alert.controller.request.TradeStreamSymbolsRequest;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.controller.response.TradeStreamResponse;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.service.UpbitSseService;
+import _1danhebojo.coalarm.coalarm_service.global.api.BaseResponse;
 import jakarta.annotation.security.PermitAll;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/sse/trade")
 @PermitAll
 @RequiredArgsConstructor
 class UpbitSseController {
 
+    private static final String STREAM_TOKEN_HEADER = "X-Stream-Token";
+
     private final UpbitSseService upbitService;
 
     @GetMapping(value = "/{symbol}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@PathVariable String symbol) {
-        upbitService.subscribeSymbol(symbol);
-        return upbitService.addEmitter(symbol);
+    public SseEmitter subscribe(@PathVariable String symbol,
+                                @RequestParam(defaultValue = "false") boolean raw) {
+        return upbitService.addEmitter(symbol, raw);
+    }
+
+    // 여러 심볼 체결을 연결 하나로 구독 (e.g. ?symbols=BTC,ETH)
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeStream(@RequestParam(required = false) List<String> symbols) {
+        return upbitService.openStream(symbols);
+    }
+
+    // 열려 있는 스트림의 구독 심볼 추가/해제 (첫 stream 이벤트로 받은 owner_token 을 헤더로 보낸 호출자만 가능)
+    @PatchMapping(value = "/streams/{stream_id}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BaseResponse<TradeStreamResponse>> updateStream(@PathVariable("stream_id") String streamId,
+                                                                         @RequestHeader(name = STREAM_TOKEN_HEADER, required = false) String ownerToken,
+                                                                         @RequestBody TradeStreamSymbolsRequest request) {
+        TradeStreamResponse result = upbitService.updateStream(streamId, ownerToken, request.getAdd(), request.getRemove());
+        return ResponseEntity.ok(BaseResponse.success(result));
     }
 }
@@ -9,6 +9,8 @@ import jakarta.validation.constraints.Null;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
+
 @Getter
 @Setter
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type", visible = true)
@@ -32,6 +34,12 @@ public abstract class BaseAlertRequest {
     @JsonProperty("status")
     private Boolean active= true;
 
+    @JsonProperty("trigger_mode")
+    private String triggerMode; // 발동 방식 (REPEAT, ONCE, REARM), 없으면 REPEAT
+
+    @JsonProperty("expire_dt")
+    private Instant expireDt; // 만료 시각
+
     @JsonProperty("coin_id")
     private Long coinId; // 코인 ID
 
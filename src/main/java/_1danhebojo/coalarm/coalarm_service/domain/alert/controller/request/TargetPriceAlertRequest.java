@@ -1,6 +1,7 @@
 package _1danhebojo.coalarm.coalarm_service.domain.alert.controller.request;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Null;
 import lombok.Getter;
@@ -22,4 +23,8 @@ public class TargetPriceAlertRequest extends BaseAlertRequest {
     @NotNull
     @JsonProperty("percentage")
     private Integer percentage;
+
+    @DecimalMin(value = "0", inclusive = false)
+    @JsonProperty("rearm_percentage")
+    private BigDecimal rearmPercentage; // REARM 모드 재무장 비율(%)
 }
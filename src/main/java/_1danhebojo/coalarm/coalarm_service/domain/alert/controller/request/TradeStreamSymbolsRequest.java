@@ -0,0 +1,16 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.controller.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class TradeStreamSymbolsRequest {
+    // 추가로 구독할 심볼
+    private List<String> add = new ArrayList<>();
+    // 구독을 해제할 심볼
+    private List<String> remove = new ArrayList<>();
+}
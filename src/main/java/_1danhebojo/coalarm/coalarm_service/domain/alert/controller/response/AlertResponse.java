@@ -4,6 +4,8 @@ import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertE
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 
+import java.time.Instant;
+
 @Getter
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class AlertResponse {
@@ -13,6 +15,8 @@ public class AlertResponse {
     private String title;
     private CoinResponse coin;
     private String alertType;
+    private String triggerMode;
+    private Instant expireDt;
     private GoldenCrossResponse goldenCross;
     private VolumeSpikeResponse volumeSpike;
     private TargetPriceResponse targetPrice;
@@ -23,6 +27,8 @@ public class AlertResponse {
         this.coin = new CoinResponse(alert.getCoin());
         this.userId = alert.getUser().getId();
         this.active = alert.getActive();
+        this.triggerMode = alert.getTriggerMode().name();
+        this.expireDt = alert.getExpireDt();
         // `is_*` 값 중 `true`인 값을 기준으로 alertType 설정
         if (alert.getIsGoldenCross()) {
             this.alertType = "GOLDEN_CROSS";
@@ -9,11 +9,13 @@ import java.math.BigDecimal;
 public class TargetPriceResponse {
     private BigDecimal price;
     private int percentage;
+    private BigDecimal rearmPercentage;
 
     public TargetPriceResponse(TargetPriceEntity targetPrice) {
         if (targetPrice != null) {
             this.price = targetPrice.getPrice();
             this.percentage = targetPrice.getPercentage();
+            this.rearmPercentage = targetPrice.getRearmPercentage();
         }
     }
 }
@@ -0,0 +1,23 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.controller.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TradeStreamResponse {
+    private String streamId;
+    private List<String> symbols;
+    // 스트림 변경 권한 토큰 (스트림을 연 연결의 첫 stream 이벤트에만 포함)
+    private String ownerToken;
+
+    public TradeStreamResponse(String streamId, List<String> symbols) {
+        this(streamId, symbols, null);
+    }
+}
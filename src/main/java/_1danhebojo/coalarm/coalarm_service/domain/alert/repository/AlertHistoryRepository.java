@@ -4,6 +4,7 @@ import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertH
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +14,7 @@ public interface AlertHistoryRepository {
     void save(AlertHistoryEntity alertHistory);
     Optional<AlertHistoryEntity> findById(Long alertHistoryId);
     List<Long> findRecentHistories(LocalDateTime minutesAgo);
+    List<AlertHistoryEntity> findRecentHistoriesWithAlert(Instant since);
 
     void deleteByUserId(Long userId);
 }
@@ -63,6 +63,19 @@ public class AlertHistoryRepositoryImpl implements AlertHistoryRepository {
                 .fetch();
     }
 
+    // 특정 시점 이후 발송된 히스토리를 알람과 함께 조회 (쿨다운 초기화용)
+    @Override
+    public List<AlertHistoryEntity> findRecentHistoriesWithAlert(Instant since) {
+        return new JPAQuery<AlertHistoryEntity>(entityManager)
+                .select(alertHistoryEntity)
+                .from(alertHistoryEntity)
+                .join(alertHistoryEntity.alert, alertEntity).fetchJoin()
+                .where(
+                        alertHistoryEntity.regDt.goe(since)
+                )
+                .fetch();
+    }
+
     public List<Long> findRecentAlertIdsByUser(Long userId, LocalDateTime since) {
 
         return new JPAQuery<Long>(entityManager)
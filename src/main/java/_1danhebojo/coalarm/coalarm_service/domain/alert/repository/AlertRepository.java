@@ -1,7 +1,7 @@
 package _1danhebojo.coalarm.coalarm_service.domain.alert.repository;
 
-import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.TickerEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertTombstoneEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.GoldenCrossEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.TargetPriceEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.VolumeSpikeEntity;
@@ -9,6 +9,8 @@ import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEnt
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,8 +23,12 @@ public interface AlertRepository {
     AlertEntity save(AlertEntity alert);
     List<Long> findAlertIdsByUserId(Long userId);
     List<AlertEntity> findAllActiveAlerts();
+    List<AlertEntity> findAlertsChangedSince(Instant since);
+    List<AlertTombstoneEntity> findTombstonesSince(Instant since);
+    void deleteTombstonesBefore(Instant before);
+    int deactivateAlerts(Collection<Long> alertIds);
+    int deactivateExpiredAlerts(Instant now);
     Page<AlertEntity> findAllUserAlerts(Long userId, String symbol, Boolean active, String sort, int offset, int limit);
     Optional<CoinEntity> findCoinBySymbol(String symbol);
     boolean findAlertsByUserIdAndSymbolAndAlertType(Long userId, String symbol, String alertType, Long alarmCountLimit);
-    List<TickerEntity> findLatestTickersBySymbolList(List<String> symbolList);
 }
@@ -2,18 +2,16 @@ package _1danhebojo.coalarm.coalarm_service.domain.alert.repository;
 
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.*;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.jpa.AlertJpaRepository;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.jpa.AlertTombstoneJpaRepository;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.jpa.GoldenCrossJpaRepository;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.jpa.TargetPriceJpaRepository;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.jpa.VolumeSpikeJpaRepository;
 
 import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEntity;
-import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.QTickerEntity;
-import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.TickerEntity;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -22,8 +20,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
@@ -44,6 +45,7 @@ public class AlertRepositoryImpl implements AlertRepository {
     private final TargetPriceJpaRepository targetPriceJpaRepository;
     private final GoldenCrossJpaRepository goldenCrossJpaRepository;
     private final VolumeSpikeJpaRepository volumeSpikeJpaRepository;
+    private final AlertTombstoneJpaRepository alertTombstoneJpaRepository;
     private final JPAQueryFactory query;
     @PersistenceContext
     private EntityManager entityManager; // ★ EntityManager 추가
@@ -79,13 +81,28 @@ public class AlertRepositoryImpl implements AlertRepository {
     }
 
     public void deleteById(Long alertId) {
+        alertJpaRepository.findById(alertId).ifPresent(alert ->
+                saveTombstones(List.of(alertId), alert.getUser().getId()));
         alertJpaRepository.deleteById(alertId);
     }
 
     public void deleteByUserId(Long userId){
+        saveTombstones(findAlertIdsByUserId(userId), userId);
         alertJpaRepository.deleteAlertByUserId(userId);
     }
 
+    // 삭제된 알람 기록 저장 (활성 알람 변경분 동기화용)
+    private void saveTombstones(List<Long> alertIds, Long userId) {
+        if (alertIds.isEmpty()) return;
+
+        alertTombstoneJpaRepository.saveAll(alertIds.stream()
+                .map(alertId -> AlertTombstoneEntity.builder()
+                        .alertId(alertId)
+                        .userId(userId)
+                        .build())
+                .toList());
+    }
+
     public AlertEntity save(AlertEntity alert) {
         AlertEntity savedAlert = alertJpaRepository.save(alert);
 
@@ -117,6 +134,35 @@ public class AlertRepositoryImpl implements AlertRepository {
         return alertJpaRepository.findAllActiveAlerts();
     }
 
+    @Override
+    public List<AlertEntity> findAlertsChangedSince(Instant since) {
+        return alertJpaRepository.findAlertsChangedSince(since);
+    }
+
+    @Override
+    public List<AlertTombstoneEntity> findTombstonesSince(Instant since) {
+        return alertTombstoneJpaRepository.findByRegDtGreaterThanEqual(since);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void deleteTombstonesBefore(Instant before) {
+        alertTombstoneJpaRepository.deleteByRegDtBefore(before);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int deactivateAlerts(Collection<Long> alertIds) {
+        if (alertIds.isEmpty()) return 0;
+        return alertJpaRepository.deactivateAlerts(alertIds, Instant.now());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int deactivateExpiredAlerts(Instant now) {
+        return alertJpaRepository.deactivateExpiredAlerts(now);
+    }
+
     @Override
     public Page<AlertEntity> findAllUserAlerts(Long userId, String symbol, Boolean active, String sort, int offset, int limit) {
 
@@ -210,24 +256,5 @@ public class AlertRepositoryImpl implements AlertRepository {
 
 //        return alertJpaRepository.findAlertsByUserIdAndSymbolAndAlertType(userId, symbol, alertType, alarmCountLimit);
     }
-
-    public List<TickerEntity> findLatestTickersBySymbolList(List<String> symbolList) {
-        QTickerEntity ticker = QTickerEntity.tickerEntity;
-        QTickerEntity tickerSub = new QTickerEntity("tickerSub");
-
-        return query.selectFrom(ticker)
-                .where(
-                        ticker.id.baseSymbol.in(symbolList),
-                        ticker.id.timestamp.in(
-                                JPAExpressions
-                                        .select(tickerSub.id.timestamp.max())
-                                        .from(tickerSub)
-                                        .where(tickerSub.id.baseSymbol.eq(ticker.id.baseSymbol))
-                                        .where(tickerSub.id.quoteSymbol.eq("KRW")
-                                        )
-                        )
-                )
-                .fetch();
-    }
 }
 
@@ -37,6 +37,14 @@ public class AlertEntity {
     @Column(name="is_volume_spike", nullable = false)
     private Boolean isVolumeSpike;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trigger_mode", length = 10)
+    private AlertTriggerMode triggerMode;
+
+    // 만료 시각 (지나면 자동 비활성화, null 이면 만료 없음)
+    @Column(name = "expire_dt")
+    private Instant expireDt;
+
     @Column(name = "reg_dt", nullable = false, updatable = false)
     private Instant regDt;
 
@@ -61,13 +69,15 @@ public class AlertEntity {
     private VolumeSpikeEntity volumeSpike;
 
     @Builder
-    public AlertEntity(Long id, Boolean active, String title, Boolean isGoldenCross, Boolean isTargetPrice, Boolean isVolumeSpike, Instant regDt, Instant chgDt, UserEntity user, CoinEntity coin, TargetPriceEntity targetPrice, GoldenCrossEntity goldenCross, VolumeSpikeEntity volumeSpike) {
+    public AlertEntity(Long id, Boolean active, String title, Boolean isGoldenCross, Boolean isTargetPrice, Boolean isVolumeSpike, AlertTriggerMode triggerMode, Instant expireDt, Instant regDt, Instant chgDt, UserEntity user, CoinEntity coin, TargetPriceEntity targetPrice, GoldenCrossEntity goldenCross, VolumeSpikeEntity volumeSpike) {
         this.id = id;
         this.active = active;
         this.title = title;
         this.isGoldenCross = isGoldenCross;
         this.isTargetPrice = isTargetPrice;
         this.isVolumeSpike = isVolumeSpike;
+        this.triggerMode = triggerMode;
+        this.expireDt = expireDt;
         this.regDt = regDt;
         this.chgDt = chgDt;
         this.user = user;
@@ -84,6 +94,16 @@ public class AlertEntity {
         this.isGoldenCross = this.isGoldenCross != null && this.isGoldenCross;
         this.isTargetPrice = this.isTargetPrice != null && this.isTargetPrice;
         this.isVolumeSpike = this.isVolumeSpike != null && this.isVolumeSpike;
+        if (this.triggerMode == null) this.triggerMode = AlertTriggerMode.REPEAT;
+    }
+
+    // 발동 방식 (기존 데이터는 REPEAT)
+    public AlertTriggerMode getTriggerMode() {
+        return triggerMode == null ? AlertTriggerMode.REPEAT : triggerMode;
+    }
+
+    public boolean isExpired(Instant now) {
+        return expireDt != null && !expireDt.isAfter(now);
     }
 
     @PreUpdate
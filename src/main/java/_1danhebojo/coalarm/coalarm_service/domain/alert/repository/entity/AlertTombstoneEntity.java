@@ -0,0 +1,43 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// 삭제된 알람 기록 (활성 알람 변경분 동기화 시 메모리에서 제거하기 위해 사용)
+@Entity
+@Table(name = "alert_tombstones", indexes = @Index(name = "idx_alert_tombstones_reg_dt", columnList = "reg_dt"))
+@Getter
+@NoArgsConstructor
+public class AlertTombstoneEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "alert_id", nullable = false)
+    private Long alertId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "reg_dt", nullable = false, updatable = false)
+    private Instant regDt;
+
+    @Builder
+    public AlertTombstoneEntity(Long id, Long alertId, Long userId, Instant regDt) {
+        this.id = id;
+        this.alertId = alertId;
+        this.userId = userId;
+        this.regDt = regDt;
+    }
+
+    @PrePersist
+    private void prePersist() {
+        this.regDt = Instant.now();
+    }
+}
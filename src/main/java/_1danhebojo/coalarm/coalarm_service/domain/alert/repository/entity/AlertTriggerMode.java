@@ -0,0 +1,16 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity;
+
+// 알람 발동 방식
+public enum AlertTriggerMode {
+    // 발동할 때마다 알람 유지 (지정가 알람은 목표가를 교차할 때마다, 그 외 알람은 조건을 만족하는 동안 쿨다운마다 발동)
+    REPEAT,
+    // 한 번 발동 후 자동 비활성화
+    ONCE,
+    // 발동 후 가격이 재무장 비율만큼 되돌아와야 다시 발동 (지정가 알람 전용)
+    REARM;
+
+    public static AlertTriggerMode from(String value) {
+        if (value == null || value.isBlank()) return REPEAT;
+        return valueOf(value.trim().toUpperCase());
+    }
+}
@@ -25,6 +25,10 @@ public class TargetPriceEntity {
     @Column(name = "percentage", nullable = false)
     private Integer percentage;
 
+    // REARM 모드: 발동 후 목표가 대비 이 비율(%)만큼 되돌아오면 재무장
+    @Column(name = "rearm_percentage", precision = 5, scale = 2)
+    private BigDecimal rearmPercentage;
+
     @Column(name = "reg_dt", nullable = false, updatable = false)
     private Instant regDt;
 
@@ -36,10 +40,11 @@ public class TargetPriceEntity {
     private AlertEntity alert;
 
     @Builder
-    public TargetPriceEntity(Long id, BigDecimal price, Integer percentage, Instant regDt, Instant chgDt, AlertEntity alert) {
+    public TargetPriceEntity(Long id, BigDecimal price, Integer percentage, BigDecimal rearmPercentage, Instant regDt, Instant chgDt, AlertEntity alert) {
         this.id = id;
         this.price = price;
         this.percentage = percentage;
+        this.rearmPercentage = rearmPercentage;
         this.regDt = regDt;
         this.chgDt = chgDt;
         this.alert = alert;
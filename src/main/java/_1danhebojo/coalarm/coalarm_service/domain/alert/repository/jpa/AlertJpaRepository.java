@@ -10,6 +10,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,9 +41,31 @@ public interface AlertJpaRepository extends JpaRepository<AlertEntity, Long> {
             "LEFT JOIN FETCH a.targetPrice " +
             "LEFT JOIN FETCH a.goldenCross " +
             "LEFT JOIN FETCH a.volumeSpike " +
-            "WHERE a.active = true")
+            "WHERE a.active = true " +
+            "AND (a.expireDt IS NULL OR a.expireDt > CURRENT_TIMESTAMP)")
     List<AlertEntity> findAllActiveAlerts();
 
+    // 발동 완료(ONCE) 알람 비활성화 (벌크 업데이트라 chgDt 직접 갱신)
+    @Modifying
+    @Query("UPDATE AlertEntity a SET a.active = false, a.chgDt = :now WHERE a.id IN :alertIds AND a.active = true")
+    int deactivateAlerts(@Param("alertIds") Collection<Long> alertIds, @Param("now") Instant now);
+
+    // 만료된 알람 비활성화
+    @Modifying
+    @Query("UPDATE AlertEntity a SET a.active = false, a.chgDt = :now WHERE a.active = true AND a.expireDt <= :now")
+    int deactivateExpiredAlerts(@Param("now") Instant now);
+
+    // 특정 시점 이후 등록/수정된 알람 조회 (비활성 포함)
+    @Query("SELECT a " +
+            "FROM AlertEntity a " +
+            "JOIN FETCH a.coin c " +
+            "JOIN FETCH a.user u " +
+            "LEFT JOIN FETCH a.targetPrice " +
+            "LEFT JOIN FETCH a.goldenCross " +
+            "LEFT JOIN FETCH a.volumeSpike " +
+            "WHERE a.regDt >= :since OR a.chgDt >= :since")
+    List<AlertEntity> findAlertsChangedSince(@Param("since") Instant since);
+
     @Modifying
     @Query("DELETE FROM AlertEntity a WHERE a.user.id = :userId")
     void deleteAlertByUserId(Long userId);
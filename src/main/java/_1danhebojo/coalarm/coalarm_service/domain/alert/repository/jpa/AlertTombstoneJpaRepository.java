@@ -0,0 +1,20 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.repository.jpa;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertTombstoneEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface AlertTombstoneJpaRepository extends JpaRepository<AlertTombstoneEntity, Long> {
+    List<AlertTombstoneEntity> findByRegDtGreaterThanEqual(Instant since);
+
+    @Modifying
+    @Query("DELETE FROM AlertTombstoneEntity t WHERE t.regDt < :before")
+    void deleteByRegDtBefore(@Param("before") Instant before);
+}
@@ -1,21 +1,31 @@
 package _1danhebojo.coalarm.coalarm_service.domain.alert.service;
 
 import _1danhebojo.coalarm.coalarm_service.domain.alert.controller.response.AlertSSEResponse;
-import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.AlertHistoryRepository;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.AlertRepository;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.AlertSSERepository;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertTombstoneEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.GoldenCrossEntity;
-import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.TargetPriceEntity;
-import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.TickerEntity;
-import _1danhebojo.coalarm.coalarm_service.domain.user.repository.entity.UserEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery.AlertDeactivationWriter;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery.AlertHistoryWriter;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery.DiscordAlertChannel;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery.AlertOutbox;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine.AlertCooldownTracker;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine.AlertExpiryTracker;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine.AlertFiredEvent;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine.MovingAverageCache;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine.TargetPriceIndex;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit.UpbitTickerStream;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.LatestTickerEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.TickerSnapshotCache;
+import _1danhebojo.coalarm.coalarm_service.global.properties.AlarmProperties;
+import _1danhebojo.coalarm.coalarm_service.global.sse.SseBroadcaster;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,34 +33,42 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
-import java.io.IOException;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AlertSSEService {
-    private final AlertHistoryService alertHistoryService;
     private final AlertRepository alertRepository;
-    private final AlertHistoryRepository alertHistoryRepository;
     private final AlertSSERepository alertSSERepository;
-    private final DiscordService discordService;
+    private final DiscordAlertChannel discordAlertChannel;
+    private final TargetPriceIndex targetPriceIndex;
+    private final AlertCooldownTracker alertCooldownTracker;
+    private final AlertExpiryTracker alertExpiryTracker;
+    private final AlertOutbox alertOutbox;
+    private final AlertHistoryWriter alertHistoryWriter;
+    private final AlertDeactivationWriter alertDeactivationWriter;
+    private final MovingAverageCache movingAverageCache;
+    private final UpbitTickerStream upbitTickerStream;
+    private final TickerSnapshotCache tickerSnapshotCache;
+    private final AlarmProperties alarmProperties;
+    private final SseBroadcaster sseBroadcaster;
     private final RestTemplate restTemplate = new RestTemplate();
     private final ObjectMapper objectMapper = new ObjectMapper();
+    // 변경분 조회 시 트랜잭션 커밋 지연을 고려한 워터마크 겹침 구간
+    private static final long SYNC_OVERLAP_MILLIS = 5000;
+    private static final String ALERT_TOPIC_PREFIX = "alert:";
+    private static final String KRW_QUOTE_SYMBOL = "KRW";
     private final String UPBIT_MARKET_URL = "https://api.upbit.com/v1/market/all?is_details=true"; // 예제 URL
 
     private final Map<Boolean, List<String>> volumeDatas = new HashMap<>();
-    private final Map<Long, List<SseEmitter>> userEmitters = new ConcurrentHashMap<>();
     private final Map<Long, List<AlertEntity>> activeAlertList = new ConcurrentHashMap<>();
-    private final Map<Long, Queue<AlertEntity>> userAlertQueue = new ConcurrentHashMap<>();
+    private volatile Instant lastSyncedAt;
+    private volatile Instant lastFullSyncedAt;
 
     // 서버 시작 시 자동 실행 → 업비트에서 초기 데이터 가져오기
     @PostConstruct
@@ -58,6 +76,9 @@ public class AlertSSEService {
     public void init() {
         updateTradingVolumeData();
         getActiveAlertsGroupedByUser();
+
+        // 업비트 ticker 스트림 가격 수신 시 바로 알람 평가
+        upbitTickerStream.addListener(this::onPriceUpdate);
     }
 
     // <editor-fold desc="스케줄러 관련">
@@ -67,22 +88,28 @@ public class AlertSSEService {
         updateTradingVolumeData();
     }
 
-    //3초마다 큐에 있는값을 전송
+    //3초마다 대기함에 있는 알람을 사용자별 최대 sendBurstSize 개씩 전송
     @Scheduled(fixedRateString = "#{@alarmProperties.sendQueueInterval}")
-    @Transactional(readOnly = true)
     public void sendAlertsSequentially() {
-        userAlertQueue.forEach((userId, queue) -> {
-            if (!queue.isEmpty()) {
-                AlertEntity alert = queue.poll();
-                sendAlertToUserSSE(userId, alert);
+        int burstSize = Math.max(1, alarmProperties.getSendBurstSize());
+
+        for (Long userId : new ArrayList<>(alertOutbox.userIds())) {
+            List<AlertEntity> alerts = alertOutbox.drain(userId, burstSize);
+            if (!alerts.isEmpty()) {
+                sendAlertsToUserSSE(userId, alerts);
             }
-        });
+        }
     }
 
-    // 중간중간 전체 알람 상태 재로딩
+    // 중간중간 알람 상태 동기화 (평소에는 변경분만, refreshFull 주기마다 전체 재로딩)
     @Scheduled(fixedRateString = "#{@alarmProperties.refreshActive}") // 3분마다 실행
     @Transactional(readOnly = true)
     public void refreshActiveAlerts() {
+        if (alarmProperties.isDeltaRefresh() && lastSyncedAt != null && !isFullRefreshDue()) {
+            syncChangedAlerts();
+            return;
+        }
+
         log.info("전체 알람 상태 재로딩 시작");
         getActiveAlertsGroupedByUser();
     }
@@ -90,71 +117,11 @@ public class AlertSSEService {
     // SSE 연결 유지를 위한 heartbeat 이벤트 주기적 전송
     @Scheduled(fixedRateString = "#{@alarmProperties.sendHeartClient}") // 15초마다 실행
     public void sendHeartbeatToClients() {
-        for (Map.Entry<Long, List<SseEmitter>> entry : userEmitters.entrySet()) {
-            List<SseEmitter> failedEmitters = new ArrayList<>();
-            Long userId = entry.getKey();
-            List<SseEmitter> emitters = entry.getValue();
-
-            if (emitters != null && !Objects.requireNonNull(emitters).isEmpty()) {
-                for (SseEmitter emitter : emitters) {
-                    try {
-                        emitter.send(SseEmitter.event()
-                                .name("heartbeat")
-                                .data("keep-alive")); // 클라이언트에선 로그로만 찍어도 OK
-                    } catch (IOException e) {
-                        failedEmitters.add(emitter);
-                    }
-                }
-            }
-
-            for (SseEmitter failed : failedEmitters) {
-                removeSingleEmitter(userId, failed);
-            }
-        }
-    }
-
-    // 특정 시간마다 디스코드 알림 전송
-    @Scheduled(fixedRateString = "#{@alarmProperties.sendDiscordInterval}")
-    public void discordScheduler() {
-        log.info("디스코드 알림 전송 시작");
-        // 조건에 맞는 알람만 필터링 (지정가 or 골든크로스)
-        Map<Long, List<AlertEntity>> filteredAlerts = activeAlertList.entrySet()
-                .stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().stream()
-                                .filter(alert -> alert.getIsTargetPrice() || alert.getIsGoldenCross())
-                                .collect(Collectors.toList())
-                ));
-
-        // 전체 심볼 수집 → 가격 데이터 로딩
-        List<String> allSymbols = allSymbols(filteredAlerts);
-
-        // 티커 정보 조회
-        List<TickerEntity> tickerList = alertRepository.findLatestTickersBySymbolList(allSymbols);
-
-        // 유저별 조건 체크 및 디스코드 전송
-        filteredAlerts.forEach((userId, alertList) -> {
-            List<AlertEntity> triggeredAlerts = new ArrayList<>();
-
-            for (AlertEntity alert : alertList) {
-                String symbol = alert.getCoin().getSymbol();
-
-                TickerEntity ticker = tickerList.stream()
-                        .filter(t -> t.getId().getBaseSymbol().equals(symbol))
-                        .findFirst()
-                        .orElse(null);
-
-                if (ticker != null && isPriceReached(alert, ticker)) {
-                    triggeredAlerts.add(alert);
-                }
-            }
+        List<String> alertTopics = sseBroadcaster.getTopics().stream()
+                .filter(topic -> topic.startsWith(ALERT_TOPIC_PREFIX))
+                .toList();
 
-            if (!triggeredAlerts.isEmpty()) {
-                sendAlertListToUserDiscord(userId, triggeredAlerts);
-            }
-        });
-        log.info("디스코드 알림 종료");
+        sseBroadcaster.publishAll(alertTopics, "heartbeat", "keep-alive"); // 클라이언트에선 로그로만 찍어도 OK
     }
 
     // 특정 시간마다 긁어와서 queue에 추가
@@ -169,175 +136,282 @@ public class AlertSSEService {
     }
     // </editor-fold">
 
-    // 특정 시간마다 가격 비교해서 보낼 알람 체크 (티커 체크 + 히스토리 체크 + 조건 도달 체크)
+    // 특정 시간마다 가격 비교해서 보낼 알람 체크 (티커 체크 + 조건 도달 체크 → 채널별 전달)
+    // 한 번의 평가 결과를 SSE / 디스코드 채널이 함께 사용한다.
     public void checkUserAlert(){
-        // 티커 테이블에서 코인의 최신 값을 한번에 불러와서 조회 후 비교
+        // 만료된 쿨다운 정리 + 만료 시각이 지난 알람 비활성화
+        alertCooldownTracker.purgeExpired();
+        expireAlerts();
+
+        // 코인의 최신 가격을 한번에 불러와서 조회 후 비교
         List<String> allSymbols = allSymbols(activeAlertList);
-        List<TickerEntity> tickerList = alertRepository.findLatestTickersBySymbolList(allSymbols);
-
-        // 최근 알람 히스토리를 한 번에 조회
-        LocalDateTime minutesAgo = LocalDateTime.now().minusSeconds(30);
-        List<Long> recentAlertIds = alertHistoryRepository.findRecentHistories(minutesAgo);
-        Set<Long> recentAlertIdSet = new HashSet<>(recentAlertIds);
-
-        // SSE 알람 전송
-        for (Long userId : userEmitters.keySet()) {
-            List<AlertEntity> activeAlerts = new ArrayList<>(activeAlertList.getOrDefault(userId, Collections.emptyList()));
-
-            // 유효성 추가
-            if (activeAlerts == null || activeAlerts.isEmpty()) continue;
-
-            // 활성화된 알람 SSE로 보내기
-            for (AlertEntity alert : activeAlerts) {
-                String symbol = alert.getCoin().getSymbol();
-
-                TickerEntity ticker = tickerList.stream()
-                        .filter(t -> t.getId().getBaseSymbol().equals(symbol))
-                        .findFirst()
-                        .orElse(null);
-                if (ticker != null) {
-                    // 알람 도달 조건 체크
-                    if (isPriceReached(alert, ticker)) {
-                        // 알람 히스토리 존재 여부 체크
-                        if (!recentAlertIdSet.contains(alert.getId())){
-                            insertUserAlertQueue(userId, alert);
-                        }
-                    }
+        Map<String, BigDecimal> priceMap = loadLatestPrices(allSymbols);
+
+        // 지정가 알람: 스트림 수신 중이면 가격 갱신 시점에 이미 평가됨 → 폴링일 때만 평가
+        if (!isStreaming()) {
+            priceMap.forEach(this::evaluateTargetPrice);
+        }
+
+        // 골든 크로스 알람: 전체 활성 알람 대상 (심볼별 이동평균 캐시 조회)
+        Instant now = Instant.now();
+        for (List<AlertEntity> alertList : activeAlertList.values()) {
+            for (AlertEntity alert : alertList) {
+                if (!alert.getIsGoldenCross() || alert.isExpired(now)) continue;
+
+                if (priceMap.containsKey(alert.getCoin().getSymbol()) && checkGoldenCross(alert)) {
+                    publishFired(new AlertFiredEvent(alert, now));
                 }
             }
         }
     }
 
-    // 사용자에게 보낼 알람 Queue에 추가
-    public void insertUserAlertQueue(Long userId, AlertEntity alert) {
-        Queue<AlertEntity> queue = userAlertQueue.computeIfAbsent(userId, k -> new ConcurrentLinkedQueue<>());
+    // 업비트 ticker 스트림으로 가격이 들어올 때마다 지정가 알람 평가
+    public void onPriceUpdate(String symbol, BigDecimal price) {
+        if (alarmProperties.isPollingEvaluation()) return;
 
-        // 이미 보냈던 애를 중복처리
-        boolean alreadyQueued = queue.stream()
-                .anyMatch(a -> a.getId().equals(alert.getId()));
-        if (!alreadyQueued) {
-            queue.add(alert);
+        try {
+            movingAverageCache.onPrice(symbol, price, Instant.now());
+            evaluateTargetPrice(symbol, price);
+        } catch (Exception e) {
+            log.error("{} 가격 갱신 알람 평가 중 에러 발생", symbol, e);
         }
     }
 
-    // 로그인한 사용자가 실행 SSE 전송 요청
-    public SseEmitter subscribe(Long userId) {
-        if(userId == null) { return null;}
-        // 이미 존재하는 emitter가 있으면 재사용
-        List<SseEmitter> existingEmitters = userEmitters.get(userId);
-        if (existingEmitters != null && !Objects.requireNonNull(existingEmitters).isEmpty()) {
-            // 살아있는 emitter만 필터링
-            List<SseEmitter> failedEmitters = new ArrayList<>();
-
-            for (SseEmitter emitter : existingEmitters) {
-                try {
-                    emitter.send(SseEmitter.event().name("ping").data("alive-check"));
-                    return emitter;
-                } catch (IOException e) {
-                    failedEmitters.add(emitter);
-                }
+    // 지정가 알람: 직전 가격과 현재 가격 사이에서 목표가를 지난 알람만 평가
+    // 어느 채널로도 전달하지 못한 알람(미접속, 쿨다운 등)은 사용자별로 보류했다가 접속 시 한 번 다시 확인 (매 가격마다 재평가하지 않음)
+    private void evaluateTargetPrice(String symbol, BigDecimal price) {
+        Instant now = Instant.now();
+        for (AlertEntity alert : targetPriceIndex.onPrice(symbol, price)) {
+            if (alert.isExpired(now)) continue;
+            if (!publishFired(new AlertFiredEvent(alert, now))) {
+                targetPriceIndex.park(alert);
             }
+        }
+    }
+
+    // 접속한 사용자의 보류 알람 중 지금도 목표가를 넘어선 알람만 전달 (이번에도 전달하지 못하면 다음 교차를 기다림)
+    private void redeliverParkedAlerts(Long userId) {
+        Instant now = Instant.now();
+        for (AlertEntity alert : targetPriceIndex.unpark(userId)) {
+            if (alert.isExpired(now)) continue;
+            publishFired(new AlertFiredEvent(alert, now));
+        }
+    }
+
+    // 발동 알람을 채널별로 전달 (하나라도 받으면 발동 처리)
+    private boolean publishFired(AlertFiredEvent event) {
+        boolean deliveredToSse = deliverToSse(event);
+        boolean deliveredToDiscord = discordAlertChannel.accept(event);
+
+        if (deliveredToSse || deliveredToDiscord) {
+            onAlertFired(event.alert());
+            return true;
+        }
+        return false;
+    }
+
+    // SSE 채널: 접속 중인 사용자 + 쿨다운 아닌 알람만 대기함에 추가
+    private boolean deliverToSse(AlertFiredEvent event) {
+        Long userId = event.userId();
+        AlertEntity alert = event.alert();
+        if (!sseBroadcaster.hasSubscribers(alertTopic(userId)) || alertCooldownTracker.isCoolingDown(alert.getId())) return false;
+
+        insertUserAlertQueue(userId, alert);
+        return true;
+    }
 
-            for (SseEmitter failed : failedEmitters) {
-                removeSingleEmitter(userId, failed);
+    // 발동 후 처리: ONCE 는 평가 대상에서 즉시 제거 후 DB 비활성화는 전용 스레드에 위임, REARM 은 재무장 대기로 전환
+    private void onAlertFired(AlertEntity alert) {
+        switch (alert.getTriggerMode()) {
+            case ONCE -> {
+                deleteEmitter(alert.getUser().getId(), alert);
+                alert.setActive(false);
+                alertDeactivationWriter.enqueue(alert.getId());
             }
+            case REARM -> targetPriceIndex.disarm(alert);
+            default -> {}
         }
+    }
 
-        // 새 emitter 생성
-        SseEmitter emitter = new SseEmitter(0L);
-        userEmitters.computeIfAbsent(userId, k -> new ArrayList<>()).add(emitter);
+    // 만료 시각이 지난 알람을 평가 대상에서 제거하고 DB 에서도 비활성화
+    private void expireAlerts() {
+        Instant now = Instant.now();
+        List<AlertEntity> expiredAlerts = alertExpiryTracker.pollExpired(now);
+        if (expiredAlerts.isEmpty()) return;
 
-        // emitter 정리 로직
-        emitter.onCompletion(() -> removeEmitter(userId));
-        emitter.onTimeout(() -> removeEmitter(userId));
-        emitter.onError((e) -> removeEmitter(userId));
+        for (AlertEntity alert : expiredAlerts) {
+            deleteEmitter(alert.getUser().getId(), alert);
+        }
+        alertRepository.deactivateExpiredAlerts(now);
+        log.info("만료된 알람 {}건 비활성화", expiredAlerts.size());
+    }
 
+    // 사용자에게 보낼 알람 대기함에 추가 (이미 대기 중인 알람은 무시)
+    public void insertUserAlertQueue(Long userId, AlertEntity alert) {
+        alertOutbox.offer(userId, alert);
+    }
+
+    // 로그인한 사용자가 실행 SSE 전송 요청
+    // 연결마다 새 emitter 를 만들고, 정리(완료/타임아웃/오류)는 브로드캐스터가 처리
+    // 사용자의 마지막 연결이 끊기면 보낼 곳이 없으므로 발송 대기함도 비운다
+    public SseEmitter subscribe(Long userId) {
+        if(userId == null) { return null;}
+        String topic = alertTopic(userId);
+        SseEmitter emitter = sseBroadcaster.subscribe(topic, () -> {
+            if (!sseBroadcaster.hasSubscribers(topic)) {
+                alertOutbox.clear(userId);
+            }
+        });
+
+        try {
+            redeliverParkedAlerts(userId);
+        } catch (Exception e) {
+            log.error("보류 알람 재전달 중 에러 발생. userId: {}", userId, e);
+        }
         return emitter;
     }
 
     // 전체 활성화된 사용자의 알람 저장
     @Transactional(readOnly = true)
     public void getActiveAlertsGroupedByUser() {
+        Instant syncStartedAt = Instant.now();
+        // 조회하는 동안 추가/제거된 지정가 알람은 재구성 후 다시 반영
+        targetPriceIndex.beginRebuild();
         List<AlertEntity> activeAlerts = alertRepository.findAllActiveAlerts();
 
         // userId를 key로, List<Alert>을 value로 하는 Map 생성
-        activeAlertList.clear(); // 기존 데이터 삭제
-        activeAlertList.putAll(
-                activeAlerts.stream()
-                        .collect(Collectors.groupingBy(alert -> alert.getUser().getId()))
-        );
-    }
+        Map<Long, List<AlertEntity>> grouped = activeAlerts.stream()
+                .collect(Collectors.groupingBy(alert -> alert.getUser().getId(),
+                        Collectors.toCollection(CopyOnWriteArrayList::new)));
 
-    // 알람을 보낸 뒤 히스토리 저장 (해당 함수의 경우 비동기로 전송)
-    @Async
-    public void saveAlertHistoryAsync(Long alertId, Long userId) {
-        alertHistoryService.addAlertHistory(alertId, userId);
+        // 비우고 다시 채우면 그 사이 조회가 빈 목록을 보게 되므로 사용자 단위로 교체
+        activeAlertList.putAll(grouped);
+        activeAlertList.keySet().retainAll(grouped.keySet());
+
+        // 지정가 알람 교차 인덱스 / 만료 추적 재구성
+        targetPriceIndex.rebuild(activeAlerts);
+        alertExpiryTracker.reset(activeAlerts);
+
+        // 골든 크로스 알람이 없는 심볼은 이동평균 캐시에서 제거
+        movingAverageCache.retainSymbols(activeAlerts.stream()
+                .filter(AlertEntity::getIsGoldenCross)
+                .map(alert -> alert.getCoin().getSymbol())
+                .collect(Collectors.toSet()));
+
+        // 활성 알람이 걸린 심볼만 ticker 스트림 구독 (폴링 모드에서는 구독하지 않음)
+        if (!alarmProperties.isPollingEvaluation()) {
+            upbitTickerStream.updateSymbols(allSymbols(activeAlertList));
+        }
+
+        lastSyncedAt = syncStartedAt;
+        lastFullSyncedAt = syncStartedAt;
+
+        // 모든 인스턴스가 전체 재로딩을 한 번 이상 거쳤을 만큼 오래된 삭제 기록 정리
+        try {
+            alertRepository.deleteTombstonesBefore(syncStartedAt.minusMillis(alarmProperties.getRefreshFull() * 2));
+        } catch (Exception e) {
+            log.warn("삭제된 알람 기록 정리 실패: {}", e.getMessage());
+        }
     }
 
-    // 사용자의 기존 알람 SSE 전송
-    @Transactional
-    public void sendAlertToUserSSE(Long userId, AlertEntity alert) {
-        List<SseEmitter> emitters = userEmitters.get(userId);
-
-        if (emitters != null && !Objects.requireNonNull(emitters).isEmpty()) {
-            AlertSSEResponse response = new AlertSSEResponse(alert);
-            List<SseEmitter> failedEmitters = new ArrayList<>();
-
-            for (SseEmitter emitter : emitters) {
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name("alert")
-                            .data(response));
-                } catch (Exception e) {
-                    // 예외가 발생한 Emitter는 제거할 목록에 추가
-                    failedEmitters.add(emitter);
-                }
+    // 마지막 동기화 이후 등록/수정/삭제된 알람만 메모리에 반영
+    @Transactional(readOnly = true)
+    public void syncChangedAlerts() {
+        Instant syncStartedAt = Instant.now();
+        Instant since = lastSyncedAt.minusMillis(SYNC_OVERLAP_MILLIS);
+
+        List<AlertEntity> changedAlerts = alertRepository.findAlertsChangedSince(since);
+        List<AlertTombstoneEntity> tombstones = alertRepository.findTombstonesSince(since);
+
+        for (AlertEntity alert : changedAlerts) {
+            if (Boolean.TRUE.equals(alert.getActive())) {
+                upsertActiveAlert(alert);
+            } else {
+                removeActiveAlert(alert.getUser().getId(), alert.getId());
             }
+        }
+        for (AlertTombstoneEntity tombstone : tombstones) {
+            removeActiveAlert(tombstone.getUserId(), tombstone.getAlertId());
+        }
 
-            for (SseEmitter failed : failedEmitters) {
-                removeSingleEmitter(userId, failed);
-            }
+        lastSyncedAt = syncStartedAt;
+        if (!changedAlerts.isEmpty() || !tombstones.isEmpty()) {
+            log.info("알람 변경분 동기화: 변경 {}건, 삭제 {}건", changedAlerts.size(), tombstones.size());
         }
+    }
+
+    // 변경된 활성 알람 반영 (같은 id가 있으면 교체)
+    private void upsertActiveAlert(AlertEntity alert) {
+        Long userId = alert.getUser().getId();
+        List<AlertEntity> alerts = activeAlertList.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>());
+        alerts.removeIf(a -> a.getId().equals(alert.getId()));
+        alerts.add(alert);
+
+        targetPriceIndex.add(alert);
+        alertExpiryTracker.track(alert);
+        subscribeTicker(alert);
+    }
+
+    // 비활성화/삭제된 알람 제거
+    private void removeActiveAlert(Long userId, Long alertId) {
+        List<AlertEntity> alerts = activeAlertList.get(userId);
+        if (alerts == null) return;
+
+        alerts.stream()
+                .filter(a -> a.getId().equals(alertId))
+                .findFirst()
+                .ifPresent(alert -> deleteEmitter(userId, alert));
+    }
 
-        // 알람 히스토리 저장
-        saveAlertHistoryAsync(alert.getId(), userId);
+    private boolean isFullRefreshDue() {
+        Instant lastFull = lastFullSyncedAt;
+        return lastFull == null
+                || Instant.now().isAfter(lastFull.plusMillis(alarmProperties.getRefreshFull()));
     }
 
-    // 단일 알람 디스코드 전송
-    public void sendAlertToUserDiscord(Long userId, AlertEntity alert) {
-        if (alert == null || alert.getUser() == null || alert.getUser().getDiscordWebhook() == null) return;
+    // 알람을 보낸 뒤 히스토리 저장 (버퍼에 모아서 일괄 저장)
+    public void saveAlertHistoryAsync(Long alertId, Long userId) {
+        alertHistoryWriter.enqueue(alertId, userId);
+    }
 
-        List<Map<String, Object>> embeds = List.of(discordService.buildEmbedMapFromAlert(alert));
-        discordService.sendDiscordEmbed(alert.getUser().getDiscordWebhook(), embeds);
+    // 사용자의 기존 알람 SSE 전송
+    public void sendAlertToUserSSE(Long userId, AlertEntity alert) {
+        sendAlertsToUserSSE(userId, List.of(alert));
     }
 
-    // 리스트 알람 디스코드 전송
-    public void sendAlertListToUserDiscord(Long userId, List<AlertEntity> alerts) {
-        if (alerts.isEmpty()) return;
+    // 여러 알람 SSE 전송 (coalesceBatch 면 alert-batch 이벤트 하나로 묶어서 전송)
+    public void sendAlertsToUserSSE(Long userId, List<AlertEntity> alerts) {
+        String topic = alertTopic(userId);
 
-        AlertEntity firstAlert = alerts.get(0);
-        UserEntity user = firstAlert.getUser();
-        if (user == null || user.getDiscordWebhook() == null || user.getDiscordWebhook().isEmpty()) return;
+        if (sseBroadcaster.hasSubscribers(topic)) {
+            List<AlertSSEResponse> responses = alerts.stream()
+                    .map(AlertSSEResponse::new)
+                    .toList();
 
-        List<Map<String, Object>> embeds = alerts.stream()
-                .map(discordService::buildEmbedMapFromAlert)
-                .collect(Collectors.toList());
+            if (responses.size() > 1 && alarmProperties.isCoalesceBatch()) {
+                sseBroadcaster.publish(topic, "alert-batch", responses);
+            } else {
+                for (AlertSSEResponse response : responses) {
+                    sseBroadcaster.publish(topic, "alert", response);
+                }
+            }
+        }
 
-        discordService.sendDiscordEmbed(user.getDiscordWebhook(), embeds);
+        // 쿨다운 기록 + 알람 히스토리 저장
+        for (AlertEntity alert : alerts) {
+            alertCooldownTracker.recordFire(alert);
+            saveAlertHistoryAsync(alert.getId(), userId);
+        }
     }
 
     // 새로운 알람 추가
     public void addEmitter(Long userId, AlertEntity alert) {
-        SseEmitter emitter = new SseEmitter(0L);
-        // 내부 동작
-        userEmitters.computeIfAbsent(userId, k -> Collections.synchronizedList(new ArrayList<>())).add(emitter);
-        activeAlertList.computeIfAbsent(userId, k -> Collections.synchronizedList(new ArrayList<>())).add(alert);
+        activeAlertList.computeIfAbsent(userId, k -> new CopyOnWriteArrayList<>()).add(alert);
+        targetPriceIndex.add(alert);
+        alertExpiryTracker.track(alert);
+        subscribeTicker(alert);
 
-        emitter.onCompletion(() -> removeEmitter(userId));
-        emitter.onTimeout(() -> removeEmitter(userId));
-        emitter.onError((e) -> removeEmitter(userId));
-
-        log.info("📢 사용자 " + userId + " 에 대한 새로운 SSE 구독 추가됨. 활성화된 알람 개수: " + activeAlertList.get(userId).size());
+        log.info("📢 사용자 " + userId + " 에 대한 새로운 알람 추가됨. 활성화된 알람 개수: " + activeAlertList.get(userId).size());
     }
 
     // SSE 알람 제거
@@ -347,6 +421,8 @@ public class AlertSSEService {
             alerts.removeIf(a -> a.getId().equals(alert.getId())); // ✅ alertId가 동일한 경우만 삭제
             return alerts.isEmpty() ? null : alerts; // 리스트가 비면 null 반환해서 Map에서 삭제
         });
+        targetPriceIndex.remove(alert);
+        alertExpiryTracker.untrack(alert.getId());
 
         log.info("사용자 " + userId + " 의 알람 제거됨. 남은 알람 개수: "
                 + (activeAlertList.containsKey(userId) ? activeAlertList.get(userId).size() : 0));
@@ -354,35 +430,10 @@ public class AlertSSEService {
 
     // SSE 구독 취소
     public void removeEmitter(Long userId) {
-        List<SseEmitter> emitters = userEmitters.remove(userId); // 해당 userId의 모든 SSE 제거
-
-        if (emitters != null && !Objects.requireNonNull(emitters).isEmpty()) {
-            for (SseEmitter emitter : emitters) {
-                try {
-                    emitter.complete(); // 안전하게 종료
-                } catch (Exception e) {
-                    log.warn("emitter 종료 중 예외 발생: {}", e.getMessage());
-                }
-            }
-        }
+        sseBroadcaster.complete(alertTopic(userId)); // 해당 userId의 모든 SSE 제거
         log.info("사용자 " + userId + " 의 모든 SSE 구독 취소 완료");
     }
 
-    // userEmitters에서 사용자 제거
-    public void removeSingleEmitter(Long userId, SseEmitter emitter) {
-        List<SseEmitter> emitters = userEmitters.get(userId);
-        if (emitters != null && !Objects.requireNonNull(emitters).isEmpty()) {
-            emitters.remove(emitter);
-            try {
-                emitter.complete();
-            } catch (Exception ignored) {}
-
-            if (emitters.isEmpty()) {
-                userEmitters.remove(userId);
-            }
-        }
-    }
-
     // 닉네임 변경 시 알람 정보에 업데이트
     public void updateUserNicknameInAlerts(Long userId, String newNickname) {
         // 1. activeAlertList 내 수정
@@ -395,13 +446,10 @@ public class AlertSSEService {
             }
         }
 
-        // 2. userAlertQueue 내 수정
-        Queue<AlertEntity> alertQueue = userAlertQueue.get(userId);
-        if (alertQueue != null) {
-            for (AlertEntity alert : alertQueue) {
-                if (alert.getUser() != null) {
-                    alert.getUser().updateNickname(newNickname);
-                }
+        // 2. 발송 대기함 내 수정
+        for (AlertEntity alert : alertOutbox.pending(userId)) {
+            if (alert.getUser() != null) {
+                alert.getUser().updateNickname(newNickname);
             }
         }
     }
@@ -418,127 +466,28 @@ public class AlertSSEService {
             }
         }
 
-        // 2. userAlertQueue 내 수정
-        Queue<AlertEntity> alertQueue = userAlertQueue.get(userId);
-        if (alertQueue != null) {
-            for (AlertEntity alert : alertQueue) {
-                if (alert.getUser() != null) {
-                    alert.getUser().updateDiscordWebhook(newWebhook);
-                }
+        // 2. 발송 대기함 내 수정
+        for (AlertEntity alert : alertOutbox.pending(userId)) {
+            if (alert.getUser() != null) {
+                alert.getUser().updateDiscordWebhook(newWebhook);
             }
         }
-    }
-
-    // 알람 설정에 도달했는지 체크
-    private boolean isPriceReached(AlertEntity alert, TickerEntity ticker) {
-        // 가격 지정가 알람 확인
-        if (alert.getIsTargetPrice()) {
-            return checkTargetPrice(alert, ticker);
-        }
 
-        // 골든 크로스 알람 확인
-        else if (alert.getIsGoldenCross()) {
-            return checkGoldenCross(alert, ticker);
-        }
-
-        return false;
+        // 3. 디스코드 전송 대기 알람 수정
+        discordAlertChannel.updateWebhook(userId, newWebhook);
     }
 
-    // 지정가 체크
-    private boolean checkTargetPrice(AlertEntity alert, TickerEntity tickerEntity) {
-        TargetPriceEntity targetPrice = alert.getTargetPrice();
-        if (targetPrice == null || tickerEntity == null) return false;
-
-        BigDecimal targetPriceValue = targetPrice.getPrice();
-        int percent = targetPrice.getPercentage();
-        BigDecimal lastPrice = tickerEntity.getLast(); // ticker에서 최신 가격 가져오기
-
-        if (lastPrice == null) return false;
-
-        boolean targetPriceReached = false;
-
-        // 퍼센트가 양수면 상승 → 가격이 목표 이상이면 도달
-        if (percent > 0) {
-            if (lastPrice.compareTo(targetPriceValue) >= 0) {
-                targetPriceReached = true;
-            }
-        }
-
-        // 퍼센트가 음수면 하락 → 가격이 목표 이하이면 도달
-        else if (percent < 0) {
-            // lastPrice > targetPriceValue : 1
-            if (lastPrice.compareTo(targetPriceValue) <= 0) {
-                targetPriceReached = true;
-            }
-        }
-
-        return targetPriceReached;
-    }
-
-    // 골든 크로스 가격 비교
-    private boolean checkGoldenCross(AlertEntity alert, TickerEntity tickerEntity) {
+    // 골든 크로스 체크 (심볼별 이동평균 캐시 조회)
+    private boolean checkGoldenCross(AlertEntity alert) {
         GoldenCrossEntity goldenCross = alert.getGoldenCross();
 
         if (goldenCross == null) return false;
 
-        Instant startDate = Instant.now().minusSeconds(20 * 86400); // 최근 20일 데이터 조회
-        String baseSymbol = alert.getCoin().getSymbol();
-
-        List<TickerEntity> tickers = alertSSERepository.findBySymbolAndDateRangeAndExchange(baseSymbol, startDate, "upbit", "KRW");
-
-        if (tickers.size() < 20) {
-            return false; // 20일치 데이터가 부족하면 계산 불가능
-        }
-
-        // 날짜별 종가 평균을 계산
-        Map<LocalDate, BigDecimal> dailyAverages = calculateDailyAverages(tickers);
-
-        //최근 7일 데이터 조회
-        List<BigDecimal> last7Days = dailyAverages.values().stream()
-                .skip(Math.max(0, dailyAverages.size() - 7)) // 최근 7일만 가져옴
-                .collect(Collectors.toList());
-
-        // 최근 20일 데이터 조회
-        List<BigDecimal> last20Days = new ArrayList<>(dailyAverages.values()); // 최근 20일 데이터
-
-        // 단기(7일) 이동평균 계산
-        BigDecimal shortMA = calculateMovingAverage(last7Days);
-
-        // 장기(20일) 이동평균 계산
-        BigDecimal longMA = calculateMovingAverage(last20Days);
-
-        // 골든 크로스 발생 여부 (단기 > 장기)
-        return shortMA.compareTo(longMA) > 0;
-    }
-
-    // 이동 평균 계산
-    private BigDecimal calculateMovingAverage(List<BigDecimal> tickers) {
-        if (tickers.isEmpty()) return BigDecimal.ZERO;
-
-        BigDecimal sum = tickers.stream()
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        return sum.divide(BigDecimal.valueOf(tickers.size()), 2, RoundingMode.HALF_UP);
-    }
-
-    // 날짜별 종가 계산
-    private Map<LocalDate, BigDecimal> calculateDailyAverages(List<TickerEntity> tickers) {
-        Map<LocalDate, List<BigDecimal>> dailyPrices = new HashMap<>();
-
-        for (TickerEntity ticker : tickers) {
-            LocalDate date = Instant.ofEpochMilli(ticker.getId().getTimestamp().toEpochMilli())
-                    .atZone(ZoneId.systemDefault()).toLocalDate();
-
-            dailyPrices.computeIfAbsent(date, k -> new ArrayList<>()).add(ticker.getClose());
-        }
-
-        return dailyPrices.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().stream()
-                                .reduce(BigDecimal.ZERO, BigDecimal::add)
-                                .divide(BigDecimal.valueOf(entry.getValue().size()), RoundingMode.HALF_UP)
-                ));
+        return movingAverageCache.isGoldenCross(
+                alert.getCoin().getSymbol(),
+                goldenCross.getShortMa(),
+                goldenCross.getLongMa()
+        );
     }
 
     // TRADING VOLUME SOARING 체크
@@ -593,14 +542,46 @@ public class AlertSSEService {
                 String symbol = alert.getCoin().getSymbol() + "/KRW";
                 boolean tradingVolume = hasVolumeSpike(symbol);
 
-                if (tradingVolume) {
-                    insertUserAlertQueue(alert.getUser().getId(), alert);
-                    sendAlertToUserDiscord(alert.getUser().getId(), alert);
+                if (tradingVolume && !alert.isExpired(Instant.now())) {
+                    publishFired(new AlertFiredEvent(alert, Instant.now()));
                 }
             }
         }
     }
 
+    // 스트림 평가 모드에서 알람 심볼 ticker 구독
+    private void subscribeTicker(AlertEntity alert) {
+        if (alarmProperties.isPollingEvaluation() || alert.getCoin() == null) return;
+        upbitTickerStream.addSymbol(alert.getCoin().getSymbol());
+    }
+
+    // 스트림 평가 모드이면서 WebSocket이 연결되어 있는지
+    private boolean isStreaming() {
+        return !alarmProperties.isPollingEvaluation() && upbitTickerStream.isConnected();
+    }
+
+    // 심볼별 최신 가격 조회 (스트림 수신 중이면 스트림 가격, 아니면 최신 티커 캐시)
+    private Map<String, BigDecimal> loadLatestPrices(List<String> symbols) {
+        if (symbols.isEmpty()) return Collections.emptyMap();
+        if (isStreaming()) {
+            return upbitTickerStream.getLatestPrices(symbols);
+        }
+
+        Map<String, BigDecimal> priceMap = new HashMap<>();
+        for (LatestTickerEntity ticker : tickerSnapshotCache.getLatest(symbols, KRW_QUOTE_SYMBOL)) {
+            if (ticker.getLast() == null) continue;
+            if (priceMap.putIfAbsent(ticker.getId().getBaseSymbol(), ticker.getLast()) == null) {
+                // 폴링 모드에서는 조회한 티커로 이동평균 캐시 갱신
+                movingAverageCache.onPrice(ticker.getId().getBaseSymbol(), ticker.getLast(), ticker.getTimestamp());
+            }
+        }
+        return priceMap;
+    }
+
+    private String alertTopic(Long userId) {
+        return ALERT_TOPIC_PREFIX + userId;
+    }
+
     // 포함된 심볼 필터링
     private List<String> allSymbols(Map<Long, List<AlertEntity>> filteredAlerts) {
         return filteredAlerts.values().stream()
@@ -23,6 +23,7 @@ import org.springframework.stereotype.Service;
 
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -117,6 +118,12 @@ public class AlertService {
         AlertEntity alert = new AlertEntity();
         alert.setActive(request.getActive());
         alert.setTitle(request.getTitle());
+        alert.setTriggerMode(toTriggerMode(request));
+        alert.setExpireDt(request.getExpireDt());
+
+        if (request.getExpireDt() != null && !request.getExpireDt().isAfter(Instant.now())) {
+            throw new ApiException(AppHttpStatus.INVALID_EXPIRE_DT);
+        }
 
         if (request instanceof GoldenCrossAlertRequest goldenCrossRequest) {
             GoldenCrossEntity goldenCrossAlert = GoldenCrossEntity.builder()
@@ -132,6 +139,7 @@ public class AlertService {
                     .alert(alert)
                     .price(targetPriceRequest.getPrice())
                     .percentage(targetPriceRequest.getPercentage())
+                    .rearmPercentage(targetPriceRequest.getRearmPercentage())
                     .build();
 
             alert.setTargetPrice(targetPriceAlert);
@@ -164,4 +172,25 @@ public class AlertService {
         return alert;
     }
 
-}
\ No newline at end of file
+    // 발동 방식 변환 (REARM 은 재무장 비율이 있는 지정가 알람에서만 허용)
+    private AlertTriggerMode toTriggerMode(BaseAlertRequest request) {
+        AlertTriggerMode triggerMode;
+        try {
+            triggerMode = AlertTriggerMode.from(request.getTriggerMode());
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(AppHttpStatus.INVALID_TRIGGER_MODE);
+        }
+
+        if (triggerMode == AlertTriggerMode.REARM && !hasRearmPercentage(request)) {
+            throw new ApiException(AppHttpStatus.INVALID_TRIGGER_MODE);
+        }
+        return triggerMode;
+    }
+
+    // 0 보다 큰 재무장 비율이 있는 지정가 알람인지 (비율이 없으면 목표가를 다시 건드리는 즉시 재무장되어 의미가 없음)
+    private boolean hasRearmPercentage(BaseAlertRequest request) {
+        return request instanceof TargetPriceAlertRequest targetPriceRequest
+                && targetPriceRequest.getRearmPercentage() != null
+                && targetPriceRequest.getRearmPercentage().signum() > 0;
+    }
+}
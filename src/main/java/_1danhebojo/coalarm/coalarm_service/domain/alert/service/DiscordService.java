@@ -1,8 +1,10 @@
 package _1danhebojo.coalarm.coalarm_service.domain.alert.service;
 
 import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery.DiscordDispatcher;
 import _1danhebojo.coalarm.coalarm_service.global.api.ApiException;
 import _1danhebojo.coalarm.coalarm_service.global.api.AppHttpStatus;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -15,8 +17,10 @@ import java.util.Map;
 import java.util.Objects;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class DiscordService {
+    private final DiscordDispatcher discordDispatcher;
     private final RestTemplate restTemplate = new RestTemplate();
 
     public void sendDiscordAlert(String webhookUrl, String message) {
@@ -32,6 +36,7 @@ public class DiscordService {
         }
     }
 
+    // 웹훅별 대기열에 넣고 바로 반환 (실제 전송은 DiscordDispatcher 가 비동기로 처리)
     public void sendDiscordEmbed(String webhookUrl, List<Map<String, Object>> embeds) {
         if (embeds == null || embeds.isEmpty()) return;
 
@@ -41,25 +46,7 @@ public class DiscordService {
             return;
         }
 
-        int batchSize = 10;
-        for (int i = 0; i < embeds.size(); i += batchSize) {
-            List<Map<String, Object>> batch = embeds.subList(i, Math.min(i + batchSize, embeds.size()));
-
-            Map<String, Object> body = Map.of(
-                    "username", "코알람",
-                    "embeds", batch
-            );
-
-            try {
-                ResponseEntity<String> response = restTemplate.postForEntity(webhookUrl, body, String.class);
-                if (!response.getStatusCode().is2xxSuccessful()) {
-                    throw new ApiException(AppHttpStatus.FAILED_TO_SEND_DISCORD);
-                }
-            } catch (Exception e) {
-                log.info("❌ Discord 전송 실패 - {}", e.getMessage());
-                break;
-            }
-        }
+        discordDispatcher.dispatch(webhookUrl, embeds);
     }
 
 
@@ -1,145 +1,262 @@
 package _1danhebojo.coalarm.coalarm_service.domain.alert.service;
 
 
+import _1danhebojo.coalarm.coalarm_service.domain.alert.controller.response.TradeStreamResponse;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit.TradeFrameCodec;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit.TradeTick;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit.UpbitSubscriptionManager;
+import _1danhebojo.coalarm.coalarm_service.global.api.ApiException;
+import _1danhebojo.coalarm.coalarm_service.global.api.AppHttpStatus;
+import _1danhebojo.coalarm.coalarm_service.global.properties.UpbitProperties;
+import _1danhebojo.coalarm.coalarm_service.global.sse.SseBroadcaster;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-import org.springframework.web.socket.*;
-import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.WebSocketMessage;
 
-import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UpbitSseService {
+    private static final String TRADE_TOPIC_PREFIX = "trade:";
+    private static final String RAW_TRADE_TOPIC_PREFIX = "trade-raw:";
+    private static final String STREAM_TOPIC_PREFIX = "trade-stream:";
+    private static final Pattern SYMBOL_PATTERN = Pattern.compile("^[A-Z0-9]{1,20}$");
 
-    private final Map<String, List<SseEmitter>> emitterMap = new ConcurrentHashMap<>();
-    private WebSocketSession session;
-    private final Set<String> subscribedSymbols = ConcurrentHashMap.newKeySet();
+    private final SseBroadcaster sseBroadcaster;
+    private final UpbitProperties upbitProperties;
+    private final TradeFrameCodec tradeFrameCodec = new TradeFrameCodec();
+
+    // 심볼별 전송 대기 중인 체결 (마지막 체결 + 직전 전송 이후 누적)
+    private final Map<String, ConflatedTrade> pendingTrades = new ConcurrentHashMap<>();
+    // 다중 심볼 스트림 ID → 구독 심볼, 심볼 → 그 심볼을 구독 중인 스트림 토픽
+    private final Map<String, Set<String>> streamSymbols = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> symbolStreamTopics = new ConcurrentHashMap<>();
+    // 다중 심볼 스트림 ID → 스트림 변경 권한 토큰 (스트림을 연 연결에만 내려준다)
+    private final Map<String, String> streamTokens = new ConcurrentHashMap<>();
+    private final SecureRandom secureRandom = new SecureRandom();
+    private UpbitSubscriptionManager subscriptionManager;
+    private ScheduledExecutorService conflationScheduler;
 
     @PostConstruct
     public void connectToUpbit() {
-        var client = new StandardWebSocketClient();
-        client.execute(new WebSocketHandler() {
-            @Override
-            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
-                UpbitSseService.this.session = session;
-                System.out.println("✅ Upbit WebSocket 연결 성공");
-
-                // 연결 재설정 시 기존 심볼 재구독
-                for (String symbol : subscribedSymbols) {
-                    subscribeSymbol(symbol);
-                }
-            }
+        // 실제 구독 중인 심볼이 생길 때 WebSocket 연결
+        subscriptionManager = new UpbitSubscriptionManager("trade", "trade-sse", upbitProperties, this::handleMessage);
 
-            @Override
-            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) {
-                try {
-                    // ByteBuffer → String 디코딩
-                    String payload;
-                    if (message.getPayload() instanceof java.nio.ByteBuffer byteBuffer) {
-                        byte[] bytes = new byte[byteBuffer.remaining()];
-                        byteBuffer.get(bytes);
-                        payload = new String(bytes, java.nio.charset.StandardCharsets.UTF_8);
-                    } else {
-                        payload = message.getPayload().toString(); // fallback
-                    }
-
-//                    log.info("📥 WebSocket 수신 payload: {}", payload);
-
-                    String code = extractCodeFromPayload(payload);
-                    if (code == null) {
-                        log.warn("❗ code 추출 실패");
-                        return;
-                    }
-
-                    String symbol = code.split("-")[1];
-
-                    emitterMap.getOrDefault(symbol, List.of()).forEach(emitter -> {
-                        try {
-                            emitter.send(SseEmitter.event().data(payload));
-//                            log.info("📤 SSE 전송: {}", symbol);
-                        } catch (IOException e) {
-                            emitter.completeWithError(e);
-                        }
-                    });
-
-                } catch (Exception e) {
-                    log.error("❌ WebSocket 메시지 처리 중 오류", e);
-                }
-            }
+        // 알람 스케줄러와 분리된 전용 스레드에서 일정 주기로 전송
+        conflationScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "upbit-trade-conflation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(10, upbitProperties.getTradeConflateInterval());
+        conflationScheduler.scheduleAtFixedRate(this::flushConflatedTrades, interval, interval, TimeUnit.MILLISECONDS);
+    }
 
+    @PreDestroy
+    public void destroy() {
+        conflationScheduler.shutdownNow();
+        subscriptionManager.close();
+    }
 
+    // 심볼 체결 SSE 구독 (raw = true 면 모든 체결 전달, 기본은 주기별 요약 전달)
+    // 연결이 끊기면 심볼 구독자 수 감소
+    public SseEmitter addEmitter(String symbol, boolean raw) {
+        String normalized = normalizeSymbol(symbol);
 
-            private String extractCodeFromPayload(String payload) {
-                int idx = payload.indexOf("\"code\":\"");
-                if (idx == -1) return null;
-                int start = idx + 8;
-                int end = payload.indexOf("\"", start);
-                return payload.substring(start, end); // 예: "KRW-BTC"
-            }
+        String topic = (raw ? RAW_TRADE_TOPIC_PREFIX : TRADE_TOPIC_PREFIX) + normalized;
+        subscriptionManager.acquire(normalized);
+        return sseBroadcaster.subscribe(topic, () -> subscriptionManager.release(normalized));
+    }
 
-            @Override
-            public void handleTransportError(WebSocketSession session, Throwable exception) {
-                exception.printStackTrace();
-            }
+    // 여러 심볼을 연결 하나로 받는 체결 스트림 생성
+    // 첫 이벤트(stream)로 스트림 ID 와 추측할 수 없는 owner 토큰을 내려주고, 이후 심볼 추가/해제는 그 토큰을 가진 updateStream 으로만 한다.
+    // 세션을 만들지 않으므로 로그인 여부와 무관하게 같은 방식으로 소유자를 확인한다.
+    public SseEmitter openStream(Collection<String> symbols) {
+        Set<String> normalized = normalizeSymbols(symbols);
+        if (normalized.size() > upbitProperties.getMaxStreamSymbols()) {
+            throw new ApiException(AppHttpStatus.TOO_MANY_STREAM_SYMBOLS);
+        }
+
+        String streamId = UUID.randomUUID().toString();
+        String ownerToken = newOwnerToken();
+        String topic = STREAM_TOPIC_PREFIX + streamId;
+        SseEmitter emitter;
+
+        synchronized (streamSymbols) {
+            streamSymbols.put(streamId, new HashSet<>());
+            streamTokens.put(streamId, ownerToken);
+            emitter = sseBroadcaster.subscribe(topic, () -> closeStream(streamId));
+            normalized.forEach(symbol -> addStreamSymbol(streamId, symbol));
+        }
+
+        sseBroadcaster.publish(topic, "stream", new TradeStreamResponse(streamId, List.copyOf(new TreeSet<>(normalized)), ownerToken));
+        return emitter;
+    }
+
+    // 열려 있는 스트림의 구독 심볼 추가/해제 (owner 토큰이 일치할 때만 가능)
+    public TradeStreamResponse updateStream(String streamId, String ownerToken, Collection<String> add, Collection<String> remove) {
+        Set<String> toAdd = normalizeSymbols(add);
+        Set<String> toRemove = normalizeSymbols(remove);
 
-            @Override
-            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) {
-                System.out.println("❌ WebSocket 연결 종료: " + closeStatus);
-                UpbitSseService.this.session = null;
-
-                new Timer().schedule(new TimerTask() {
-                    @Override
-                    public void run() {
-                        System.out.println("🔁 WebSocket 재연결 시도...");
-                        connectToUpbit();
-                    }
-                }, 3000);
+        synchronized (streamSymbols) {
+            Set<String> current = streamSymbols.get(streamId);
+            if (current == null) {
+                throw new ApiException(AppHttpStatus.NOT_FOUND_TRADE_STREAM);
+            }
+            if (!matchesToken(streamTokens.get(streamId), ownerToken)) {
+                throw new ApiException(AppHttpStatus.FORBIDDEN_TRADE_STREAM);
             }
 
-            @Override
-            public boolean supportsPartialMessages() {
-                return false;
+            Set<String> next = new HashSet<>(current);
+            next.removeAll(toRemove);
+            next.addAll(toAdd);
+            if (next.size() > upbitProperties.getMaxStreamSymbols()) {
+                throw new ApiException(AppHttpStatus.TOO_MANY_STREAM_SYMBOLS);
             }
-        }, "wss://api.upbit.com/websocket/v1");
+
+            toRemove.forEach(symbol -> removeStreamSymbol(streamId, symbol));
+            toAdd.forEach(symbol -> addStreamSymbol(streamId, symbol));
+            return new TradeStreamResponse(streamId, List.copyOf(new TreeSet<>(current)));
+        }
     }
 
-    public void subscribeSymbol(String symbol) {
-        subscribedSymbols.add(symbol);
-        log.info("✅ subscribeSymbol called for {}", symbol);
-        if (session == null || !session.isOpen()) {
-            log.warn("⚠️ WebSocket 연결이 안 되어 있어, 심볼 구독 지연됨: {}", symbol);
-            return;
+    // 스트림 연결 종료 시 구독 심볼 전체 해제
+    private void closeStream(String streamId) {
+        synchronized (streamSymbols) {
+            Set<String> symbols = streamSymbols.get(streamId);
+            if (symbols == null) return;
+
+            new ArrayList<>(symbols).forEach(symbol -> removeStreamSymbol(streamId, symbol));
+            streamSymbols.remove(streamId);
+            streamTokens.remove(streamId);
         }
+    }
 
-        try {
-            String json = "[{\"ticket\":\"trade-sse\"},{\"type\":\"trade\",\"codes\":[\"KRW-" + symbol + "\"]}]";
-            session.sendMessage(new TextMessage(json));
-            log.info("✅ 업비트 WebSocket 심볼 구독: {}", symbol);
-        } catch (IOException e) {
-            e.printStackTrace();
+    private String newOwnerToken() {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // 응답 시간으로 토큰을 추측하지 못하도록 고정 시간 비교
+    private static boolean matchesToken(String expected, String actual) {
+        if (expected == null || actual == null) return false;
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), actual.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void addStreamSymbol(String streamId, String symbol) {
+        if (!streamSymbols.get(streamId).add(symbol)) return;
+
+        symbolStreamTopics.computeIfAbsent(symbol, k -> ConcurrentHashMap.newKeySet())
+                .add(STREAM_TOPIC_PREFIX + streamId);
+        subscriptionManager.acquire(symbol);
+    }
+
+    private void removeStreamSymbol(String streamId, String symbol) {
+        if (!streamSymbols.get(streamId).remove(symbol)) return;
+
+        symbolStreamTopics.computeIfPresent(symbol, (k, topics) -> {
+            topics.remove(STREAM_TOPIC_PREFIX + streamId);
+            return topics.isEmpty() ? null : topics;
+        });
+        subscriptionManager.release(symbol);
+    }
+
+    private Set<String> normalizeSymbols(Collection<String> symbols) {
+        Set<String> normalized = new HashSet<>();
+        if (symbols == null) return normalized;
+
+        for (String symbol : symbols) {
+            normalized.add(normalizeSymbol(symbol));
+        }
+        return normalized;
+    }
+
+    private String normalizeSymbol(String symbol) {
+        String normalized = symbol == null ? "" : symbol.trim().toUpperCase();
+        if (!SYMBOL_PATTERN.matcher(normalized).matches()) {
+            throw new ApiException(AppHttpStatus.INVALID_SYMBOL);
         }
+        return normalized;
     }
 
+    private void handleMessage(WebSocketMessage<?> message) {
+        TradeTick tick;
+        try {
+            tick = tradeFrameCodec.parse(message);
+        } catch (Exception e) {
+            log.warn("체결 메시지 파싱 실패: {}", e.getMessage());
+            return;
+        }
+        if (tick == null) return;
 
-    public SseEmitter addEmitter(String symbol) {
-        emitterMap.putIfAbsent(symbol, new CopyOnWriteArrayList<>());
-        SseEmitter emitter = new SseEmitter(0L);
-        emitterMap.get(symbol).add(emitter);
+        String symbol = tick.symbol();
 
-        emitter.onCompletion(() -> emitterMap.get(symbol).remove(emitter));
-        emitter.onTimeout(() -> emitterMap.get(symbol).remove(emitter));
-        emitter.onError(e -> emitterMap.get(symbol).remove(emitter));
+        // 전체 체결 구독자에게는 건마다 업비트 원본 프레임 그대로 전달 (전송은 브로드캐스터 I/O 스레드에서)
+        String rawTopic = RAW_TRADE_TOPIC_PREFIX + symbol;
+        if (sseBroadcaster.hasSubscribers(rawTopic)) {
+            sseBroadcaster.publish(rawTopic, null, tradeFrameCodec.payloadBytes(message));
+        }
 
-        return emitter;
+        if (sseBroadcaster.hasSubscribers(TRADE_TOPIC_PREFIX + symbol) || symbolStreamTopics.containsKey(symbol)) {
+            conflate(tick);
+        }
     }
-}
 
+    // 다음 전송 주기까지 마지막 체결만 남기고 거래량/건수는 누적
+    private void conflate(TradeTick tick) {
+        pendingTrades.compute(tick.symbol(), (k, pending) -> {
+            if (pending == null) return new ConflatedTrade(tick, tick.volume(), 1);
+            pending.latest = tick;
+            pending.volume = pending.volume.add(tick.volume());
+            pending.count++;
+            return pending;
+        });
+    }
 
+    // 심볼별 요약 체결 전송 (마지막 체결 + agg_volume / agg_count)
+    // 단일 심볼 구독자와 해당 심볼을 포함한 다중 심볼 스트림에 같은 프레임을 보낸다 (프레임의 code 로 구분)
+    private void flushConflatedTrades() {
+        try {
+            for (String symbol : pendingTrades.keySet()) {
+                ConflatedTrade trade = pendingTrades.remove(symbol);
+                if (trade == null) continue;
+
+                byte[] frame = tradeFrameCodec.encode(trade.latest, trade.volume, trade.count);
+                List<String> topics = new ArrayList<>();
+                topics.add(TRADE_TOPIC_PREFIX + symbol);
+                topics.addAll(symbolStreamTopics.getOrDefault(symbol, Collections.emptySet()));
+                sseBroadcaster.publishAll(topics, null, frame);
+            }
+        } catch (Exception e) {
+            log.error("❌ 체결 요약 전송 중 오류", e);
+        }
+    }
+
+    private static class ConflatedTrade {
+        private TradeTick latest;
+        private BigDecimal volume;
+        private int count;
+
+        private ConflatedTrade(TradeTick latest, BigDecimal volume, int count) {
+            this.latest = latest;
+            this.volume = volume;
+            this.count = count;
+        }
+    }
+}
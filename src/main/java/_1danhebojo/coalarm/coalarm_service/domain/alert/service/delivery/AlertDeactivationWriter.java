@@ -0,0 +1,84 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.AlertRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 발동한 ONCE 알람 비활성화 write-behind
+// 가격 수신(WebSocket) 스레드가 DB UPDATE 를 기다리지 않도록 알람 id 만 모아두고 전용 스레드에서 한 번에 비활성화한다.
+// 저장에 실패하면 id 를 남겨두고 다음 주기에 다시 시도한다 (같은 알람을 여러 번 비활성화해도 결과는 같음).
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertDeactivationWriter {
+    private final AlertRepository alertRepository;
+
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "alert-deactivation-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+
+    // 비활성화할 알람 적재 후 전용 스레드에 flush 요청
+    public void enqueue(Long alertId) {
+        if (alertId == null) return;
+
+        pending.add(alertId);
+        if (!flushRequested.compareAndSet(false, true)) return;
+
+        try {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        } catch (RejectedExecutionException e) {
+            flushRequested.set(false);
+        }
+    }
+
+    // 실패해서 남은 알람 재시도
+    @Scheduled(fixedDelayString = "#{@alarmProperties.historyFlushInterval}")
+    public void flushScheduled() {
+        flush();
+    }
+
+    public synchronized void flush() {
+        if (pending.isEmpty()) return;
+
+        List<Long> alertIds = new ArrayList<>(pending);
+        try {
+            alertRepository.deactivateAlerts(alertIds);
+            alertIds.forEach(pending::remove);
+        } catch (DataAccessException e) {
+            log.warn("발동한 알람 비활성화 실패 - 다음 주기에 재시도: {}건, {}", alertIds.size(), e.getMessage());
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    // 종료 시 남은 알람 비활성화
+    @PreDestroy
+    public void destroy() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+}
@@ -0,0 +1,252 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.AlarmProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 알람 히스토리 write-behind 저장
+// 발송된 알람을 메모리 버퍼에 모아두었다가 개수/시간 기준으로 multi-row INSERT 한 번에 저장한다.
+// 버퍼가 가득 차면 호출한 스레드가 직접 flush 하여 속도를 늦추고(backpressure), 그래도 못 넣으면 버린 개수를 센다.
+// 제약 조건 위반(삭제된 알람 등)이면 한 건씩 다시 저장해 문제 행만 버리고,
+// 일시적인 DB 오류면 배치를 버퍼에 되돌려 다음 flush 때 다시 시도한다 (historyMaxRetries 회까지).
+// 처리 건수는 alert.history.* 지표로 노출한다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertHistoryWriter implements MeterBinder {
+    private final AlarmProperties alarmProperties;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "alert-history-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final Object flushLock = new Object();
+    private volatile BlockingQueue<PendingHistory> buffer;
+
+    // 지표
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong backpressureCount = new AtomicLong();
+
+    // 발송된 알람 히스토리 적재
+    public void enqueue(Long alertId, Long userId) {
+        if (alertId == null || userId == null) return;
+
+        PendingHistory history = new PendingHistory(alertId, userId, Instant.now(), 0);
+        BlockingQueue<PendingHistory> queue = buffer();
+
+        if (!queue.offer(history)) {
+            // 버퍼가 가득 차면 호출 스레드에서 직접 비우고 다시 시도
+            backpressureCount.incrementAndGet();
+            flush();
+            if (!queue.offer(history)) {
+                droppedCount.incrementAndGet();
+                log.warn("알람 히스토리 버퍼 초과로 저장 누락: alertId={}, userId={}", alertId, userId);
+                return;
+            }
+        }
+        enqueuedCount.incrementAndGet();
+
+        if (queue.size() >= batchSize() && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    // 시간 기준 flush
+    @Scheduled(fixedDelayString = "#{@alarmProperties.historyFlushInterval}")
+    public void flushScheduled() {
+        flush();
+    }
+
+    // 버퍼에 있는 히스토리를 batchSize 단위 multi-row INSERT 로 저장
+    // 일시적인 오류로 배치를 되돌린 경우에는 이번 flush 를 멈추고 다음 주기에 다시 시도한다
+    public void flush() {
+        synchronized (flushLock) {
+            BlockingQueue<PendingHistory> queue = buffer();
+            List<PendingHistory> batch = new ArrayList<>(batchSize());
+
+            while (queue.drainTo(batch, batchSize()) > 0) {
+                boolean saved = save(batch);
+                batch.clear();
+                if (!saved) break;
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("alert.history.enqueued", enqueuedCount, AtomicLong::get).register(registry);
+        FunctionCounter.builder("alert.history.written", writtenCount, AtomicLong::get).register(registry);
+        FunctionCounter.builder("alert.history.failed", failedCount, AtomicLong::get).register(registry);
+        FunctionCounter.builder("alert.history.dropped", droppedCount, AtomicLong::get).register(registry);
+        FunctionCounter.builder("alert.history.retried", retriedCount, AtomicLong::get).register(registry);
+        FunctionCounter.builder("alert.history.backpressure", backpressureCount, AtomicLong::get).register(registry);
+        Gauge.builder("alert.history.buffered", this, AlertHistoryWriter::getBufferedCount).register(registry);
+    }
+
+    // 종료 시 남은 히스토리 저장
+    @PreDestroy
+    public void destroy() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        log.info("알람 히스토리 writer 종료 - 저장 {}건, 실패 {}건, 누락 {}건, 미저장 {}건",
+                writtenCount.get(), failedCount.get(), droppedCount.get(), getBufferedCount());
+    }
+
+    public int getBufferedCount() {
+        return buffer().size();
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getRetriedCount() {
+        return retriedCount.get();
+    }
+
+    public long getBackpressureCount() {
+        return backpressureCount.get();
+    }
+
+    // 배치 저장 (일시적인 오류로 버퍼에 되돌렸으면 false)
+    private boolean save(List<PendingHistory> batch) {
+        try {
+            insertBatch(batch);
+            writtenCount.addAndGet(batch.size());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("알람 히스토리 일괄 저장 중 제약 조건 위반 - 한 건씩 다시 저장: {}건", batch.size());
+            return saveEach(batch);
+        } catch (DataAccessException e) {
+            log.warn("알람 히스토리 일괄 저장 실패 - 다음 flush 때 재시도: {}건, {}", batch.size(), e.getMessage());
+            requeue(batch);
+            return false;
+        } catch (RuntimeException e) {
+            failedCount.addAndGet(batch.size());
+            log.error("알람 히스토리 일괄 저장 실패: {}건", batch.size(), e);
+            return true;
+        }
+    }
+
+    // 한 건씩 저장해 제약 조건을 위반한 행만 버린다
+    private boolean saveEach(List<PendingHistory> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            PendingHistory history = batch.get(i);
+            try {
+                insertBatch(List.of(history));
+                writtenCount.incrementAndGet();
+            } catch (DataIntegrityViolationException e) {
+                failedCount.incrementAndGet();
+                log.warn("알람 히스토리 저장 불가로 제외: alertId={}, userId={}, {}",
+                        history.alertId(), history.userId(), e.getMostSpecificCause().getMessage());
+            } catch (DataAccessException e) {
+                log.warn("알람 히스토리 저장 실패 - 다음 flush 때 재시도: {}건, {}", batch.size() - i, e.getMessage());
+                requeue(batch.subList(i, batch.size()));
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 일시적인 오류로 저장하지 못한 히스토리를 버퍼에 되돌림 (재시도 횟수 초과 / 버퍼 초과 시 제외)
+    private void requeue(List<PendingHistory> histories) {
+        BlockingQueue<PendingHistory> queue = buffer();
+        int maxRetries = Math.max(0, alarmProperties.getHistoryMaxRetries());
+
+        for (PendingHistory history : histories) {
+            if (history.attempts() >= maxRetries) {
+                failedCount.incrementAndGet();
+                log.error("알람 히스토리 재시도 횟수 초과로 제외: alertId={}, userId={}", history.alertId(), history.userId());
+                continue;
+            }
+            if (queue.offer(history.retry())) {
+                retriedCount.incrementAndGet();
+            } else {
+                droppedCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void insertBatch(List<PendingHistory> batch) {
+        StringBuilder sql = new StringBuilder("INSERT INTO alert_histories (reg_dt, user_id, alert_id) VALUES ");
+        Object[] args = new Object[batch.size() * 3];
+
+        for (int i = 0; i < batch.size(); i++) {
+            PendingHistory history = batch.get(i);
+            sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+            args[i * 3] = Timestamp.from(history.regDt());
+            args[i * 3 + 1] = history.userId();
+            args[i * 3 + 2] = history.alertId();
+        }
+
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private BlockingQueue<PendingHistory> buffer() {
+        BlockingQueue<PendingHistory> queue = buffer;
+        if (queue == null) {
+            synchronized (this) {
+                if (buffer == null) {
+                    buffer = new ArrayBlockingQueue<>(Math.max(1, alarmProperties.getHistoryBufferCapacity()));
+                }
+                queue = buffer;
+            }
+        }
+        return queue;
+    }
+
+    private int batchSize() {
+        return Math.max(1, alarmProperties.getHistoryBatchSize());
+    }
+
+    private record PendingHistory(Long alertId, Long userId, Instant regDt, int attempts) {
+        PendingHistory retry() {
+            return new PendingHistory(alertId, userId, regDt, attempts + 1);
+        }
+    }
+}
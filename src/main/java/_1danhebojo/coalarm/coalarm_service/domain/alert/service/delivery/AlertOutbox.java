@@ -0,0 +1,140 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertEntity;
+import _1danhebojo.coalarm.coalarm_service.global.properties.AlarmProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 SSE 발송 대기함
+// 알람 id 기준으로 O(1) 중복 제거, 우선순위 레인(지정가 → 골든 크로스 → 거래량 급등) 순으로 꺼내며
+// 사용자당 최대 개수를 넘으면 우선순위가 가장 낮은 오래된 알람부터 버린다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertOutbox {
+    private final AlarmProperties alarmProperties;
+    private final Map<Long, UserOutbox> outboxes = new ConcurrentHashMap<>();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    // 알람 우선순위 (ordinal 이 작을수록 먼저 발송)
+    public enum Lane {
+        TARGET_PRICE, GOLDEN_CROSS, VOLUME_SPIKE;
+
+        static Lane of(AlertEntity alert) {
+            if (Boolean.TRUE.equals(alert.getIsTargetPrice())) return TARGET_PRICE;
+            if (Boolean.TRUE.equals(alert.getIsGoldenCross())) return GOLDEN_CROSS;
+            return VOLUME_SPIKE;
+        }
+    }
+
+    // 발송 대기 알람 추가 (이미 대기 중이면 무시)
+    public boolean offer(Long userId, AlertEntity alert) {
+        if (userId == null || alert == null || alert.getId() == null) return false;
+
+        boolean[] added = new boolean[1];
+        outboxes.compute(userId, (k, outbox) -> {
+            UserOutbox target = outbox != null ? outbox : new UserOutbox();
+            added[0] = target.offer(alert, alarmProperties.getOutboxCapacity());
+            return target;
+        });
+        return added[0];
+    }
+
+    // 우선순위 순으로 최대 max 개 꺼내기 (비면 사용자 대기함 제거)
+    public List<AlertEntity> drain(Long userId, int max) {
+        List<AlertEntity> drained = new ArrayList<>();
+        outboxes.computeIfPresent(userId, (k, outbox) -> {
+            drained.addAll(outbox.drain(max));
+            return outbox.isEmpty() ? null : outbox;
+        });
+        return drained;
+    }
+
+    // 대기 중인 알람 스냅샷
+    public List<AlertEntity> pending(Long userId) {
+        UserOutbox outbox = outboxes.get(userId);
+        return outbox == null ? Collections.emptyList() : outbox.snapshot();
+    }
+
+    public Set<Long> userIds() {
+        return outboxes.keySet();
+    }
+
+    // 사용자 대기함 제거 (마지막 SSE 연결이 끊겼을 때)
+    public void clear(Long userId) {
+        outboxes.remove(userId);
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private class UserOutbox {
+        private final List<LinkedHashMap<Long, AlertEntity>> lanes = new ArrayList<>();
+        private int size;
+
+        UserOutbox() {
+            for (int i = 0; i < Lane.values().length; i++) {
+                lanes.add(new LinkedHashMap<>());
+            }
+        }
+
+        synchronized boolean offer(AlertEntity alert, long capacity) {
+            Lane lane = Lane.of(alert);
+            LinkedHashMap<Long, AlertEntity> queue = lanes.get(lane.ordinal());
+            if (queue.containsKey(alert.getId())) return false;
+
+            if (capacity > 0 && size >= capacity && !evictLowerThan(lane)) {
+                droppedCount.incrementAndGet();
+                return false;
+            }
+
+            queue.put(alert.getId(), alert);
+            size++;
+            return true;
+        }
+
+        // 새 알람보다 우선순위가 낮거나 같은 레인의 가장 오래된 알람 하나 제거
+        private boolean evictLowerThan(Lane lane) {
+            for (int i = lanes.size() - 1; i >= lane.ordinal(); i--) {
+                Iterator<AlertEntity> it = lanes.get(i).values().iterator();
+                if (it.hasNext()) {
+                    it.next();
+                    it.remove();
+                    size--;
+                    droppedCount.incrementAndGet();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        synchronized List<AlertEntity> drain(int max) {
+            List<AlertEntity> drained = new ArrayList<>(Math.min(max, size));
+            for (LinkedHashMap<Long, AlertEntity> queue : lanes) {
+                Iterator<AlertEntity> it = queue.values().iterator();
+                while (it.hasNext() && drained.size() < max) {
+                    drained.add(it.next());
+                    it.remove();
+                    size--;
+                }
+            }
+            return drained;
+        }
+
+        synchronized List<AlertEntity> snapshot() {
+            List<AlertEntity> result = new ArrayList<>(size);
+            lanes.forEach(queue -> result.addAll(queue.values()));
+            return result;
+        }
+
+        synchronized boolean isEmpty() {
+            return size == 0;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.DiscordService;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine.AlertFiredEvent;
+import _1danhebojo.coalarm.coalarm_service.domain.user.repository.entity.UserEntity;
+import _1danhebojo.coalarm.coalarm_service.global.properties.AlarmProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 발동 알람의 디스코드 채널
+// 웹훅이 있는 사용자의 알람만 받아 디스코드 전용 쿨다운을 적용하고,
+// sendDiscordInterval 마다 사용자별로 모아서 한 번에 전송한다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DiscordAlertChannel {
+    private final DiscordService discordService;
+    private final AlarmProperties alarmProperties;
+
+    // alertId → 디스코드 쿨다운 만료 시각 (epoch ms)
+    private final Map<Long, Long> cooldownUntil = new ConcurrentHashMap<>();
+    // userId → 전송 대기 알람 (alertId 기준 중복 제거)
+    private final Map<Long, Map<Long, AlertEntity>> pending = new ConcurrentHashMap<>();
+
+    // 발동 알람 접수 (웹훅이 없거나 쿨다운 중이면 false)
+    public boolean accept(AlertFiredEvent event) {
+        AlertEntity alert = event.alert();
+        UserEntity user = alert.getUser();
+        if (user == null || user.getDiscordWebhook() == null || user.getDiscordWebhook().isEmpty()) return false;
+
+        long now = event.firedAt().toEpochMilli();
+        Long until = cooldownUntil.get(alert.getId());
+        if (until != null && until > now) return false;
+        cooldownUntil.put(alert.getId(), now + alarmProperties.getDiscordCooldown());
+
+        pending.compute(user.getId(), (k, alerts) -> {
+            Map<Long, AlertEntity> target = alerts != null ? alerts : new LinkedHashMap<>();
+            target.put(alert.getId(), alert);
+            return target;
+        });
+        return true;
+    }
+
+    // 특정 시간마다 사용자별로 모아서 디스코드 전송
+    @Scheduled(fixedRateString = "#{@alarmProperties.sendDiscordInterval}")
+    public void flush() {
+        for (Long userId : new ArrayList<>(pending.keySet())) {
+            Map<Long, AlertEntity> alerts = pending.remove(userId);
+            if (alerts == null || alerts.isEmpty()) continue;
+
+            List<AlertEntity> alertList = new ArrayList<>(alerts.values());
+            String webhook = alertList.get(0).getUser().getDiscordWebhook();
+            List<Map<String, Object>> embeds = alertList.stream()
+                    .map(discordService::buildEmbedMapFromAlert)
+                    .toList();
+
+            discordService.sendDiscordEmbed(webhook, embeds);
+        }
+
+        long now = System.currentTimeMillis();
+        cooldownUntil.values().removeIf(until -> until <= now);
+    }
+
+    // 웹훅 변경 시 대기 중인 알람에도 반영
+    public void updateWebhook(Long userId, String newWebhook) {
+        pending.computeIfPresent(userId, (k, alerts) -> {
+            alerts.values().forEach(alert -> {
+                if (alert.getUser() != null) alert.getUser().updateDiscordWebhook(newWebhook);
+            });
+            return alerts;
+        });
+    }
+}
@@ -0,0 +1,257 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.DiscordProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 디스코드 웹훅 비동기 전송
+// 웹훅별로 제한된 크기의 대기열과 토큰 버킷을 두고, 429 응답의 retry_after 동안은 해당 웹훅만 멈춘다.
+// 전송은 parallelism 개의 전용 스레드에서 처리하므로 느린 웹훅이 다른 사용자의 전송을 막지 않는다.
+// channelIdleTimeout 동안 쓰이지 않은 웹훅(변경/삭제된 웹훅 포함)은 주기적으로 정리한다.
+@Component
+@Slf4j
+public class DiscordDispatcher {
+    private static final String USERNAME = "코알람";
+    private static final int EMBEDS_PER_REQUEST = 10;
+
+    private final DiscordProperties properties;
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService workers;
+    private final Map<String, WebhookChannel> channels = new ConcurrentHashMap<>();
+
+    // 지표
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong rateLimitedCount = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public DiscordDispatcher(DiscordProperties properties) {
+        this.properties = properties;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(properties.getConnectTimeout()))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(properties.getReadTimeout()));
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newScheduledThreadPool(Math.max(1, properties.getParallelism()), r -> {
+            Thread thread = new Thread(r, "discord-dispatcher-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long idleTimeout = Math.max(1000, properties.getChannelIdleTimeout());
+        this.workers.scheduleWithFixedDelay(this::evictIdleChannels, idleTimeout, idleTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        workers.shutdownNow();
+    }
+
+    // embed 목록을 10개씩 나눠 웹훅 대기열에 추가 (대기열이 가득 차면 버림)
+    public void dispatch(String webhookUrl, List<Map<String, Object>> embeds) {
+        if (webhookUrl == null || webhookUrl.isBlank() || embeds == null || embeds.isEmpty()) return;
+
+        // 정리 작업과 겹치지 않도록 조회와 사용 시각 갱신을 한 번에 처리
+        long now = System.currentTimeMillis();
+        WebhookChannel channel = channels.compute(webhookUrl, (url, existing) -> {
+            WebhookChannel target = existing != null ? existing : new WebhookChannel(url);
+            target.lastUsedAt = now;
+            return target;
+        });
+        for (int i = 0; i < embeds.size(); i += EMBEDS_PER_REQUEST) {
+            Map<String, Object> body = Map.of(
+                    "username", USERNAME,
+                    "embeds", List.copyOf(embeds.subList(i, Math.min(i + EMBEDS_PER_REQUEST, embeds.size())))
+            );
+
+            if (!channel.queue.offerLast(body)) {
+                droppedCount.incrementAndGet();
+                log.warn("Discord 대기열 초과로 전송 누락 - 대기 {}건", channel.queue.size());
+            }
+        }
+        schedule(channel, 0);
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getRateLimitedCount() {
+        return rateLimitedCount.get();
+    }
+
+    public long getAverageLatencyMillis() {
+        long completed = sentCount.get() + failedCount.get() + rateLimitedCount.get();
+        return completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalLatencyNanos.get() / completed);
+    }
+
+    public long getMaxLatencyMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get());
+    }
+
+    // 전체 웹훅 대기 요청 수
+    public int getQueueDepth() {
+        return channels.values().stream().mapToInt(channel -> channel.queue.size()).sum();
+    }
+
+    public int getChannelCount() {
+        return channels.size();
+    }
+
+    // 오래 쓰이지 않았고 대기 요청/예약/429 대기가 없는 웹훅 제거
+    void evictIdleChannels() {
+        long now = System.currentTimeMillis();
+        long idleTimeout = properties.getChannelIdleTimeout();
+        for (String url : channels.keySet()) {
+            channels.computeIfPresent(url, (k, channel) -> channel.isIdle(now, idleTimeout) ? null : channel);
+        }
+    }
+
+    private void schedule(WebhookChannel channel, long delayMillis) {
+        if (workers.isShutdown() || !channel.scheduled.compareAndSet(false, true)) return;
+
+        try {
+            workers.schedule(() -> drain(channel), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            channel.scheduled.set(false);
+        }
+    }
+
+    // 웹훅 하나의 대기열 처리 (토큰/429 대기 중이면 남은 시간 뒤로 재예약)
+    private void drain(WebhookChannel channel) {
+        long delayMillis = 0;
+        try {
+            for (int i = 0; i < Math.max(1, properties.getMaxBatchesPerDrain()); i++) {
+                Map<String, Object> body = channel.queue.peekFirst();
+                if (body == null) break;
+
+                long blockedMillis = channel.blockedUntil - System.currentTimeMillis();
+                if (blockedMillis > 0) {
+                    delayMillis = blockedMillis;
+                    break;
+                }
+
+                ConsumptionProbe probe = channel.bucket.tryConsumeAndReturnRemaining(1);
+                if (!probe.isConsumed()) {
+                    delayMillis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(probe.getNanosToWaitForRefill()));
+                    break;
+                }
+
+                channel.queue.pollFirst();
+                send(channel, body);
+            }
+        } finally {
+            channel.scheduled.set(false);
+            if (!channel.queue.isEmpty()) {
+                schedule(channel, delayMillis);
+            }
+        }
+    }
+
+    private void send(WebhookChannel channel, Map<String, Object> body) {
+        long start = System.nanoTime();
+        try {
+            restTemplate.postForEntity(channel.url, body, String.class);
+            sentCount.incrementAndGet();
+        } catch (HttpStatusCodeException e) {
+            if (e.getStatusCode().value() == 429) {
+                // retry_after 동안 해당 웹훅만 멈추고 실패한 요청은 대기열 맨 앞으로
+                long retryAfterMillis = retryAfterMillis(e);
+                channel.blockedUntil = System.currentTimeMillis() + retryAfterMillis;
+                rateLimitedCount.incrementAndGet();
+                if (!channel.queue.offerFirst(body)) {
+                    droppedCount.incrementAndGet();
+                }
+                log.warn("Discord 429 - {}ms 후 재시도", retryAfterMillis);
+            } else {
+                failedCount.incrementAndGet();
+                log.info("❌ Discord 전송 실패 - {}", e.getStatusCode());
+            }
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            log.info("❌ Discord 전송 실패 - {}", e.getMessage());
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            totalLatencyNanos.addAndGet(elapsed);
+            maxLatencyNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    // 429 응답 본문의 retry_after(초) → 없으면 Retry-After 헤더 → 둘 다 없으면 1초
+    private long retryAfterMillis(HttpStatusCodeException e) {
+        try {
+            JsonNode retryAfter = objectMapper.readTree(e.getResponseBodyAsString()).get("retry_after");
+            if (retryAfter != null && retryAfter.isNumber()) {
+                return Math.max(1, (long) Math.ceil(retryAfter.asDouble() * 1000));
+            }
+        } catch (Exception ignored) {}
+
+        String header = e.getResponseHeaders() == null ? null : e.getResponseHeaders().getFirst("Retry-After");
+        if (header != null) {
+            try {
+                return Math.max(1, (long) Math.ceil(Double.parseDouble(header) * 1000));
+            } catch (NumberFormatException ignored) {}
+        }
+        return 1000;
+    }
+
+    // 웹훅별 대기열 + 토큰 버킷 + 429 대기 시각
+    private class WebhookChannel {
+        private final String url;
+        private final BlockingDeque<Map<String, Object>> queue;
+        private final Bucket bucket;
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+        private volatile long blockedUntil;
+        private volatile long lastUsedAt;
+
+        WebhookChannel(String url) {
+            this.url = url;
+            this.queue = new LinkedBlockingDeque<>(Math.max(1, properties.getQueueCapacity()));
+            this.bucket = Bucket.builder()
+                    .addLimit(Bandwidth.classic(properties.getRateLimitCapacity(),
+                            Refill.greedy(properties.getRateLimitCapacity(), Duration.ofMillis(properties.getRateLimitRefillPeriod()))))
+                    .build();
+        }
+
+        boolean isIdle(long now, long idleTimeout) {
+            return now - lastUsedAt >= idleTimeout
+                    && queue.isEmpty()
+                    && !scheduled.get()
+                    && blockedUntil <= now;
+        }
+    }
+}
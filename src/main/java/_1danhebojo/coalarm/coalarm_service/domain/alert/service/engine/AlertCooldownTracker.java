@@ -0,0 +1,111 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.AlertHistoryRepository;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertHistoryEntity;
+import _1danhebojo.coalarm.coalarm_service.global.properties.AlarmProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 알람별 재발송 대기(쿨다운) 관리
+// 발송 시점에 만료 시각을 기록해두고, 평가 시에는 DB 조회 없이 O(1)로 쿨다운 여부를 확인한다.
+// 만료 정리는 만료 시각 순 큐의 앞부분만 꺼내므로 전체 항목 수가 아니라 만료된 항목 수만큼만 비용이 든다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AlertCooldownTracker {
+    private final AlarmProperties alarmProperties;
+    private final AlertHistoryRepository alertHistoryRepository;
+
+    // alertId → 쿨다운 만료 시각 (epoch ms)
+    private final Map<Long, Long> cooldownUntil = new ConcurrentHashMap<>();
+    // 만료 시각 순 정리 큐 (더 늦은 만료 시각으로 갱신된 항목은 꺼낼 때 무시)
+    private final PriorityQueue<Expiry> expiryQueue = new PriorityQueue<>(Comparator.comparingLong(Expiry::until));
+
+    // 서버 시작 시 최근 발송 히스토리로 쿨다운 복원
+    @PostConstruct
+    public void init() {
+        Instant since = Instant.now().minusMillis(maxCooldown());
+        try {
+            for (AlertHistoryEntity history : alertHistoryRepository.findRecentHistoriesWithAlert(since)) {
+                record(history.getAlert(), history.getRegDt());
+            }
+            log.info("알람 쿨다운 복원 완료: {}건", cooldownUntil.size());
+        } catch (Exception e) {
+            log.warn("알람 쿨다운 복원 실패: {}", e.getMessage());
+        }
+    }
+
+    // 쿨다운 중인지 여부
+    public boolean isCoolingDown(Long alertId) {
+        Long until = cooldownUntil.get(alertId);
+        if (until == null) return false;
+
+        if (until <= System.currentTimeMillis()) {
+            cooldownUntil.remove(alertId, until);
+            return false;
+        }
+        return true;
+    }
+
+    // 알람 발송 기록
+    public void recordFire(AlertEntity alert) {
+        record(alert, Instant.now());
+    }
+
+    // 만료된 항목 정리
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        synchronized (expiryQueue) {
+            while (!expiryQueue.isEmpty() && expiryQueue.peek().until() <= now) {
+                Expiry expiry = expiryQueue.poll();
+                cooldownUntil.remove(expiry.alertId(), expiry.until());
+            }
+        }
+    }
+
+    public int size() {
+        return cooldownUntil.size();
+    }
+
+    private void record(AlertEntity alert, Instant firedAt) {
+        if (alert == null || alert.getId() == null || firedAt == null) return;
+
+        long until = firedAt.toEpochMilli() + cooldownOf(alert);
+        if (cooldownUntil.merge(alert.getId(), until, Math::max) == until) {
+            synchronized (expiryQueue) {
+                expiryQueue.add(new Expiry(alert.getId(), until));
+            }
+        }
+    }
+
+    // 알람 종류별 쿨다운 (여러 조건이 걸린 알람은 가장 긴 값)
+    private long cooldownOf(AlertEntity alert) {
+        long cooldown = 0;
+        if (Boolean.TRUE.equals(alert.getIsTargetPrice())) {
+            cooldown = Math.max(cooldown, alarmProperties.getCooldownTargetPrice());
+        }
+        if (Boolean.TRUE.equals(alert.getIsGoldenCross())) {
+            cooldown = Math.max(cooldown, alarmProperties.getCooldownGoldenCross());
+        }
+        if (Boolean.TRUE.equals(alert.getIsVolumeSpike())) {
+            cooldown = Math.max(cooldown, alarmProperties.getCooldownVolumeSpike());
+        }
+        return cooldown;
+    }
+
+    private long maxCooldown() {
+        return Math.max(alarmProperties.getCooldownTargetPrice(),
+                Math.max(alarmProperties.getCooldownGoldenCross(), alarmProperties.getCooldownVolumeSpike()));
+    }
+
+    private record Expiry(Long alertId, long until) {}
+}
@@ -0,0 +1,55 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+
+// 만료 시각이 있는 활성 알람을 만료 순으로 보관
+// 주기마다 맨 앞만 확인하므로 만료된 알람만 꺼내는 데 전체 목록을 훑지 않는다.
+@Component
+public class AlertExpiryTracker {
+    private final PriorityQueue<AlertEntity> queue = new PriorityQueue<>(Comparator.comparing(AlertEntity::getExpireDt));
+    // alertId → 현재 추적 중인 알람 (교체/제거된 알람은 큐에서 꺼낼 때 무시)
+    private final Map<Long, AlertEntity> tracked = new HashMap<>();
+
+    // 전체 활성 알람 기준으로 재구성
+    public synchronized void reset(Collection<AlertEntity> alerts) {
+        queue.clear();
+        tracked.clear();
+        alerts.forEach(this::track);
+    }
+
+    public synchronized void track(AlertEntity alert) {
+        if (alert == null || alert.getId() == null) return;
+
+        if (alert.getExpireDt() == null) {
+            tracked.remove(alert.getId());
+            return;
+        }
+        tracked.put(alert.getId(), alert);
+        queue.add(alert);
+    }
+
+    public synchronized void untrack(Long alertId) {
+        tracked.remove(alertId);
+    }
+
+    // 만료된 알람 꺼내기
+    public synchronized List<AlertEntity> pollExpired(Instant now) {
+        List<AlertEntity> expired = new ArrayList<>();
+        while (!queue.isEmpty() && queue.peek().isExpired(now)) {
+            AlertEntity alert = queue.poll();
+            if (tracked.get(alert.getId()) == alert) {
+                tracked.remove(alert.getId());
+                expired.add(alert);
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return tracked.size();
+    }
+}
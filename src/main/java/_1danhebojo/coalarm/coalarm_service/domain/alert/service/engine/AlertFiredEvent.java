@@ -0,0 +1,13 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertEntity;
+
+import java.time.Instant;
+
+// 한 번의 평가에서 조건을 만족한 알람 (SSE / 디스코드 채널이 같은 이벤트를 받는다)
+public record AlertFiredEvent(AlertEntity alert, Instant firedAt) {
+
+    public Long userId() {
+        return alert.getUser().getId();
+    }
+}
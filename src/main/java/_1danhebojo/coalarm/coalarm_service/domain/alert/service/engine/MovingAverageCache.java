@@ -0,0 +1,165 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.AlertSSERepository;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.TickerEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 골든 크로스 알람용 심볼별 일봉 종가 / 이동평균 캐시
+// 심볼당 한 번만 과거 데이터를 불러오고, 이후에는 가격이 들어올 때마다 오늘 종가만 갱신한다.
+// 누적합을 유지하므로 이동평균 조회는 O(1)이며 같은 심볼의 모든 알람이 공유한다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MovingAverageCache {
+    private static final int DEFAULT_SHORT_MA = 7;
+    private static final int DEFAULT_LONG_MA = 20;
+    private static final String EXCHANGE = "upbit";
+    private static final String QUOTE_SYMBOL = "KRW";
+
+    private final AlertSSERepository alertSSERepository;
+    private final Map<String, DailySeries> seriesMap = new ConcurrentHashMap<>();
+
+    // 골든 크로스 여부 (단기 이동평균 > 장기 이동평균)
+    public boolean isGoldenCross(String symbol, Integer shortMa, Integer longMa) {
+        int shortPeriod = shortMa == null ? DEFAULT_SHORT_MA : shortMa;
+        int longPeriod = longMa == null ? DEFAULT_LONG_MA : longMa;
+
+        DailySeries series = getOrLoad(symbol, longPeriod);
+        if (series == null) return false;
+
+        return series.isGoldenCross(shortPeriod, longPeriod);
+    }
+
+    // 새 가격 반영 (캐시에 올라온 심볼만 갱신)
+    public void onPrice(String symbol, BigDecimal price, Instant timestamp) {
+        if (price == null) return;
+
+        DailySeries series = seriesMap.get(symbol);
+        if (series != null) {
+            series.update(toDate(timestamp), price);
+        }
+    }
+
+    // 더 이상 골든 크로스 알람이 없는 심볼 정리
+    public void retainSymbols(Collection<String> symbols) {
+        seriesMap.keySet().retainAll(symbols);
+    }
+
+    private DailySeries getOrLoad(String symbol, int longPeriod) {
+        DailySeries series = seriesMap.get(symbol);
+        if (series != null && series.loadedDays() >= longPeriod) return series;
+
+        return seriesMap.compute(symbol, (k, existing) -> {
+            if (existing != null && existing.loadedDays() >= longPeriod) return existing;
+            return load(k, Math.max(longPeriod, DEFAULT_LONG_MA));
+        });
+    }
+
+    // 최근 N일 티커로 일별 종가 구성 (심볼당 최초 1회)
+    private DailySeries load(String symbol, int days) {
+        Instant startDate = Instant.now().minusSeconds(days * 86400L);
+        List<TickerEntity> tickers = alertSSERepository.findBySymbolAndDateRangeAndExchange(symbol, startDate, EXCHANGE, QUOTE_SYMBOL);
+
+        DailySeries series = new DailySeries(days);
+        for (TickerEntity ticker : tickers) {
+            series.update(toDate(ticker.getId().getTimestamp()), ticker.getClose());
+        }
+
+        log.info("{} 이동평균 캐시 로딩 완료: {}일", symbol, series.size());
+        return series;
+    }
+
+    private LocalDate toDate(Instant timestamp) {
+        return timestamp.atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    // 일별 종가 시계열 (마지막 원소는 진행 중인 오늘 종가)
+    private static class DailySeries {
+        private final int loadedDays;
+        private final int capacity;
+        // 마감된 일자들의 종가 누적합 (prefix[i] = 0..i-1 일 종가 합)
+        private final List<BigDecimal> prefix = new ArrayList<>(List.of(BigDecimal.ZERO));
+        private LocalDate currentDate;
+        private BigDecimal currentClose;
+
+        DailySeries(int loadedDays) {
+            this.loadedDays = loadedDays;
+            this.capacity = loadedDays * 2;
+        }
+
+        int loadedDays() {
+            return loadedDays;
+        }
+
+        synchronized int size() {
+            return closedDays() + (currentClose == null ? 0 : 1);
+        }
+
+        synchronized void update(LocalDate date, BigDecimal close) {
+            if (close == null) return;
+
+            if (currentDate == null || date.isAfter(currentDate)) {
+                // 하루가 넘어가면 어제 종가를 마감하고 오늘 종가 시작
+                if (currentClose != null) {
+                    prefix.add(prefix.get(prefix.size() - 1).add(currentClose));
+                    trim();
+                }
+                currentDate = date;
+                currentClose = close;
+            } else if (date.isEqual(currentDate)) {
+                currentClose = close;
+            }
+        }
+
+        synchronized boolean isGoldenCross(int shortPeriod, int longPeriod) {
+            int available = size();
+            // 단기/장기 구간이 구분될 만큼의 데이터가 없으면 계산 불가능
+            if (available <= shortPeriod) return false;
+
+            BigDecimal shortMA = average(Math.min(shortPeriod, available));
+            BigDecimal longMA = average(Math.min(longPeriod, available));
+            return shortMA.compareTo(longMA) > 0;
+        }
+
+        // 최근 n일 종가 평균 (오늘 포함)
+        private BigDecimal average(int n) {
+            int closed = closedDays();
+            int fromClosed = n - 1;
+            BigDecimal sum = currentClose
+                    .add(prefix.get(closed))
+                    .subtract(prefix.get(closed - fromClosed));
+            return sum.divide(BigDecimal.valueOf(n), 2, RoundingMode.HALF_UP);
+        }
+
+        private int closedDays() {
+            return prefix.size() - 1;
+        }
+
+        // 누적합이 너무 길어지면 최근 loadedDays 일만 남기고 재구성
+        private void trim() {
+            if (closedDays() <= capacity) return;
+
+            int keepFrom = closedDays() - loadedDays;
+            BigDecimal base = prefix.get(keepFrom);
+            List<BigDecimal> rebuilt = new ArrayList<>(loadedDays + 1);
+            for (int i = keepFrom; i < prefix.size(); i++) {
+                rebuilt.add(prefix.get(i).subtract(base));
+            }
+            prefix.clear();
+            prefix.addAll(rebuilt);
+        }
+    }
+}
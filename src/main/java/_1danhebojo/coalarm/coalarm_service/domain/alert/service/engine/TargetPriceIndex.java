@@ -0,0 +1,366 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.TargetPriceEntity;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 코인 심볼별 지정가 알람 교차 인덱스
+// 상승(percentage > 0) / 하락(percentage < 0) 목표가를 정렬된 구조에 보관하고,
+// 새 가격이 들어오면 직전 가격과 현재 가격 사이에 있는 목표가만 조회한다.
+// 발동 후 재무장 대기(REARM) 중인 알람은 평가 대상에서 빠지고, 가격이 재무장 가격까지 되돌아오면 다시 들어간다.
+// 교차했지만 전달하지 못한 알람은 매 가격마다 다시 평가하지 않고 사용자별로 보류했다가, 사용자가 접속할 때 한 번 다시 확인한다.
+@Component
+public class TargetPriceIndex {
+
+    private volatile Map<String, SymbolBook> books = new ConcurrentHashMap<>();
+    // 인덱스 변경(재구성/추가/제거/재무장 대기)은 이 락으로 직렬화하고, 가격 반영(onPrice)은 락 없이 처리
+    private final Object lock = new Object();
+    // 재구성용 활성 알람을 조회하는 동안 들어온 추가/제거 (재구성 후 다시 반영, 조회 중이 아니면 null)
+    private List<Change> journal;
+    // userId → 교차했지만 전달하지 못한 알람 (alertId 기준)
+    private final Map<Long, Map<Long, AlertEntity>> parked = new HashMap<>();
+
+    // 재구성용 활성 알람 조회 직전에 호출 → 이후 추가/제거는 rebuild 때 새 인덱스에 다시 반영된다
+    public void beginRebuild() {
+        synchronized (lock) {
+            journal = new ArrayList<>();
+        }
+    }
+
+    // 전체 활성 알람 기준으로 인덱스 재구성 (심볼별 직전 가격은 유지)
+    public void rebuild(Collection<AlertEntity> alerts) {
+        synchronized (lock) {
+            Map<String, SymbolBook> previous = books;
+            Map<String, SymbolBook> rebuilt = new ConcurrentHashMap<>();
+
+            for (AlertEntity alert : alerts) {
+                if (!isIndexable(alert)) continue;
+
+                String symbol = alert.getCoin().getSymbol();
+                SymbolBook book = rebuilt.computeIfAbsent(symbol, k -> {
+                    SymbolBook created = new SymbolBook();
+                    SymbolBook old = previous.get(k);
+                    created.lastPrice = old != null ? old.lastPrice() : null;
+                    return created;
+                });
+
+                SymbolBook old = previous.get(symbol);
+                if (old != null && old.isDisarmed(alert.getId()) && hasRearmPercentage(alert.getTargetPrice())) {
+                    book.putDisarmed(alert);
+                } else {
+                    book.put(alert, old == null || !old.contains(alert.getId()));
+                }
+            }
+
+            // 알람이 모두 사라진 심볼도 직전 가격은 남겨둔다
+            previous.forEach((symbol, old) -> rebuilt.computeIfAbsent(symbol, k -> {
+                SymbolBook created = new SymbolBook();
+                created.lastPrice = old.lastPrice();
+                return created;
+            }));
+
+            // 조회 이후 추가/제거된 알람은 조회 결과에 없거나 남아 있으므로 다시 반영
+            if (journal != null) {
+                for (Change change : journal) {
+                    if (change.added()) {
+                        addTo(rebuilt, change.alert());
+                    } else {
+                        removeFrom(rebuilt, change.alert());
+                    }
+                }
+                journal = null;
+            }
+
+            books = rebuilt;
+            // 더 이상 인덱스에 없는 알람은 보류 목록에서도 제거
+            parked.values().forEach(alerts -> alerts.values().removeIf(alert -> !isIndexed(alert)));
+            parked.values().removeIf(Map::isEmpty);
+        }
+    }
+
+    // 지정가 알람 추가 (이미 목표가에 도달한 상태라면 다음 가격 갱신 시 발동)
+    public void add(AlertEntity alert) {
+        if (!isIndexable(alert)) return;
+
+        synchronized (lock) {
+            addTo(books, alert);
+            if (journal != null) journal.add(new Change(alert, true));
+        }
+    }
+
+    // 지정가 알람 제거
+    public void remove(AlertEntity alert) {
+        if (alert == null || alert.getId() == null || alert.getCoin() == null) return;
+
+        synchronized (lock) {
+            removeFrom(books, alert);
+            unparkAlert(alert);
+            if (journal != null) journal.add(new Change(alert, false));
+        }
+    }
+
+    // 발동한 REARM 알람을 재무장 대기 상태로 전환
+    // 재무장 비율이 없는 알람(등록 검증 이전 데이터)은 대기 없이 그대로 두어 교차할 때마다 발동한다
+    public void disarm(AlertEntity alert) {
+        if (!isIndexable(alert) || !hasRearmPercentage(alert.getTargetPrice())) return;
+
+        synchronized (lock) {
+            SymbolBook book = books.get(alert.getCoin().getSymbol());
+            if (book != null) {
+                book.disarm(alert.getId());
+            }
+        }
+    }
+
+    // 교차했지만 전달하지 못한 알람(미접속, 쿨다운 등)을 사용자별로 보류 (가격 갱신 때는 다시 평가하지 않음)
+    public void park(AlertEntity alert) {
+        if (!isIndexable(alert) || alert.getUser() == null || alert.getUser().getId() == null) return;
+
+        synchronized (lock) {
+            if (!isIndexed(alert)) return;
+            parked.computeIfAbsent(alert.getUser().getId(), k -> new LinkedHashMap<>())
+                    .put(alert.getId(), alert);
+        }
+    }
+
+    // 사용자의 보류 알람을 꺼내 지금도 목표가를 넘어선 알람만 반환 (가격이 되돌아간 알람은 다음 교차를 기다린다)
+    public List<AlertEntity> unpark(Long userId) {
+        if (userId == null) return Collections.emptyList();
+
+        synchronized (lock) {
+            Map<Long, AlertEntity> alerts = parked.remove(userId);
+            if (alerts == null) return Collections.emptyList();
+
+            List<AlertEntity> reached = new ArrayList<>();
+            for (AlertEntity alert : alerts.values()) {
+                SymbolBook book = books.get(alert.getCoin().getSymbol());
+                if (book != null && book.isArmed(alert.getId()) && isReached(alert.getTargetPrice(), book.lastPrice())) {
+                    reached.add(alert);
+                }
+            }
+            return reached;
+        }
+    }
+
+    // 새 가격 반영 → 직전 가격과 현재 가격 사이의 목표가를 가진 알람만 반환
+    public List<AlertEntity> onPrice(String symbol, BigDecimal price) {
+        if (symbol == null || price == null) return Collections.emptyList();
+
+        return books.computeIfAbsent(symbol, k -> new SymbolBook()).cross(price);
+    }
+
+    // 0 보다 큰 재무장 비율이 있는지
+    static boolean hasRearmPercentage(TargetPriceEntity targetPrice) {
+        return targetPrice.getRearmPercentage() != null && targetPrice.getRearmPercentage().signum() > 0;
+    }
+
+    // 재무장 가격 (상승 알람: 목표가보다 X% 아래, 하락 알람: 목표가보다 X% 위, 재무장 비율이 있는 알람만 호출)
+    static BigDecimal rearmPrice(TargetPriceEntity targetPrice) {
+        BigDecimal ratio = targetPrice.getRearmPercentage().movePointLeft(2);
+        BigDecimal factor = targetPrice.getPercentage() > 0 ? BigDecimal.ONE.subtract(ratio) : BigDecimal.ONE.add(ratio);
+        return targetPrice.getPrice().multiply(factor);
+    }
+
+    // 가격 도달 여부 (상승: 가격 >= 목표가, 하락: 가격 <= 목표가)
+    public static boolean isReached(TargetPriceEntity targetPrice, BigDecimal price) {
+        if (targetPrice == null || price == null) return false;
+
+        int percent = targetPrice.getPercentage();
+        if (percent > 0) return price.compareTo(targetPrice.getPrice()) >= 0;
+        if (percent < 0) return price.compareTo(targetPrice.getPrice()) <= 0;
+        return false;
+    }
+
+    private static void addTo(Map<String, SymbolBook> target, AlertEntity alert) {
+        target.computeIfAbsent(alert.getCoin().getSymbol(), k -> new SymbolBook())
+                .put(alert, true);
+    }
+
+    private static void removeFrom(Map<String, SymbolBook> target, AlertEntity alert) {
+        SymbolBook book = target.get(alert.getCoin().getSymbol());
+        if (book != null) {
+            book.remove(alert.getId());
+        }
+    }
+
+    private void unparkAlert(AlertEntity alert) {
+        if (alert.getUser() == null) return;
+
+        Map<Long, AlertEntity> alerts = parked.get(alert.getUser().getId());
+        if (alerts != null) {
+            alerts.remove(alert.getId());
+            if (alerts.isEmpty()) parked.remove(alert.getUser().getId());
+        }
+    }
+
+    // 현재 인덱스에 (재무장 대기가 아닌 상태로) 들어 있는지
+    private boolean isIndexed(AlertEntity alert) {
+        SymbolBook book = books.get(alert.getCoin().getSymbol());
+        return book != null && book.isArmed(alert.getId());
+    }
+
+    private boolean isIndexable(AlertEntity alert) {
+        return alert != null
+                && alert.getId() != null
+                && Boolean.TRUE.equals(alert.getIsTargetPrice())
+                && alert.getTargetPrice() != null
+                && alert.getTargetPrice().getPrice() != null
+                && alert.getTargetPrice().getPercentage() != null
+                && alert.getTargetPrice().getPercentage() != 0
+                && alert.getCoin() != null
+                && alert.getCoin().getSymbol() != null;
+    }
+
+    private record Change(AlertEntity alert, boolean added) {}
+
+    // 심볼 하나에 대한 상승/하락 목표가 정렬 구조
+    private static class SymbolBook {
+        private final NavigableMap<BigDecimal, Map<Long, AlertEntity>> upward = new TreeMap<>();
+        private final NavigableMap<BigDecimal, Map<Long, AlertEntity>> downward = new TreeMap<>();
+        private final Map<Long, AlertEntity> alertsById = new HashMap<>();
+        // 등록 시점에 이미 목표가를 넘어선 알람 (다음 가격 갱신 때 한 번 평가)
+        private final Map<Long, AlertEntity> pending = new LinkedHashMap<>();
+        // 재무장 대기 알람 (상승 알람은 재무장 가격 이하로, 하락 알람은 이상으로 내려가야/올라가야 복귀)
+        private final NavigableMap<BigDecimal, Map<Long, AlertEntity>> rearmBelow = new TreeMap<>();
+        private final NavigableMap<BigDecimal, Map<Long, AlertEntity>> rearmAbove = new TreeMap<>();
+        private final Map<Long, BigDecimal> disarmed = new HashMap<>();
+        private BigDecimal lastPrice;
+
+        synchronized void put(AlertEntity alert, boolean checkPending) {
+            // 이미 인덱싱된 알람을 다시 넣는 경우(변경분 동기화)에는 재발동시키지 않는다
+            boolean existed = alertsById.containsKey(alert.getId());
+            boolean wasDisarmed = disarmed.containsKey(alert.getId());
+            remove(alert.getId());
+            if (wasDisarmed && hasRearmPercentage(alert.getTargetPrice())) {
+                putDisarmed(alert);
+                return;
+            }
+            if (existed) checkPending = false;
+
+            TargetPriceEntity targetPrice = alert.getTargetPrice();
+            side(targetPrice)
+                    .computeIfAbsent(targetPrice.getPrice(), k -> new LinkedHashMap<>())
+                    .put(alert.getId(), alert);
+            alertsById.put(alert.getId(), alert);
+
+            if (checkPending && lastPrice != null && isReached(targetPrice, lastPrice)) {
+                pending.put(alert.getId(), alert);
+            }
+        }
+
+        synchronized void putDisarmed(AlertEntity alert) {
+            remove(alert.getId());
+
+            BigDecimal rearmPrice = rearmPrice(alert.getTargetPrice());
+            rearmSide(alert.getTargetPrice())
+                    .computeIfAbsent(rearmPrice, k -> new LinkedHashMap<>())
+                    .put(alert.getId(), alert);
+            disarmed.put(alert.getId(), rearmPrice);
+            alertsById.put(alert.getId(), alert);
+        }
+
+        synchronized void disarm(Long alertId) {
+            AlertEntity alert = alertsById.get(alertId);
+            if (alert != null && !disarmed.containsKey(alertId)) {
+                putDisarmed(alert);
+            }
+        }
+
+        synchronized void remove(Long alertId) {
+            AlertEntity removed = alertsById.remove(alertId);
+            pending.remove(alertId);
+            if (removed == null) return;
+
+            TargetPriceEntity targetPrice = removed.getTargetPrice();
+            BigDecimal rearmPrice = disarmed.remove(alertId);
+            if (rearmPrice != null) {
+                removeFromBucket(rearmSide(targetPrice), rearmPrice, alertId);
+            } else {
+                removeFromBucket(side(targetPrice), targetPrice.getPrice(), alertId);
+            }
+        }
+
+        synchronized boolean contains(Long alertId) {
+            return alertsById.containsKey(alertId);
+        }
+
+        synchronized boolean isDisarmed(Long alertId) {
+            return disarmed.containsKey(alertId);
+        }
+
+        synchronized boolean isArmed(Long alertId) {
+            return alertsById.containsKey(alertId) && !disarmed.containsKey(alertId);
+        }
+
+        synchronized BigDecimal lastPrice() {
+            return lastPrice;
+        }
+
+        synchronized List<AlertEntity> cross(BigDecimal price) {
+            BigDecimal previous = lastPrice;
+            lastPrice = price;
+
+            Map<Long, AlertEntity> fired = new LinkedHashMap<>();
+            for (AlertEntity alert : pending.values()) {
+                if (isReached(alert.getTargetPrice(), price)) {
+                    fired.put(alert.getId(), alert);
+                }
+            }
+            pending.clear();
+
+            if (previous == null) {
+                // 첫 가격: 이미 도달한 알람 전체
+                collect(upward.headMap(price, true), fired);
+                collect(downward.tailMap(price, true), fired);
+            } else if (price.compareTo(previous) > 0) {
+                // 상승: (직전 가격, 현재 가격] 구간의 상승 목표가
+                collect(upward.subMap(previous, false, price, true), fired);
+            } else if (price.compareTo(previous) < 0) {
+                // 하락: [현재 가격, 직전 가격) 구간의 하락 목표가
+                collect(downward.subMap(price, true, previous, false), fired);
+            }
+
+            rearm(price);
+
+            return fired.isEmpty() ? Collections.emptyList() : new ArrayList<>(fired.values());
+        }
+
+        // 재무장 가격까지 되돌아온 알람을 다시 평가 대상으로
+        private void rearm(BigDecimal price) {
+            Map<Long, AlertEntity> rearmed = new LinkedHashMap<>();
+            collect(rearmBelow.tailMap(price, true), rearmed);
+            collect(rearmAbove.headMap(price, true), rearmed);
+
+            for (AlertEntity alert : rearmed.values()) {
+                remove(alert.getId());
+                put(alert, false);
+            }
+        }
+
+        private NavigableMap<BigDecimal, Map<Long, AlertEntity>> side(TargetPriceEntity targetPrice) {
+            return targetPrice.getPercentage() > 0 ? upward : downward;
+        }
+
+        private NavigableMap<BigDecimal, Map<Long, AlertEntity>> rearmSide(TargetPriceEntity targetPrice) {
+            return targetPrice.getPercentage() > 0 ? rearmBelow : rearmAbove;
+        }
+
+        private void removeFromBucket(NavigableMap<BigDecimal, Map<Long, AlertEntity>> side, BigDecimal key, Long alertId) {
+            Map<Long, AlertEntity> bucket = side.get(key);
+            if (bucket != null) {
+                bucket.remove(alertId);
+                if (bucket.isEmpty()) side.remove(key);
+            }
+        }
+
+        private void collect(Map<BigDecimal, Map<Long, AlertEntity>> range, Map<Long, AlertEntity> target) {
+            for (Map<Long, AlertEntity> bucket : range.values()) {
+                target.putAll(bucket);
+            }
+        }
+    }
+}
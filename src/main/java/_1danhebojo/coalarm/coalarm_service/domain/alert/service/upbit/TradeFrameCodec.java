@@ -0,0 +1,110 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// 업비트 체결 메시지 파서 / SSE 전송 프레임 인코더
+// 메시지를 문자열이나 트리로 바꾸지 않고 수신 버퍼를 스트리밍 파서로 한 번만 읽어 필요한 필드만 뽑고,
+// 전송 프레임은 필드 몇 개짜리 JSON 바이트로 한 번만 만들어 모든 구독자가 공유한다.
+// 프론트엔드가 쓰는 업비트 원본 키 이름(code, trade_price, ask_bid ...)은 그대로 유지한다.
+public class TradeFrameCodec {
+    private final JsonFactory jsonFactory = new JsonFactory()
+            .enable(JsonGenerator.Feature.WRITE_BIGDECIMAL_AS_PLAIN);
+    // WebSocket 수신 스레드별 출력 버퍼 재사용
+    private final ThreadLocal<ByteArrayOutputStream> outputBuffers =
+            ThreadLocal.withInitial(() -> new ByteArrayOutputStream(256));
+
+    // 체결 메시지 파싱 (체결이 아닌 메시지는 null)
+    public TradeTick parse(WebSocketMessage<?> message) throws IOException {
+        if (message.getPayload() instanceof ByteBuffer byteBuffer) {
+            if (byteBuffer.hasArray()) {
+                // 수신 버퍼를 복사하지 않고 그대로 읽는다
+                int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+                return parse(jsonFactory.createParser(byteBuffer.array(), offset, byteBuffer.remaining()));
+            }
+            byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(bytes);
+            return parse(jsonFactory.createParser(bytes));
+        }
+        return parse(jsonFactory.createParser(message.getPayload().toString()));
+    }
+
+    // 수신한 원본 메시지 바이트 (전체 체결 구독자에게 업비트 프레임을 그대로 전달)
+    public byte[] payloadBytes(WebSocketMessage<?> message) {
+        if (message.getPayload() instanceof ByteBuffer byteBuffer) {
+            byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.duplicate().get(bytes);
+            return bytes;
+        }
+        return message.getPayload().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 요약 체결 인코딩 (마지막 체결 + 직전 전송 이후 누적 거래량 / 체결 수)
+    public byte[] encode(TradeTick tick, BigDecimal aggVolume, int aggCount) throws IOException {
+        ByteArrayOutputStream out = outputBuffers.get();
+        out.reset();
+
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", "trade");
+            generator.writeStringField("code", tick.code());
+            generator.writeNumberField("trade_price", tick.price());
+            generator.writeNumberField("trade_volume", tick.volume());
+            if (tick.side() != null) generator.writeStringField("ask_bid", tick.side());
+            generator.writeNumberField("trade_timestamp", tick.timestamp());
+            if (tick.change() != null) generator.writeStringField("change", tick.change());
+            if (tick.changePrice() != null) generator.writeNumberField("change_price", tick.changePrice());
+            if (aggVolume != null) {
+                generator.writeNumberField("agg_volume", aggVolume);
+                generator.writeNumberField("agg_count", aggCount);
+            }
+            generator.writeEndObject();
+        }
+        return out.toByteArray();
+    }
+
+    private TradeTick parse(JsonParser parser) throws IOException {
+        try (parser) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+
+            String code = null;
+            BigDecimal price = null;
+            BigDecimal volume = BigDecimal.ZERO;
+            String side = null;
+            long timestamp = 0L;
+            String change = null;
+            BigDecimal changePrice = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL) continue;
+
+                switch (field) {
+                    case "code" -> code = parser.getText();
+                    case "trade_price" -> price = parser.getDecimalValue();
+                    case "trade_volume" -> volume = parser.getDecimalValue();
+                    case "ask_bid" -> side = parser.getText();
+                    case "trade_timestamp" -> timestamp = parser.getLongValue();
+                    case "change" -> change = parser.getText();
+                    case "change_price" -> changePrice = parser.getDecimalValue();
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (code == null || price == null) return null;
+
+            String symbol = code.substring(code.indexOf('-') + 1); // 예: "KRW-BTC" → "BTC"
+            return new TradeTick(code, symbol, price, volume, side, timestamp, change, changePrice);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit;
+
+import java.math.BigDecimal;
+
+// 업비트 체결 메시지에서 화면에 필요한 필드만 뽑은 값
+// code: 업비트 마켓 코드 (예: KRW-BTC), symbol: 마켓 코드에서 뗀 심볼 (예: BTC)
+// side: ASK(매도) / BID(매수), change: RISE / EVEN / FALL (전일 종가 대비)
+public record TradeTick(
+        String code,
+        String symbol,
+        BigDecimal price,
+        BigDecimal volume,
+        String side,
+        long timestamp,
+        String change,
+        BigDecimal changePrice
+) {
+}
@@ -0,0 +1,206 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.UpbitProperties;
+import _1danhebojo.coalarm.coalarm_service.global.websocket.ReconnectingWebSocket;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// 업비트 WebSocket 구독 관리
+// 심볼별 구독자 수를 세고, 변경이 몰리면 debounce 후 세션별로 codes 전체 목록을 한 번만 보낸다.
+// (업비트는 새 요청이 이전 구독을 대체하므로 항상 전체 목록을 보내야 한다)
+// 구독자가 0이 된 심볼은 빠지고, codes 가 maxCodesPerSession 을 넘으면 세션을 나눈다.
+@Slf4j
+public class UpbitSubscriptionManager {
+    private final String type;
+    private final String ticket;
+    private final UpbitProperties upbitProperties;
+    private final Consumer<WebSocketMessage<?>> messageHandler;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, Integer> refCounts = new HashMap<>();
+    // 심볼 → 담당 세션
+    private final Map<String, Shard> assignments = new HashMap<>();
+    private final List<Shard> shards = new ArrayList<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+
+    public UpbitSubscriptionManager(String type, String ticket, UpbitProperties upbitProperties,
+                                    Consumer<WebSocketMessage<?>> messageHandler) {
+        this.type = type;
+        this.ticket = ticket;
+        this.upbitProperties = upbitProperties;
+        this.messageHandler = messageHandler;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "upbit-" + type + "-subscription");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 심볼 구독자 추가
+    public void acquire(String symbol) {
+        synchronized (this) {
+            refCounts.merge(symbol, 1, Integer::sum);
+        }
+        scheduleFlush();
+    }
+
+    // 심볼 구독자 제거 (0이 되면 구독 해제)
+    public void release(String symbol) {
+        synchronized (this) {
+            refCounts.computeIfPresent(symbol, (k, count) -> count > 1 ? count - 1 : null);
+        }
+        scheduleFlush();
+    }
+
+    // 구독자가 하나라도 남아 있는 심볼인지
+    public synchronized boolean isSubscribed(String symbol) {
+        return refCounts.containsKey(symbol);
+    }
+
+    public synchronized int getSymbolCount() {
+        return refCounts.size();
+    }
+
+    public synchronized int getSessionCount() {
+        return shards.size();
+    }
+
+    // 구독 중인 심볼이 있고 모든 세션이 연결되어 있는지
+    public synchronized boolean isConnected() {
+        return !shards.isEmpty() && shards.stream().allMatch(Shard::isOpen);
+    }
+
+    public void close() {
+        closed = true;
+        scheduler.shutdownNow();
+        synchronized (this) {
+            shards.forEach(Shard::close);
+            shards.clear();
+            assignments.clear();
+        }
+    }
+
+    private void scheduleFlush() {
+        if (closed || !flushScheduled.compareAndSet(false, true)) return;
+
+        try {
+            scheduler.schedule(() -> {
+                flushScheduled.set(false);
+                flush();
+            }, upbitProperties.getSubscribeDebounce(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flushScheduled.set(false);
+        }
+    }
+
+    // 현재 구독자 수 기준으로 세션별 codes 재배치 후 바뀐 세션에만 구독 요청
+    private synchronized void flush() {
+        if (closed) return;
+
+        Set<Shard> changed = new HashSet<>();
+
+        // 구독자가 없어진 심볼 제거
+        Iterator<Map.Entry<String, Shard>> it = assignments.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Shard> entry = it.next();
+            if (!refCounts.containsKey(entry.getKey())) {
+                entry.getValue().symbols.remove(entry.getKey());
+                changed.add(entry.getValue());
+                it.remove();
+            }
+        }
+
+        // 새 심볼은 여유가 있는 세션에 배정 (없으면 세션 추가)
+        for (String symbol : refCounts.keySet()) {
+            if (assignments.containsKey(symbol)) continue;
+
+            Shard shard = availableShard();
+            shard.symbols.add(symbol);
+            assignments.put(symbol, shard);
+            changed.add(shard);
+        }
+
+        for (Shard shard : changed) {
+            if (shard.symbols.isEmpty()) {
+                shard.close();
+                shards.remove(shard);
+            } else {
+                shard.sendSubscription();
+            }
+        }
+    }
+
+    private Shard availableShard() {
+        int maxCodes = Math.max(1, upbitProperties.getMaxCodesPerSession());
+        return shards.stream()
+                .filter(shard -> shard.symbols.size() < maxCodes)
+                .min(Comparator.comparingInt(shard -> shard.symbols.size()))
+                .orElseGet(() -> {
+                    Shard shard = new Shard(shards.size());
+                    shards.add(shard);
+                    shard.connect();
+                    return shard;
+                });
+    }
+
+    // WebSocket 세션 하나와 그 세션이 담당하는 심볼 목록
+    private class Shard {
+        private final Set<String> symbols = new TreeSet<>();
+        private final ReconnectingWebSocket connection;
+
+        Shard(int index) {
+            this.connection = new ReconnectingWebSocket(
+                    "업비트 " + type + " (세션 " + index + ")",
+                    upbitProperties.getWebsocketUrl(),
+                    upbitProperties.getReconnectDelay(),
+                    scheduler,
+                    () -> {
+                        synchronized (UpbitSubscriptionManager.this) {
+                            sendSubscription();
+                        }
+                    },
+                    messageHandler);
+        }
+
+        void connect() {
+            connection.connect();
+        }
+
+        boolean isOpen() {
+            return connection.isOpen();
+        }
+
+        // 이 세션이 담당하는 전체 codes 로 구독 요청 (호출 측에서 manager 락 보유)
+        void sendSubscription() {
+            if (symbols.isEmpty() || !connection.isOpen()) return;
+
+            try {
+                List<String> codes = symbols.stream()
+                        .map(symbol -> "KRW-" + symbol)
+                        .toList();
+                List<Map<String, Object>> request = List.of(
+                        Map.of("ticket", ticket),
+                        Map.of("type", type, "codes", codes)
+                );
+                if (connection.send(objectMapper.writeValueAsString(request))) {
+                    log.info("✅ 업비트 {} 구독 갱신: {}개 심볼", type, codes.size());
+                }
+            } catch (JsonProcessingException e) {
+                log.warn("{} 구독 요청 생성 실패: {}", type, e.getMessage());
+            }
+        }
+
+        void close() {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.UpbitProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+// 업비트 KRW ticker 공용 스트림
+// 알람 평가(활성 알람이 걸린 심볼)와 실시간 김치 프리미엄 등 여러 구독자가 같은 연결을 나눠 쓰고,
+// 가격이 들어올 때마다 등록된 리스너 전체에 전달한다. 심볼은 구독자 수를 세서 아무도 쓰지 않을 때만 구독 해제한다.
+// 연결/재연결/세션 분할은 UpbitSubscriptionManager 가 담당한다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UpbitTickerStream {
+    private static final String TICKET = "alert-ticker";
+
+    private final UpbitProperties upbitProperties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 알람 평가가 구독 중인 심볼 (updateSymbols / addSymbol 로 관리)
+    private final Set<String> subscribedSymbols = new HashSet<>();
+    private final Map<String, BigDecimal> latestPrices = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, BigDecimal>> listeners = new CopyOnWriteArrayList<>();
+    private UpbitSubscriptionManager subscriptionManager;
+
+    @PostConstruct
+    public void init() {
+        // 실제 구독할 심볼이 생길 때 WebSocket 연결
+        subscriptionManager = new UpbitSubscriptionManager("ticker", TICKET, upbitProperties, this::handleMessage);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (subscriptionManager != null) {
+            subscriptionManager.close();
+        }
+    }
+
+    // 가격 수신 리스너 등록 (심볼, 현재가)
+    public void addListener(BiConsumer<String, BigDecimal> listener) {
+        listeners.add(listener);
+    }
+
+    public boolean isConnected() {
+        return subscriptionManager != null && subscriptionManager.isConnected();
+    }
+
+    // 스트림으로 받은 최신 가격 조회
+    public Map<String, BigDecimal> getLatestPrices(Collection<String> symbols) {
+        Map<String, BigDecimal> prices = new HashMap<>();
+        for (String symbol : symbols) {
+            BigDecimal price = latestPrices.get(symbol);
+            if (price != null) prices.put(symbol, price);
+        }
+        return prices;
+    }
+
+    // 알람 평가 구독 심볼 전체 교체 (바뀐 심볼만 구독/해제)
+    public synchronized void updateSymbols(Collection<String> symbols) {
+        if (subscriptionManager == null) return;
+
+        Set<String> next = new HashSet<>(symbols);
+        for (String symbol : subscribedSymbols) {
+            if (!next.contains(symbol)) subscriptionManager.release(symbol);
+        }
+        for (String symbol : next) {
+            if (!subscribedSymbols.contains(symbol)) subscriptionManager.acquire(symbol);
+        }
+
+        subscribedSymbols.clear();
+        subscribedSymbols.addAll(next);
+        // 다른 구독자가 쓰는 심볼의 가격은 남긴다
+        latestPrices.keySet().removeIf(symbol -> !subscriptionManager.isSubscribed(symbol));
+    }
+
+    // 알람 평가 구독 심볼 추가
+    public synchronized void addSymbol(String symbol) {
+        if (subscriptionManager == null || symbol == null || !subscribedSymbols.add(symbol)) return;
+        subscriptionManager.acquire(symbol);
+    }
+
+    // 알람 평가 외 구독자의 심볼 구독 (구독자 수 증가)
+    public void subscribe(Collection<String> symbols) {
+        if (subscriptionManager == null) return;
+        symbols.forEach(subscriptionManager::acquire);
+    }
+
+    // 알람 평가 외 구독자의 심볼 구독 해제 (구독자 수 감소)
+    public void unsubscribe(Collection<String> symbols) {
+        if (subscriptionManager == null) return;
+        for (String symbol : symbols) {
+            subscriptionManager.release(symbol);
+            if (!subscriptionManager.isSubscribed(symbol)) {
+                latestPrices.remove(symbol);
+            }
+        }
+    }
+
+    private void handleMessage(WebSocketMessage<?> message) {
+        try {
+            JsonNode node;
+            if (message.getPayload() instanceof ByteBuffer byteBuffer) {
+                byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.get(bytes);
+                node = objectMapper.readTree(bytes);
+            } else {
+                node = objectMapper.readTree(message.getPayload().toString());
+            }
+
+            JsonNode code = node.get("code");
+            JsonNode tradePrice = node.get("trade_price");
+            if (code == null || tradePrice == null) return;
+
+            String market = code.asText(); // 예: "KRW-BTC"
+            String symbol = market.substring(market.indexOf('-') + 1);
+            BigDecimal price = tradePrice.decimalValue();
+
+            latestPrices.put(symbol, price);
+            for (BiConsumer<String, BigDecimal> listener : listeners) {
+                listener.accept(symbol, price);
+            }
+        } catch (Exception e) {
+            log.error("❌ ticker 메시지 처리 중 오류", e);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package _1danhebojo.coalarm.coalarm_service.domain.coin.service;
+
+import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.jpa.CoinJpaRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 코인 이름/심볼 검색 인덱스
+// 이름, 심볼, 이름의 초성(ㅂㅌㅋㅇ)을 정규화해 두고 두 글자 단위(bigram) 역색인으로 후보를 좁힌 뒤 실제 포함 여부를 확인한다.
+// 결과는 일치 정도(정확 일치 > 접두어 > 부분 문자열) 순으로 정렬하며, 코인 목록이 바뀌었을 때만 인덱스를 다시 만든다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CoinSearchIndex {
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int JUNGSUNG_JONGSUNG_COUNT = 21 * 28;
+
+    private final CoinJpaRepository coinJpaRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyList());
+
+    @PostConstruct
+    public void init() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("코인 검색 인덱스 초기 구성 실패 (다음 갱신 때 재시도): {}", e.getMessage());
+        }
+    }
+
+    // 코인 목록이 바뀐 경우에만 인덱스 재구성
+    @Scheduled(fixedDelayString = "#{@coinProperties.searchIndexRefresh}")
+    public void refresh() {
+        List<CoinEntity> coins = coinJpaRepository.findAll();
+        if (sameCoins(snapshot.coins(), coins)) return;
+
+        snapshot = new Snapshot(coins);
+        log.info("코인 검색 인덱스 구성 완료: {}개", coins.size());
+    }
+
+    // 키워드 검색 (키워드가 없으면 전체 코인을 id 순으로)
+    public List<CoinEntity> search(String keyword) {
+        Snapshot current = snapshot;
+        String query = normalize(keyword);
+        if (query.isEmpty()) return current.coins();
+
+        boolean chosungQuery = isChosungOnly(query);
+        List<ScoredCoin> matches = new ArrayList<>();
+
+        BitSet candidates = current.candidates(query);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            Entry entry = current.entries().get(i);
+            int score = entry.score(query, chosungQuery);
+            if (score >= 0) {
+                matches.add(new ScoredCoin(entry, score));
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(ScoredCoin::score)
+                .thenComparingInt(match -> match.entry().name().length())
+                .thenComparing(match -> match.entry().coin().getId(), Comparator.nullsLast(Comparator.naturalOrder())));
+        return matches.stream().map(match -> match.entry().coin()).toList();
+    }
+
+    public int size() {
+        return snapshot.coins().size();
+    }
+
+    // 소문자 + 공백 제거
+    static String normalize(String text) {
+        if (text == null) return "";
+
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(Character.toLowerCase(c));
+            }
+        }
+        return builder.toString();
+    }
+
+    // 한글 음절은 초성으로, 나머지 글자는 그대로
+    static String toChosung(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                builder.append(CHOSUNG[(c - HANGUL_BEGIN) / JUNGSUNG_JONGSUNG_COUNT]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isChosungOnly(String query) {
+        for (int i = 0; i < query.length(); i++) {
+            if (Arrays.binarySearch(CHOSUNG, query.charAt(i)) < 0) return false;
+        }
+        return true;
+    }
+
+    private static boolean sameCoins(List<CoinEntity> current, List<CoinEntity> loaded) {
+        if (current.size() != loaded.size()) return false;
+
+        Map<Long, CoinEntity> byId = new HashMap<>();
+        current.forEach(coin -> byId.put(coin.getId(), coin));
+        for (CoinEntity coin : loaded) {
+            CoinEntity existing = byId.get(coin.getId());
+            if (existing == null
+                    || !Objects.equals(existing.getSymbol(), coin.getSymbol())
+                    || !Objects.equals(existing.getName(), coin.getName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 코인 하나의 정규화된 검색 키
+    private record Entry(CoinEntity coin, String name, String symbol, String chosung) {
+
+        static Entry of(CoinEntity coin) {
+            String name = normalize(coin.getName());
+            return new Entry(coin, name, normalize(coin.getSymbol()), toChosung(name));
+        }
+
+        // 일치 정도 (작을수록 우선, 일치하지 않으면 -1)
+        int score(String query, boolean chosungQuery) {
+            if (symbol.equals(query)) return 0;
+            if (name.equals(query)) return 1;
+            if (symbol.startsWith(query)) return 2;
+            if (name.startsWith(query)) return 3;
+            if (chosungQuery && chosung.startsWith(query)) return 4;
+            if (symbol.contains(query)) return 5;
+            if (name.contains(query)) return 6;
+            if (chosungQuery && chosung.contains(query)) return 7;
+            return -1;
+        }
+    }
+
+    private record ScoredCoin(Entry entry, int score) {
+    }
+
+    // 한 번 만든 뒤 바뀌지 않는 인덱스 (재구성 시 통째로 교체)
+    private static class Snapshot {
+        private final List<CoinEntity> coins;
+        private final List<Entry> entries;
+        // bigram → 해당 bigram 을 이름/심볼/초성 중 하나에 포함한 코인 위치
+        private final Map<String, BitSet> postings = new HashMap<>();
+
+        Snapshot(List<CoinEntity> coins) {
+            this.coins = coins.stream()
+                    .sorted(Comparator.comparing(CoinEntity::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .toList();
+            this.entries = this.coins.stream().map(Entry::of).toList();
+
+            for (int i = 0; i < entries.size(); i++) {
+                Entry entry = entries.get(i);
+                index(entry.name(), i);
+                index(entry.symbol(), i);
+                index(entry.chosung(), i);
+            }
+        }
+
+        List<CoinEntity> coins() {
+            return coins;
+        }
+
+        List<Entry> entries() {
+            return entries;
+        }
+
+        // 검색어의 모든 bigram 을 가진 코인만 후보로 (한 글자 검색어는 전체가 후보)
+        BitSet candidates(String query) {
+            BitSet result = new BitSet(entries.size());
+            result.set(0, entries.size());
+            if (query.length() < 2) return result;
+
+            for (int i = 0; i + 1 < query.length(); i++) {
+                BitSet posting = postings.get(query.substring(i, i + 2));
+                if (posting == null) return new BitSet();
+                result.and(posting);
+                if (result.isEmpty()) break;
+            }
+            return result;
+        }
+
+        private void index(String key, int position) {
+            for (int i = 0; i + 1 < key.length(); i++) {
+                postings.computeIfAbsent(key.substring(i, i + 2), k -> new BitSet()).set(position);
+            }
+        }
+    }
+}
@@ -6,6 +6,8 @@ import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.CoinRepository
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller.response.CoinDTO;
 import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.jpa.CoinJpaRepository;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.LatestTickerEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.TickerSnapshotCache;
 import _1danhebojo.coalarm.coalarm_service.global.api.ApiException;
 import _1danhebojo.coalarm.coalarm_service.global.api.AppHttpStatus;
 import _1danhebojo.coalarm.coalarm_service.global.api.OffsetResponse;
@@ -15,6 +17,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
@@ -23,6 +26,7 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -34,6 +38,8 @@ public class CoinServiceImpl implements CoinService {
 
     private final CoinJpaRepository coinJpaRepository;
     private final CoinRepository coinRepository;
+    private final TickerSnapshotCache tickerSnapshotCache;
+    private final CoinSearchIndex coinSearchIndex;
 
     @Override
     @Transactional(readOnly = true)
@@ -102,15 +108,16 @@ public class CoinServiceImpl implements CoinService {
         return new CoinDTO(coinEntity);
     }
 
+    // 검색은 메모리 인덱스만 사용하므로 트랜잭션(DB 커넥션) 없이 수행
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<CoinDTO> searchCoinByNameOrSymbol(String term) {
         if (term == null || term.trim().isEmpty()) {
             throw new ApiException(AppHttpStatus.EMPTY_SEARCH_TERM);
         }
 
-        // 검색 수행
-        List<CoinEntity> coins = coinJpaRepository.findByNameContainingIgnoreCaseOrSymbolContainingIgnoreCase(term, term);
+        // 검색 수행 (이름/심볼 부분 일치 + 초성 검색, 일치 정도 순)
+        List<CoinEntity> coins = coinSearchIndex.search(term);
 
         // 검색 결과가 없는 경우 처리
         if (coins.isEmpty()) {
@@ -124,9 +131,19 @@ public class CoinServiceImpl implements CoinService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<CoinWithPriceDTO> searchCoinWithPrice(String keyword, String quoteSymbol) {
-        return coinRepository.searchCoinsWithLatestPrice(keyword, quoteSymbol);
+        // 검색 인덱스 결과에 최신 티커 캐시 가격을 붙인다 (가격이 없는 코인은 제외)
+        List<CoinWithPriceDTO> result = new ArrayList<>();
+        for (CoinEntity coin : coinSearchIndex.search(keyword)) {
+            tickerSnapshotCache.getLatest(coin.getSymbol(), quoteSymbol).ifPresent(ticker ->
+                    result.add(toCoinWithPrice(coin, ticker)));
+        }
+        return result;
+    }
+
+    private CoinWithPriceDTO toCoinWithPrice(CoinEntity coin, LatestTickerEntity ticker) {
+        return new CoinWithPriceDTO(coin.getId(), coin.getName(), coin.getSymbol(), ticker.getLast(), ticker.getTimestamp());
     }
 
     @Override
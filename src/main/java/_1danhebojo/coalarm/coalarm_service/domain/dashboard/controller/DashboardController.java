@@ -2,13 +2,19 @@ package _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller;
 
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller.response.CoinIndicatorResponse;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller.response.ResponseKimchiPremium;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.KimchiPremiumPage;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.KimchiPremiumService;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.kimchi.LiveKimchiPremiumService;
 import _1danhebojo.coalarm.coalarm_service.global.api.BaseResponse;
 import _1danhebojo.coalarm.coalarm_service.global.api.OffsetResponse;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -25,6 +31,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class DashboardController {
     private final CoinIndicatorService coinIndicatorService;
     private final KimchiPremiumService kimchiPremiumService;
+    private final LiveKimchiPremiumService liveKimchiPremiumService;
 
     @GetMapping("/{symbol}/index")
     public ResponseEntity<BaseResponse<CoinIndicatorResponse>> getDashboardIndicators(@PathVariable("symbol") String symbol) {
@@ -35,11 +42,22 @@ public class DashboardController {
     @GetMapping("/kimchi")
     public ResponseEntity<OffsetResponse<ResponseKimchiPremium>> getKimchiPremium(
             @RequestParam(name = "offset") @Min(0) Integer offset,
-            @RequestParam(name = "limit") @Min(1) Integer limit
+            @RequestParam(name = "limit") @Min(1) Integer limit,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
+        // 마지막 계산 이후 바뀐 게 없으면 본문 없이 304 (페이지와 ETag 는 같은 스냅샷 기준)
+        KimchiPremiumPage page = kimchiPremiumService.getKimchiPremiums(offset, limit);
+        if (page.eTag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(page.eTag()).build();
+        }
 
-        OffsetResponse<ResponseKimchiPremium> response = kimchiPremiumService.getKimchiPremiums(offset, limit);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(page.eTag()).body(page.response());
+    }
+
+    // 실시간 김치 프리미엄 SSE (kimchi.stream-enabled=true 일 때만)
+    @GetMapping(value = "/kimchi/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeLiveKimchiPremium() {
+        return liveKimchiPremiumService.addEmitter();
     }
 
 }
@@ -0,0 +1,20 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class LiveKimchiPremiumResponse {
+    private final Long coinId;
+    private final String symbol;
+    private final BigDecimal domesticPrice;
+    private final BigDecimal globalPrice;
+    private final BigDecimal exchangeRate;
+    private final BigDecimal kimchiPremium;
+    private final BigDecimal dailyChange;
+    private final Instant timestamp;
+}
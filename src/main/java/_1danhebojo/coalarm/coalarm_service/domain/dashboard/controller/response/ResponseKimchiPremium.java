@@ -17,7 +17,12 @@ public class ResponseKimchiPremium {
 
     // 생성자
     public ResponseKimchiPremium(KimchiPremiumEntity entity) {
-        this.premiumId = entity.getId();
+        this(entity.getId(), entity);
+    }
+
+    // 일괄 INSERT 로 저장해 엔티티에 ID 가 없는 경우
+    public ResponseKimchiPremium(Long premiumId, KimchiPremiumEntity entity) {
+        this.premiumId = premiumId;
         this.domesticPrice = entity.getDomesticPrice();
         this.globalPrice = entity.getGlobalPrice();
         this.exchangeRate = entity.getExchangeRate();
@@ -2,10 +2,17 @@ package _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository;
 
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.CandleEntity;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 public interface CandleRepository {
     List<CandleEntity> findRecentCandles(String symbol, int limit);
 
     List<CandleEntity> findDailyCandles(String symbol, int limit);
+
+    Optional<Instant> findLatestTimestamp(String timeframe);
+
+    int rollup(String sourceTimeframe, String targetTimeframe, Duration interval, Instant from, Instant to);
 }
@@ -2,19 +2,46 @@ package _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository;
 
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.CandleEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.QCandleEntity;
-import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
-
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class CandleRepositoryImpl implements CandleRepository {
 
+    private static final String ROLLUP_SQL = """
+            INSERT INTO candles (timestamp, exchange, base_symbol, quote_symbol, timeframe, open, high, low, close, volume)
+            SELECT bucket, exchange, base_symbol, quote_symbol, ?,
+                   (array_agg(open ORDER BY timestamp))[1],
+                   max(high),
+                   min(low),
+                   (array_agg(close ORDER BY timestamp DESC))[1],
+                   sum(volume)
+            FROM (
+                SELECT date_bin(make_interval(secs => ?), timestamp, TIMESTAMPTZ '1970-01-01 00:00:00+00') AS bucket,
+                       exchange, base_symbol, quote_symbol, timestamp, open, high, low, close, volume
+                FROM candles
+                WHERE timeframe = ? AND timestamp >= ? AND timestamp < ?
+            ) source
+            GROUP BY bucket, exchange, base_symbol, quote_symbol
+            ON CONFLICT (timestamp, exchange, base_symbol, quote_symbol, timeframe) DO UPDATE SET
+                open = EXCLUDED.open,
+                high = EXCLUDED.high,
+                low = EXCLUDED.low,
+                close = EXCLUDED.close,
+                volume = EXCLUDED.volume
+            """;
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<CandleEntity> findRecentCandles(String symbol, int limit) {
@@ -33,6 +60,7 @@ public class CandleRepositoryImpl implements CandleRepository {
                 .fetch();
     }
 
+    // 롤업된 일봉 (timeframe = 1d, 키 기준 조회)
     @Override
     public List<CandleEntity> findDailyCandles(String symbol, int limit) {
         QCandleEntity candle = QCandleEntity.candleEntity;
@@ -43,15 +71,34 @@ public class CandleRepositoryImpl implements CandleRepository {
                         candle.id.exchange.eq("upbit"),
                         candle.id.baseSymbol.eq(symbol),
                         candle.id.quoteSymbol.eq("KRW"),
-                        candle.id.timeframe.eq("1m"),  // 분봉 데이터
-                        // 시간이 0시(자정)이고 분이 0분인 데이터만 필터링
-                        Expressions.numberTemplate(Integer.class,
-                                "extract(hour from {0})", candle.id.timestamp).eq(0),
-                        Expressions.numberTemplate(Integer.class,
-                                "extract(minute from {0})", candle.id.timestamp).eq(0)
+                        candle.id.timeframe.eq("1d")
                 )
                 .orderBy(candle.id.timestamp.desc())  // 최신 날짜부터 정렬
                 .limit(limit)
                 .fetch();
     }
+
+    @Override
+    public Optional<Instant> findLatestTimestamp(String timeframe) {
+        QCandleEntity candle = QCandleEntity.candleEntity;
+
+        Instant latest = queryFactory
+                .select(candle.id.timestamp.max())
+                .from(candle)
+                .where(candle.id.timeframe.eq(timeframe))
+                .fetchOne();
+        return Optional.ofNullable(latest);
+    }
+
+    // [from, to) 구간의 하위 봉을 interval 단위로 묶어 상위 봉으로 upsert (반환값은 반영된 행 수)
+    // 시가는 구간 첫 봉의 시가, 종가는 마지막 봉의 종가이며 버킷은 UTC 기준으로 나눈다.
+    @Override
+    public int rollup(String sourceTimeframe, String targetTimeframe, Duration interval, Instant from, Instant to) {
+        return jdbcTemplate.update(ROLLUP_SQL,
+                targetTimeframe,
+                interval.getSeconds(),
+                sourceTimeframe,
+                Timestamp.from(from),
+                Timestamp.from(to));
+    }
 }
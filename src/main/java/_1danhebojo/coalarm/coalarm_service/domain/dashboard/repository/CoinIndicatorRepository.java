@@ -0,0 +1,9 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository;
+
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.CoinIndicatorEntity;
+
+import java.util.List;
+
+public interface CoinIndicatorRepository {
+    void saveAll(List<CoinIndicatorEntity> indicators);
+}
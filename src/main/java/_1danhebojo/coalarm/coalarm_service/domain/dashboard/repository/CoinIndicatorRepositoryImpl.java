@@ -0,0 +1,49 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository;
+
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.CoinIndicatorEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class CoinIndicatorRepositoryImpl implements CoinIndicatorRepository {
+
+    // 한 번의 INSERT 에 담는 최대 행 수 (PostgreSQL 바인드 파라미터 수 제한 고려)
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final int COLUMN_COUNT = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 코인지표 multi-row INSERT (INSERT_CHUNK_SIZE 행 단위)
+    @Override
+    public void saveAll(List<CoinIndicatorEntity> indicators) {
+        for (int from = 0; from < indicators.size(); from += INSERT_CHUNK_SIZE) {
+            List<CoinIndicatorEntity> chunk = indicators.subList(from, Math.min(from + INSERT_CHUNK_SIZE, indicators.size()));
+
+            StringBuilder sql = new StringBuilder("INSERT INTO coin_indicators "
+                    + "(long_strength, macd, signal, histogram, trend, rsi, reg_dt, coin_id) VALUES ");
+            Object[] args = new Object[chunk.size() * COLUMN_COUNT];
+
+            for (int i = 0; i < chunk.size(); i++) {
+                CoinIndicatorEntity indicator = chunk.get(i);
+                sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?, ?, ?)");
+                int offset = i * COLUMN_COUNT;
+                args[offset] = indicator.getLongStrength();
+                args[offset + 1] = indicator.getMacd();
+                args[offset + 2] = indicator.getSignal();
+                args[offset + 3] = indicator.getHistogram();
+                args[offset + 4] = indicator.getTrend();
+                args[offset + 5] = indicator.getRsi();
+                args[offset + 6] = Timestamp.from(indicator.getRegDt() != null ? indicator.getRegDt() : Instant.now());
+                args[offset + 7] = indicator.getCoin().getId();
+            }
+
+            jdbcTemplate.update(sql.toString(), args);
+        }
+    }
+}
@@ -3,8 +3,11 @@ package _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository;
 import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.KimchiPremiumEntity;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface KimchiPremiumRepository {
@@ -16,5 +19,9 @@ public interface KimchiPremiumRepository {
             LocalDateTime toDateTime
     );
 
-    long countAllKimchiPremiums();
+    List<KimchiPremiumEntity> findLatestKimchiPremiumsSince(Instant since);
+
+    Map<Long, BigDecimal> findLastPremiumsBetween(LocalDateTime fromDateTime, LocalDateTime toDateTime);
+
+    Map<Long, Long> saveAll(List<KimchiPremiumEntity> premiums);
 }
@@ -3,22 +3,33 @@ package _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository;
 import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.KimchiPremiumEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.QKimchiPremiumEntity;
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class KimchiPremiumRepositoryImpl implements KimchiPremiumRepository{
 
+    // 한 번의 INSERT 에 담는 최대 행 수 (PostgreSQL 바인드 파라미터 수 제한 고려)
+    private static final int INSERT_CHUNK_SIZE = 1000;
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public List<KimchiPremiumEntity> findAllKimchiPremiums(int offset, int limit) {
@@ -66,16 +77,83 @@ public class KimchiPremiumRepositoryImpl implements KimchiPremiumRepository{
         return Optional.ofNullable(result);
     }
 
+    // since 이후 저장된 김치 프리미엄 중 코인별 최신 행 (reg_dt 인덱스 범위 조회)
     @Override
-    public long countAllKimchiPremiums() {
+    public List<KimchiPremiumEntity> findLatestKimchiPremiumsSince(Instant since) {
         QKimchiPremiumEntity kp = QKimchiPremiumEntity.kimchiPremiumEntity;
+        QKimchiPremiumEntity kpSub = new QKimchiPremiumEntity("kpSub");
 
-        // 중복 없이 코인 ID의 종류 수 카운트
-        Long count = queryFactory
-                .select(kp.coin.id.countDistinct())
+        return queryFactory
+                .selectFrom(kp)
+                .join(kp.coin).fetchJoin()
+                .where(kp.id.in(
+                        JPAExpressions
+                                .select(kpSub.id.max())
+                                .from(kpSub)
+                                .where(kpSub.regDt.goe(since))
+                                .groupBy(kpSub.coin.id)
+                ))
+                .fetch();
+    }
+
+    // 기간 내 코인별 마지막 김치 프리미엄 (코인 ID → 김치 프리미엄, 한 번의 쿼리)
+    @Override
+    public Map<Long, BigDecimal> findLastPremiumsBetween(LocalDateTime fromDateTime, LocalDateTime toDateTime) {
+        QKimchiPremiumEntity kp = QKimchiPremiumEntity.kimchiPremiumEntity;
+        QKimchiPremiumEntity kpSub = new QKimchiPremiumEntity("kpSub");
+
+        Instant fromInstant = fromDateTime.atZone(ZoneId.systemDefault()).toInstant();
+        Instant toInstant = toDateTime.atZone(ZoneId.systemDefault()).toInstant();
+
+        List<Tuple> rows = queryFactory
+                .select(kp.coin.id, kp.kimchiPremium)
                 .from(kp)
-                .fetchOne();
-        // (null 처리 추가)
-        return count != null ? count : 0L;
+                .where(kp.id.in(
+                        JPAExpressions
+                                .select(kpSub.id.max())
+                                .from(kpSub)
+                                .where(
+                                        kpSub.regDt.goe(fromInstant),
+                                        kpSub.regDt.loe(toInstant)
+                                )
+                                .groupBy(kpSub.coin.id)
+                ))
+                .fetch();
+
+        Map<Long, BigDecimal> result = new HashMap<>();
+        for (Tuple row : rows) {
+            result.put(row.get(kp.coin.id), row.get(kp.kimchiPremium));
+        }
+        return result;
+    }
+
+    // 김치 프리미엄 multi-row INSERT (INSERT_CHUNK_SIZE 행 단위, 코인 ID → 생성된 김치 프리미엄 ID 반환)
+    @Override
+    public Map<Long, Long> saveAll(List<KimchiPremiumEntity> premiums) {
+        Map<Long, Long> premiumIds = new HashMap<>();
+        for (int from = 0; from < premiums.size(); from += INSERT_CHUNK_SIZE) {
+            List<KimchiPremiumEntity> chunk = premiums.subList(from, Math.min(from + INSERT_CHUNK_SIZE, premiums.size()));
+
+            StringBuilder sql = new StringBuilder("INSERT INTO kimchi_premiums "
+                    + "(domestic_price, global_price, exchange_rate, kimchi_premium, daily_change, reg_dt, coin_id) VALUES ");
+            Object[] args = new Object[chunk.size() * 7];
+
+            for (int i = 0; i < chunk.size(); i++) {
+                KimchiPremiumEntity premium = chunk.get(i);
+                sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?, ?)");
+                args[i * 7] = premium.getDomesticPrice();
+                args[i * 7 + 1] = premium.getGlobalPrice();
+                args[i * 7 + 2] = premium.getExchangeRate();
+                args[i * 7 + 3] = premium.getKimchiPremium();
+                args[i * 7 + 4] = premium.getDailyChange();
+                args[i * 7 + 5] = Timestamp.from(premium.getRegDt() != null ? premium.getRegDt() : Instant.now());
+                args[i * 7 + 6] = premium.getCoin().getId();
+            }
+
+            sql.append(" RETURNING id, coin_id");
+            jdbcTemplate.query(sql.toString(), (RowCallbackHandler) rs ->
+                    premiumIds.put(rs.getLong("coin_id"), rs.getLong("id")), args);
+        }
+        return premiumIds;
     }
 }
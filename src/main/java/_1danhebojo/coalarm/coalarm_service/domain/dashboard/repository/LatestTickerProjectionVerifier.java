@@ -0,0 +1,35 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// latest_tickers 프로젝션 존재 확인
+// 테이블/트리거는 마이그레이션(V3__create_latest_tickers_projection.sql)으로 설치한다.
+// 설치되지 않은 DB 에서는 최신 시세 조회가 전부 실패하므로 기동 단계에서 바로 실패시킨다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LatestTickerProjectionVerifier {
+    private static final String TRIGGER_NAME = "trg_tickers_latest_tickers";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void verify() {
+        Boolean tableExists = jdbcTemplate.queryForObject(
+                "SELECT to_regclass('latest_tickers') IS NOT NULL", Boolean.class);
+        if (!Boolean.TRUE.equals(tableExists)) {
+            throw new IllegalStateException("latest_tickers 테이블이 없습니다. DB 마이그레이션을 먼저 적용해야 합니다.");
+        }
+
+        Boolean triggerExists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = ?)", Boolean.class, TRIGGER_NAME);
+        if (!Boolean.TRUE.equals(triggerExists)) {
+            throw new IllegalStateException("latest_tickers 갱신 트리거(" + TRIGGER_NAME + ")가 없습니다. DB 마이그레이션을 먼저 적용해야 합니다.");
+        }
+        log.info("latest_tickers 프로젝션 확인 완료");
+    }
+}
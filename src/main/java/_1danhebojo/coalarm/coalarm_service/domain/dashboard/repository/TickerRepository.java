@@ -1,11 +1,15 @@
 package _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository;
 
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.LatestTickerEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.TickerEntity;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 public interface TickerRepository {
     List<TickerEntity> findByCoinIdOrderedByUtcDateTime(String symbol);
-    Optional<TickerEntity> findLatestBySymbol(String symbol);
+    Optional<LatestTickerEntity> findLatestBySymbol(String symbol);
+    List<LatestTickerEntity> findAllLatestTickers();
+    List<LatestTickerEntity> findLatestTickersSince(Instant from);
 }
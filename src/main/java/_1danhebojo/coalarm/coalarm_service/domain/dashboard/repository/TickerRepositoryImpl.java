@@ -2,12 +2,15 @@ package _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository;
 
 import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.QCoinEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.LatestTickerEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.QLatestTickerEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.QTickerEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.TickerEntity;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -32,15 +35,34 @@ public class TickerRepositoryImpl implements TickerRepository{
     }
 
     @Override
-    public Optional<TickerEntity> findLatestBySymbol(String symbol) {
-        QTickerEntity ticker = QTickerEntity.tickerEntity;
+    public Optional<LatestTickerEntity> findLatestBySymbol(String symbol) {
+        QLatestTickerEntity ticker = QLatestTickerEntity.latestTickerEntity;
 
         return Optional.ofNullable(
                 queryFactory
                         .selectFrom(ticker)
                         .where(ticker.id.baseSymbol.eq(symbol))
-                        .orderBy(ticker.id.timestamp.desc()) // 최신 순으로 정렬
+                        .orderBy(ticker.timestamp.desc()) // 거래소/호가 심볼 중 최신
                         .fetchFirst()
         );
     }
+
+    // (거래소, 기준 심볼, 호가 심볼)별 최신 티커 (최신 티커 캐시 적재용)
+    @Override
+    public List<LatestTickerEntity> findAllLatestTickers() {
+        return queryFactory
+                .selectFrom(QLatestTickerEntity.latestTickerEntity)
+                .fetch();
+    }
+
+    // 특정 시각 이후 갱신된 최신 티커 (최신 티커 캐시 갱신용)
+    @Override
+    public List<LatestTickerEntity> findLatestTickersSince(Instant from) {
+        QLatestTickerEntity ticker = QLatestTickerEntity.latestTickerEntity;
+
+        return queryFactory
+                .selectFrom(ticker)
+                .where(ticker.timestamp.gt(from))
+                .fetch();
+    }
 }
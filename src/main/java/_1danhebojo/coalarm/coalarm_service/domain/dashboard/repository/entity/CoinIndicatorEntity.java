@@ -19,7 +19,8 @@ public class CoinIndicatorEntity {
     @Column(name = "id")
     private Long id;
 
-    @Column(name = "long_strength", nullable = false, precision = 19, scale = 6)
+    // 바이낸스 선물 데이터를 가져오지 못한 코인은 null
+    @Column(name = "long_strength", precision = 19, scale = 6)
     private BigDecimal longStrength;
 
     @Column(name = "macd", nullable = false, precision = 19, scale = 6)
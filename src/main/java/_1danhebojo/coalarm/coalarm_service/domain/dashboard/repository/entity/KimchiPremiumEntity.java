@@ -9,8 +9,9 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.Instant;
 
+// 인덱스는 V4__add_kimchi_premiums_reg_dt_index.sql 마이그레이션으로 생성 (ddl-auto 를 쓰지 않으므로 어노테이션은 스키마 명세용)
 @Entity
-@Table(name = "kimchi_premiums")
+@Table(name = "kimchi_premiums", indexes = @Index(name = "idx_kimchi_premiums_reg_dt", columnList = "reg_dt"))
 @Getter
 @NoArgsConstructor
 public class KimchiPremiumEntity {
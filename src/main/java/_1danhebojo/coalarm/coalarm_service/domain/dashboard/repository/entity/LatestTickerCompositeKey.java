@@ -0,0 +1,25 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode
+public class LatestTickerCompositeKey implements Serializable {
+
+    @Column(name = "exchange", nullable = false)
+    private String exchange;
+
+    @Column(name = "base_symbol", nullable = false)
+    private String baseSymbol;
+
+    @Column(name = "quote_symbol", nullable = false)
+    private String quoteSymbol;
+}
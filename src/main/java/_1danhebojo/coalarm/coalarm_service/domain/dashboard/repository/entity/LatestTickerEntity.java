@@ -0,0 +1,56 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+// (거래소, 기준 심볼, 호가 심볼)별 최신 티커 프로젝션
+// tickers 에 티커가 들어올 때 트리거가 upsert 하므로 애플리케이션에서는 읽기만 한다.
+@Entity
+@Table(name = "latest_tickers")
+@Getter
+@NoArgsConstructor
+public class LatestTickerEntity {
+
+    @EmbeddedId
+    private LatestTickerCompositeKey id;
+
+    @Column(name = "timestamp", nullable = false)
+    private Instant timestamp;
+
+    @Column(name = "open", nullable = false, precision = 20, scale = 8)
+    private BigDecimal open;
+
+    @Column(name = "high", nullable = false, precision = 20, scale = 8)
+    private BigDecimal high;
+
+    @Column(name = "low", nullable = false, precision = 20, scale = 8)
+    private BigDecimal low;
+
+    @Column(name = "close", nullable = false, precision = 20, scale = 8)
+    private BigDecimal close;
+
+    @Column(name = "last", nullable = false, precision = 20, scale = 8)
+    private BigDecimal last;
+
+    @Column(name = "previous_close", nullable = false, precision = 20, scale = 8)
+    private BigDecimal previousClose;
+
+    @Column(name = "change", nullable = false, precision = 20, scale = 8)
+    private BigDecimal change;
+
+    @Column(name = "percentage", nullable = false, precision = 10, scale = 8)
+    private BigDecimal percentage;
+
+    @Column(name = "base_volume", nullable = false, precision = 30, scale = 12)
+    private BigDecimal baseVolume;
+
+    @Column(name = "quote_volume", nullable = false, precision = 30, scale = 8)
+    private BigDecimal quoteVolume;
+}
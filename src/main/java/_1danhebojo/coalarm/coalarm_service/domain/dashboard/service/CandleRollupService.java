@@ -0,0 +1,145 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service;
+
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.CandleRepository;
+import _1danhebojo.coalarm.coalarm_service.global.properties.CandleProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 1분봉으로 상위 봉(5m, 1h, 4h, 1d)을 증분 롤업해 candles 테이블에 각자의 timeframe 으로 저장
+// 매 주기마다 직전 롤업 이후 구간만 집계하고, 하위 봉 -> 상위 봉 순서로 이어서 만든다.
+// (1m -> 5m -> 1h -> 4h, 1h -> 1d / 버킷 경계는 UTC 기준)
+// 처음 실행은 backfillDays 만큼 채우느라 오래 걸리므로 공용 스케줄러 스레드가 아닌 전용 스레드에서 실행하고,
+// 첫 실행이 끝나기 전까지는 1d 봉이 없거나 일부뿐이므로 지표 저장은 건너뛴다 (isDailyReady).
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CandleRollupService {
+    private static final Duration BACKFILL_WINDOW = Duration.ofDays(1);
+
+    private final CandleRepository candleRepository;
+    private final CandleProperties candleProperties;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private ExecutorService rollupExecutor;
+
+    // 다음 롤업을 시작할 시각 (null 이면 아직 한 번도 성공하지 않음)
+    private volatile Instant watermark;
+
+    @PostConstruct
+    public void init() {
+        rollupExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "candle-rollup");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        rollupExecutor.shutdownNow();
+    }
+
+    // 전용 스레드에 롤업 요청 (이전 회차가 아직 돌고 있으면 이번 회차는 건너뜀)
+    @Scheduled(fixedDelayString = "#{@candleProperties.rollupInterval}")
+    public void rollupCandles() {
+        if (!running.compareAndSet(false, true)) return;
+
+        try {
+            rollupExecutor.execute(() -> {
+                try {
+                    rollup();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    // 첫 롤업(백필 포함)이 끝나 1d 봉을 지표 계산에 쓸 수 있는지
+    public boolean isDailyReady() {
+        return watermark != null;
+    }
+
+    void rollup() {
+        Instant now = Instant.now();
+        Instant from = watermark != null ? watermark : initialFrom(now);
+        // 진행 중인 1분봉까지 포함
+        Instant to = now.plus(Duration.ofMinutes(1));
+
+        long startTime = System.currentTimeMillis();
+        try {
+            int rows = 0;
+            // 처음 채울 때 한 번에 너무 큰 구간을 집계하지 않도록 하루씩 나눠서 처리
+            for (Instant cursor = from; cursor.isBefore(to); ) {
+                if (Thread.currentThread().isInterrupted()) return;
+                Instant end = min(cursor.plus(BACKFILL_WINDOW), to);
+                rows += rollupWindow(cursor, end);
+                cursor = end;
+            }
+            watermark = now.minusMillis(candleProperties.getRollupOverlap());
+            log.debug("캔들 롤업 완료. 구간: {} ~ {}, 반영 행 수: {}, 실행 시간: {}ms",
+                    from, to, rows, System.currentTimeMillis() - startTime);
+        } catch (DataAccessException e) {
+            // watermark 를 그대로 두고 다음 주기에 같은 구간부터 다시 시도
+            log.error("캔들 롤업 실패. 구간: {} ~ {}", from, to, e);
+        }
+    }
+
+    private int rollupWindow(Instant from, Instant to) {
+        int rows = 0;
+        for (Rollup rollup : Rollup.values()) {
+            // 상위 봉은 버킷 단위로 다시 만들어야 하므로 시작 시각을 버킷 경계로 내림
+            Instant bucketFrom = floor(from, rollup.interval);
+            rows += candleRepository.rollup(rollup.source, rollup.target, rollup.interval, bucketFrom, to);
+        }
+        return rows;
+    }
+
+    // 기존 5분봉이 있으면 그 이후부터, 없으면 backfillDays 만큼 채운다
+    private Instant initialFrom(Instant now) {
+        return candleRepository.findLatestTimestamp(Rollup.FIVE_MINUTES.target)
+                .map(latest -> latest.minusMillis(candleProperties.getRollupOverlap()))
+                .orElseGet(() -> floor(now.minus(Duration.ofDays(candleProperties.getBackfillDays())), BACKFILL_WINDOW));
+    }
+
+    private static Instant floor(Instant instant, Duration interval) {
+        long millis = interval.toMillis();
+        return Instant.ofEpochMilli(Math.floorDiv(instant.toEpochMilli(), millis) * millis);
+    }
+
+    private static Instant min(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    // 선언 순서대로 실행 (하위 봉이 먼저 만들어져야 상위 봉을 집계할 수 있음)
+    private enum Rollup {
+        FIVE_MINUTES("1m", "5m", Duration.ofMinutes(5)),
+        ONE_HOUR("5m", "1h", Duration.ofHours(1)),
+        FOUR_HOURS("1h", "4h", Duration.ofHours(4)),
+        ONE_DAY("1h", "1d", Duration.ofDays(1));
+
+        private final String source;
+        private final String target;
+        private final Duration interval;
+
+        Rollup(String source, String target, Duration interval) {
+            this.source = source;
+            this.target = target;
+            this.interval = interval;
+        }
+    }
+}
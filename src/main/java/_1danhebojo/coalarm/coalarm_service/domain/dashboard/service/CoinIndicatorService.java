@@ -5,4 +5,5 @@ import _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller.response.
 public interface CoinIndicatorService {
     CoinIndicatorResponse getDashboardIndicators(String symbol);
     void saveIndicators(String symbol);
+    void saveAllIndicators();
 }
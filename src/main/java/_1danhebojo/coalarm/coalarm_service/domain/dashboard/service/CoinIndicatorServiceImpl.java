@@ -2,28 +2,41 @@ package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service;
 
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller.response.*;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.CandleRepository;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.CoinIndicatorRepository;
 import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.CandleEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.CoinIndicatorEntity;
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.jpa.CoinIndicatorJpaRepository;
 import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.jpa.CoinJpaRepository;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.indicator.IndicatorEngine;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.indicator.IndicatorSeries;
 import _1danhebojo.coalarm.coalarm_service.global.api.ApiException;
 import _1danhebojo.coalarm.coalarm_service.global.api.AppHttpStatus;
+import _1danhebojo.coalarm.coalarm_service.global.properties.IndicatorProperties;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,10 +47,50 @@ public class CoinIndicatorServiceImpl implements CoinIndicatorService {
     private final CoinJpaRepository coinJpaRepository;
     private final CoinIndicatorJpaRepository coinIndicatorJpaRepository;
     private final CandleRepository candleRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final CoinIndicatorRepository coinIndicatorRepository;
+    private final IndicatorEngine indicatorEngine;
+    private final CandleRollupService candleRollupService;
+    private final IndicatorProperties indicatorProperties;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, CachedLongStrength> longStrengthCache = new ConcurrentHashMap<>();
+    private RestTemplate restTemplate;
+    private ExecutorService indicatorExecutor;
     private static final String BINANCE_BASE_URL = "https://fapi.binance.com";
+    private static final String FUTURES_QUOTE_SYMBOL = "USDT";
+    private static final String MINUTE_TIMEFRAME = "1m";
+    private static final String DAY_TIMEFRAME = "1d";
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final long DAY_MILLIS = 86_400_000L;
+    // 처음 상태를 만들 때 읽는 봉 수
+    private static final int MINUTE_WARMUP = 200;
+    private static final int DAY_WARMUP = 35;
+    private static final double MACD_PRICE_DIVISOR = 10;
+    private static final int INDICATOR_SCALE = 8;
+
+    @PostConstruct
+    public void init() {
+        // 바이낸스 선물 API 가 느려도 계산 스레드가 묶이지 않도록 타임아웃 적용
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(indicatorProperties.getConnectTimeout()))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(indicatorProperties.getReadTimeout()));
+        restTemplate = new RestTemplate(requestFactory);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        indicatorExecutor = Executors.newFixedThreadPool(Math.max(1, indicatorProperties.getParallelism()), r -> {
+            Thread thread = new Thread(r, "coin-indicator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
+    @PreDestroy
+    public void destroy() {
+        indicatorExecutor.shutdownNow();
+    }
+
+    @Override
     public CoinIndicatorResponse getDashboardIndicators(String symbol) {
         Optional<CoinEntity> coinEntity = coinJpaRepository.findBySymbol(symbol);
         if(coinEntity.isEmpty()) throw new ApiException(AppHttpStatus.NOT_FOUND);
@@ -95,143 +148,60 @@ public class CoinIndicatorServiceImpl implements CoinIndicatorService {
         return new CoinIndicatorResponse(macdDTO, rsiDTO, longShortStrengthDTO, coinDTO);
     }
 
-    private List<BigDecimal> getClosingPricesMinutes(String symbol) {
-        List<CandleEntity> candles = candleRepository.findRecentCandles(symbol, 200);
-        List<BigDecimal> prices = candles.stream()
-                .map(CandleEntity::getClose)
-                .collect(Collectors.toList());
-        Collections.reverse(prices); // 최신순 → 오래된 순으로 변경
-        return prices;
+    // 분봉 지표 상태 갱신 (마지막으로 반영한 봉 이후 분봉만 조회)
+    private IndicatorSeries loadMinuteSeries(String symbol) {
+        IndicatorSeries series = indicatorEngine.series(symbol, MINUTE_TIMEFRAME);
+        int limit = fetchLimit(series, MINUTE_MILLIS, MINUTE_WARMUP);
+        feed(series, candleRepository.findRecentCandles(symbol, limit), 1);
+        return series;
     }
 
-    private List<BigDecimal> getClosingPricesDay(String symbol){
-        List<CandleEntity> candles = candleRepository.findDailyCandles(symbol,35);
-        List<BigDecimal> prices =  candles.stream()
-                .map(CandleEntity::getClose)
-                .collect(Collectors.toList());
-        Collections.reverse(prices);
-        return prices;
+    // 일봉 지표 상태 갱신 (MACD 는 기존 저장 값과 같은 스케일을 위해 가격 / 10 으로 계산)
+    private IndicatorSeries loadDailySeries(String symbol) {
+        IndicatorSeries series = indicatorEngine.series(symbol, DAY_TIMEFRAME);
+        int limit = fetchLimit(series, DAY_MILLIS, DAY_WARMUP);
+        feed(series, candleRepository.findDailyCandles(symbol, limit), MACD_PRICE_DIVISOR);
+        return series;
     }
 
-    private MacdDTO calculateMACD(List<BigDecimal> prices) {
-        // 가격 데이터 정규화
-        List<BigDecimal> normalizedPrices = prices.stream()
-                .map(price -> price.divide(BigDecimal.valueOf(10), 8, RoundingMode.HALF_UP))
-                .toList();
-
-        // 12일 EMA 계산
-        List<BigDecimal> ema12 = calculateEMAList(normalizedPrices, 12);
-
-        // 26일 EMA 계산
-        List<BigDecimal> ema26 = calculateEMAList(normalizedPrices, 26);
-
-        // MACD Line 계산 (12일 EMA - 26일 EMA)
-        List<BigDecimal> macdLine = new ArrayList<>();
-        for (int i = 0; i < ema12.size() && i < ema26.size(); i++) {
-            macdLine.add(ema12.get(i).subtract(ema26.get(i)));
-        }
+    // 처음이거나 공백이 워밍업 구간보다 길면 상태를 비우고 워밍업 개수만큼, 아니면 밀린 봉 수만큼 조회
+    private int fetchLimit(IndicatorSeries series, long intervalMillis, int warmup) {
+        if (series.size() == 0) return warmup;
 
-        if (macdLine.size() < 9) {
-            throw new ApiException(AppHttpStatus.INTERNAL_SERVER_ERROR);
+        long missed = (System.currentTimeMillis() - series.lastTimestamp()) / intervalMillis + 2;
+        if (missed >= warmup) {
+            series.reset();
+            return warmup;
         }
-
-        // Signal Line (MACD Line의 9일 EMA)
-        List<BigDecimal> signalLine = calculateEMAList(macdLine, 9);
-
-        // 최신 MACD 값
-        BigDecimal macd = macdLine.get(macdLine.size() - 1);
-        BigDecimal signal = signalLine.get(signalLine.size() - 1);
-        BigDecimal histogram = macd.subtract(signal);
-        String trend = histogram.compareTo(BigDecimal.ZERO) > 0 ? "RISE" : "FALL";
-
-        return new MacdDTO(macd, signal, histogram, trend);
+        return (int) missed;
     }
 
-    private List<BigDecimal> calculateEMAList(List<BigDecimal> prices, int period) {
-        List<BigDecimal> emaList = new ArrayList<>();
-
-        // 첫 번째 EMA는 해당 기간의 SMA(단순 이동평균)로 계산
-        BigDecimal sma = BigDecimal.ZERO;
-        for (int i = 0; i < period; i++) {
-            sma = sma.add(prices.get(i));
-        }
-        sma = sma.divide(BigDecimal.valueOf(period), 8, BigDecimal.ROUND_HALF_UP);
-
-        // 첫 번째 EMA 값 추가
-        emaList.add(sma);
-
-        // EMA 계산 공식: EMA(today) = Price(today) * k + EMA(yesterday) * (1-k)
-        // k = 2/(period+1)
-        BigDecimal multiplier = BigDecimal.valueOf(2.0).divide(BigDecimal.valueOf(period + 1), 8, BigDecimal.ROUND_HALF_UP);
-        BigDecimal oneMinusMultiplier = BigDecimal.ONE.subtract(multiplier);
-
-        // 나머지 EMA 계산
-        for (int i = period; i < prices.size(); i++) {
-            BigDecimal currentPrice = prices.get(i);
-            BigDecimal previousEma = emaList.get(emaList.size() - 1);
-            BigDecimal currentEma = currentPrice.multiply(multiplier).add(previousEma.multiply(oneMinusMultiplier));
-            emaList.add(currentEma);
+    // 최신순 캔들을 오래된 순으로 반영 (이미 반영한 봉은 무시, 같은 시각 봉은 종가 교체)
+    private void feed(IndicatorSeries series, List<CandleEntity> candles, double divisor) {
+        for (int i = candles.size() - 1; i >= 0; i--) {
+            CandleEntity candle = candles.get(i);
+            series.onCandle(candle.getId().getTimestamp().toEpochMilli(), candle.getClose().doubleValue() / divisor);
         }
-
-        return emaList;
     }
 
-    private RsiDTO calculateRSI(List<BigDecimal> prices, int period) {
-        Collections.reverse(prices);
-
-        List<BigDecimal> gains = new ArrayList<>();
-        List<BigDecimal> losses = new ArrayList<>();
-
-        for (int i = 1; i < prices.size(); i++) {
-            BigDecimal change = prices.get(i).subtract(prices.get(i - 1));
-            if (change.compareTo(BigDecimal.ZERO) > 0) {
-                gains.add(change);
-                losses.add(BigDecimal.ZERO);
-            } else {
-                gains.add(BigDecimal.ZERO);
-                losses.add(change.abs());
-            }
-        }
-
-        BigDecimal avgGain = BigDecimal.ZERO;
-        BigDecimal avgLoss = BigDecimal.ZERO;
-
-        for (int i = 0; i < period; i++) {
-            avgGain = avgGain.add(gains.get(i));
-            avgLoss = avgLoss.add(losses.get(i));
-        }
-
-        avgGain = avgGain.divide(BigDecimal.valueOf(period), 8, BigDecimal.ROUND_HALF_UP);
-        avgLoss = avgLoss.divide(BigDecimal.valueOf(period), 8, BigDecimal.ROUND_HALF_UP);
-
-        for (int i = period; i < gains.size(); i++) {
-            avgGain = (avgGain.multiply(BigDecimal.valueOf(period - 1)).add(gains.get(i)))
-                    .divide(BigDecimal.valueOf(period), 8, BigDecimal.ROUND_HALF_UP);
-            avgLoss = (avgLoss.multiply(BigDecimal.valueOf(period - 1)).add(losses.get(i)))
-                    .divide(BigDecimal.valueOf(period), 8, BigDecimal.ROUND_HALF_UP);
-        }
-
-        BigDecimal rs;
-        if (avgLoss.compareTo(BigDecimal.ZERO) == 0) {
-            rs = BigDecimal.valueOf(100); // 손실이 없는 경우 큰 값 할당
-        } else {
-            rs = avgGain.divide(avgLoss, 8, BigDecimal.ROUND_HALF_UP);
-        }
-
-        BigDecimal rsi = BigDecimal.valueOf(100).subtract(
-                BigDecimal.valueOf(100).divide(BigDecimal.ONE.add(rs), 8, BigDecimal.ROUND_HALF_UP)
-        );
+    private MacdDTO toMacd(IndicatorSeries series) {
+        BigDecimal histogram = toDecimal(series.histogram());
+        String trend = histogram.compareTo(BigDecimal.ZERO) > 0 ? "RISE" : "FALL";
+        return new MacdDTO(toDecimal(series.macd()), toDecimal(series.signal()), histogram, trend);
+    }
 
-        return new RsiDTO(rsi);
+    private BigDecimal toDecimal(double value) {
+        return BigDecimal.valueOf(value).setScale(INDICATOR_SCALE, RoundingMode.HALF_UP);
     }
 
+    // 롱 강도 계산 (바이낸스 선물 데이터를 가져오지 못하면 null)
     private BigDecimal calculateLongStrength(String symbol) {
         try {
             // 1. 롱/숏 비율 데이터 가져오기
             JsonNode longShortData = getLongShortRatioData(symbol);
             if (longShortData == null || longShortData.isEmpty()) {
-                log.error("롱/숏 비율 데이터를 가져오는데 실패했습니다.");
-                return BigDecimal.valueOf(0); // 기본값 0 (롱/숏 비율 1:1)
+                log.warn("{} 롱/숏 비율 데이터를 가져오는데 실패했습니다.", symbol);
+                return null;
             }
 
             JsonNode latestLsData = longShortData.get(0);
@@ -241,8 +211,8 @@ public class CoinIndicatorServiceImpl implements CoinIndicatorService {
             // 2. 미결제약정 데이터 가져오기
             JsonNode openInterestData = getOpenInterestData(symbol);
             if (openInterestData == null) {
-                log.error("미결제약정 데이터를 가져오는데 실패했습니다.");
-                return BigDecimal.valueOf(0);
+                log.warn("{} 미결제약정 데이터를 가져오는데 실패했습니다.", symbol);
+                return null;
             }
 
             BigDecimal openInterest = BigDecimal.valueOf(openInterestData.get("openInterest").asDouble());
@@ -250,8 +220,8 @@ public class CoinIndicatorServiceImpl implements CoinIndicatorService {
             // 3. 펀딩 비율 데이터 가져오기
             JsonNode fundingRateData = getFundingRateData(symbol);
             if (fundingRateData == null || fundingRateData.isEmpty()) {
-                log.error("펀딩 비율 데이터를 가져오는데 실패했습니다.");
-                return BigDecimal.valueOf(0);
+                log.warn("{} 펀딩 비율 데이터를 가져오는데 실패했습니다.", symbol);
+                return null;
             }
 
             JsonNode latestFrData = fundingRateData.get(0);
@@ -278,38 +248,129 @@ public class CoinIndicatorServiceImpl implements CoinIndicatorService {
 
             return longStrengthValue;
         } catch (Exception e) {
-            System.err.println("롱 강도 계산 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
-            return BigDecimal.ZERO; // 오류 발생 시 0 반환
+            // 바이낸스 선물에 없는 코인도 많으므로 스택트레이스 없이 기록
+            log.warn("{} 롱 강도 계산 중 오류 발생: {}", symbol, e.getMessage());
+            return null;
         }
     }
 
+    // 롱 강도 (심볼별로 longStrengthTtl 동안 캐시, 실패한 null 도 캐시해 선물에 없는 코인을 매번 조회하지 않음)
+    private BigDecimal getLongStrength(String symbol) {
+        CachedLongStrength cached = longStrengthCache.get(symbol);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.fetchedAt() < indicatorProperties.getLongStrengthTtl()) {
+            return cached.value();
+        }
+
+        BigDecimal value = calculateLongStrength(toFuturesSymbol(symbol));
+        longStrengthCache.put(symbol, new CachedLongStrength(value, now));
+        return value;
+    }
+
+    // 바이낸스 선물 심볼 (e.g. BTC → BTCUSDT)
+    private String toFuturesSymbol(String symbol) {
+        return symbol + FUTURES_QUOTE_SYMBOL;
+    }
+
+    // 전체 코인 지표를 병렬로 계산해 한 번에 저장
+    // 코인별 계산은 서로 격리되어 한 코인이 실패해도 나머지는 저장되고, runTimeout 안에 끝나지 않은 코인은 이번 회차에서 빠진다.
+    @Override
+    public void saveAllIndicators() {
+        // 첫 롤업(백필)이 끝나기 전에는 1d 봉이 없거나 일부뿐이라 MACD 를 계산할 수 없으므로 이번 회차는 저장하지 않음
+        if (!candleRollupService.isDailyReady()) {
+            log.info("일봉 롤업이 끝나지 않아 코인지표 저장을 건너뜁니다.");
+            return;
+        }
+
+        List<CoinEntity> coins = coinJpaRepository.findAllBy();
+        Instant now = Instant.now();
+
+        // 상장 폐지된 코인의 지표 상태 / 롱 강도 캐시 정리
+        Set<String> symbols = coins.stream().map(CoinEntity::getSymbol).collect(Collectors.toSet());
+        indicatorEngine.retainSymbols(symbols);
+        longStrengthCache.keySet().retainAll(symbols);
+
+        List<Callable<CoinIndicatorEntity>> tasks = coins.stream()
+                .map(coin -> (Callable<CoinIndicatorEntity>) () -> calculateIndicatorSafely(coin, now))
+                .toList();
+
+        List<Future<CoinIndicatorEntity>> futures;
+        try {
+            futures = indicatorExecutor.invokeAll(tasks, indicatorProperties.getRunTimeout(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        List<CoinIndicatorEntity> indicators = new ArrayList<>(coins.size());
+        int timedOut = 0;
+        for (Future<CoinIndicatorEntity> future : futures) {
+            if (future.isCancelled()) {
+                timedOut++;
+                continue;
+            }
+            try {
+                CoinIndicatorEntity indicator = future.get();
+                if (indicator != null) indicators.add(indicator);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException ignored) {
+                // calculateIndicatorSafely 에서 이미 처리
+            }
+        }
+
+        coinIndicatorRepository.saveAll(indicators);
+        log.info("코인지표 {}/{}개 코인 저장 완료 (시간 초과 {}개)", indicators.size(), coins.size(), timedOut);
+    }
+
+    private CoinIndicatorEntity calculateIndicatorSafely(CoinEntity coin, Instant now) {
+        try {
+            return calculateIndicator(coin, now);
+        } catch (Exception e) {
+            log.warn("{} 코인지표 계산 실패: {}", coin.getSymbol(), e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
     public void saveIndicators(String symbol) {
         // 1. 코인 엔티티 조회
         CoinEntity coinEntity = coinJpaRepository.findBySymbol(symbol)
                 .orElseThrow(() -> new ApiException(AppHttpStatus.NOT_FOUND));
 
-        // 2. 가격 데이터 조회
-        List<BigDecimal> pricesMinutes = getClosingPricesMinutes(symbol);
-        List<BigDecimal> pricesDay = getClosingPricesDay(symbol);
+        coinIndicatorJpaRepository.save(calculateIndicator(coinEntity, Instant.now()));
+    }
+
+    // 코인 하나의 지표 계산 (가격 데이터가 부족하면 예외)
+    private CoinIndicatorEntity calculateIndicator(CoinEntity coinEntity, Instant now) {
+        String symbol = coinEntity.getSymbol();
+        if (!candleRollupService.isDailyReady()) {
+            log.warn("{} 일봉 롤업이 끝나지 않아 지표를 계산할 수 없습니다.", symbol);
+            throw new ApiException(AppHttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        // 2. 지표 상태 갱신 (새 봉만 반영)
+        IndicatorSeries minuteSeries = loadMinuteSeries(symbol);
+        IndicatorSeries dailySeries = loadDailySeries(symbol);
 
-        if (pricesDay.size() < 26 || pricesMinutes.size() <14) {
-            log.error("충분한 가격 데이터가 없습니다. pricesDay 크기: {}, pricesMinutes 크기: {}",
-                    pricesDay.size(), pricesMinutes.size());
+        if (!dailySeries.isMacdReady() || !minuteSeries.isRsiReady()) {
+            log.warn("{} 충분한 가격 데이터가 없습니다. 일봉 수: {}, 분봉 수: {}",
+                    symbol, dailySeries.size(), minuteSeries.size());
             throw new ApiException(AppHttpStatus.INTERNAL_SERVER_ERROR);
         }
 
-        // 3. MACD 계산
-        MacdDTO macdDTO = calculateMACD(pricesDay);
+        // 3. MACD
+        MacdDTO macdDTO = toMacd(dailySeries);
 
-        // 4. RSI 계산
-        RsiDTO rsiDTO = calculateRSI(pricesMinutes, 14);
+        // 4. RSI
+        RsiDTO rsiDTO = new RsiDTO(toDecimal(minuteSeries.rsi()));
 
-        // 5. 롱 강도 계산
-        BigDecimal longStrength = calculateLongStrength("BTCUSDT");
+        // 5. 롱 강도 계산 (실패하면 0 대신 null 로 저장, 조회 시 50:50 으로 표시)
+        BigDecimal longStrength = getLongStrength(symbol);
 
-        // 6. CoinIndicatorEntity 생성 및 저장
-        CoinIndicatorEntity indicatorEntity = CoinIndicatorEntity.builder()
+        // 6. CoinIndicatorEntity 생성
+        return CoinIndicatorEntity.builder()
                 .coin(coinEntity)
                 .macd(macdDTO.getValue())
                 .signal(macdDTO.getSignal())
@@ -317,9 +378,8 @@ public class CoinIndicatorServiceImpl implements CoinIndicatorService {
                 .trend(macdDTO.getTrend())
                 .rsi(rsiDTO.getValue())
                 .longStrength(longStrength)
+                .regDt(now)
                 .build();
-
-        coinIndicatorJpaRepository.save(indicatorEntity);
     }
 
 
@@ -364,4 +424,6 @@ public class CoinIndicatorServiceImpl implements CoinIndicatorService {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    private record CachedLongStrength(BigDecimal value, long fetchedAt) {}
+}
@@ -1,6 +1,7 @@
 package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service;
 
 import _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller.response.ResponseKimchiPremium;
+import _1danhebojo.coalarm.coalarm_service.global.properties.KimchiProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,6 +15,7 @@ import java.util.List;
 public class DashboardScheduler {
     private final KimchiPremiumService kimchiPremiumService;
     private final CoinIndicatorService coinIndicatorService;
+    private final KimchiProperties kimchiProperties;
 
     // TODO: 멀티 스레드를 통해 김치 프리미엄 계산시간을 다른 곳에 영향이 가지 않게하기
 
@@ -22,7 +24,7 @@ public class DashboardScheduler {
         log.info("코인지표 데이터 계산 시작...");
         long startTime = System.currentTimeMillis();
 
-        coinIndicatorService.saveIndicators("BTC");
+        coinIndicatorService.saveAllIndicators();
 
         long endTime = System.currentTimeMillis();
         long executionTime = endTime - startTime;
@@ -31,6 +33,8 @@ public class DashboardScheduler {
 
     @Scheduled(fixedRate = 300000)
     public void calculateAndSaveKimchiPremiumTask(){
+        // 실시간 스트림 모드에서는 LiveKimchiPremiumService 가 계산/저장
+        if (kimchiProperties.isStreamEnabled()) return;
 
         log.info("김치프리미엄 데이터 계산 시작...");
         long startTime = System.currentTimeMillis();
@@ -0,0 +1,8 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service;
+
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller.response.ResponseKimchiPremium;
+import _1danhebojo.coalarm.coalarm_service.global.api.OffsetResponse;
+
+// 같은 읽기 모델 스냅샷에서 만든 김치 프리미엄 페이지와 ETag
+public record KimchiPremiumPage(OffsetResponse<ResponseKimchiPremium> response, String eTag) {
+}
@@ -0,0 +1,133 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service;
+
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller.response.ResponseKimchiPremium;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.KimchiPremiumRepository;
+import _1danhebojo.coalarm.coalarm_service.global.api.OffsetResponse;
+import _1danhebojo.coalarm.coalarm_service.global.properties.KimchiProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+
+// 코인별 최신 김치 프리미엄 읽기 모델
+// 계산이 끝날 때마다 스냅샷을 통째로 교체하고, 조회 API 는 스냅샷을 페이징만 하므로 SQL 을 실행하지 않는다.
+// 계산을 다른 인스턴스가 했을 수도 있으므로 모든 인스턴스가 readModelRefresh 주기로 DB 에서 새로 저장된 행을 반영한다.
+// ETag 는 페이지 내용(코인, 김치 프리미엄 ID/값)의 해시라서 재시작하거나 인스턴스가 달라도 같은 내용이면 같은 값이다.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KimchiPremiumReadModel {
+    private final KimchiPremiumRepository kimchiPremiumRepository;
+    private final KimchiProperties kimchiProperties;
+
+    private volatile List<ResponseKimchiPremium> snapshot = Collections.emptyList();
+    // 마지막으로 DB 를 반영한 시각 (null 이면 아직 전체 적재 전)
+    private volatile Instant lastRefreshedAt;
+
+    // 시작 시 DB 에서 코인별 최신 김치 프리미엄을 한 번 불러온다
+    @PostConstruct
+    public void init() {
+        try {
+            loadAll();
+        } catch (Exception e) {
+            log.warn("김치프리미엄 읽기 모델 초기 적재 실패 (다음 갱신 때 재시도): {}", e.getMessage());
+        }
+    }
+
+    // 마지막 반영 이후 저장된 코인별 최신 김치 프리미엄 반영
+    @Scheduled(fixedDelayString = "#{@kimchiProperties.readModelRefresh}")
+    public void refresh() {
+        try {
+            if (lastRefreshedAt == null) {
+                loadAll();
+                return;
+            }
+
+            Instant startedAt = Instant.now();
+            // reg_dt 는 계산 시각이라 커밋이 늦은 행을 놓치지 않도록 한 주기만큼 겹쳐서 조회
+            Instant since = lastRefreshedAt.minusMillis(kimchiProperties.getReadModelRefresh());
+            update(kimchiPremiumRepository.findLatestKimchiPremiumsSince(since).stream()
+                    .map(ResponseKimchiPremium::fromEntity)
+                    .toList());
+            lastRefreshedAt = startedAt;
+        } catch (Exception e) {
+            log.warn("김치프리미엄 읽기 모델 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 계산 결과 반영 (이번에 계산되지 않은 코인은 직전 값 유지, 같은 코인은 더 최근에 저장된 행 우선)
+    public synchronized void update(Collection<ResponseKimchiPremium> premiums) {
+        if (premiums.isEmpty()) return;
+
+        Map<Long, ResponseKimchiPremium> merged = new HashMap<>();
+        for (ResponseKimchiPremium premium : snapshot) {
+            merged.put(premium.getCoin().getCoinId(), premium);
+        }
+        for (ResponseKimchiPremium premium : premiums) {
+            merged.merge(premium.getCoin().getCoinId(), premium, KimchiPremiumReadModel::newer);
+        }
+        replace(merged.values());
+    }
+
+    // 코인 ID 순 페이지 조회 (페이지와 ETag 를 같은 스냅샷에서 만든다)
+    public KimchiPremiumPage getPage(int offset, int limit) {
+        List<ResponseKimchiPremium> premiums = snapshot;
+        List<ResponseKimchiPremium> page = page(premiums, offset, limit);
+        return new KimchiPremiumPage(
+                OffsetResponse.of(page, offset, limit, premiums.size()),
+                eTag(page, offset, limit, premiums.size())
+        );
+    }
+
+    // 페이지 단위 ETag (페이지 내용 해시)
+    private static String eTag(List<ResponseKimchiPremium> page, int offset, int limit, int total) {
+        StringBuilder content = new StringBuilder()
+                .append(offset).append('/').append(limit).append('/').append(total);
+        for (ResponseKimchiPremium premium : page) {
+            content.append('|').append(premium.getCoin().getCoinId())
+                    .append(':').append(premium.getPremiumId())
+                    .append(':').append(premium.getKimchiPremium())
+                    .append(':').append(premium.getDailyChange());
+        }
+        return "\"kimchi-" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // DB 의 코인별 최신 김치 프리미엄으로 전체 교체
+    private void loadAll() {
+        Instant startedAt = Instant.now();
+        List<ResponseKimchiPremium> premiums = kimchiPremiumRepository.findAllKimchiPremiums(0, Integer.MAX_VALUE)
+                .stream()
+                .map(ResponseKimchiPremium::fromEntity)
+                .toList();
+
+        synchronized (this) {
+            replace(premiums);
+        }
+        lastRefreshedAt = startedAt;
+        log.info("김치프리미엄 읽기 모델 적재 완료: {}개 코인", premiums.size());
+    }
+
+    private void replace(Collection<ResponseKimchiPremium> premiums) {
+        List<ResponseKimchiPremium> sorted = new ArrayList<>(premiums);
+        sorted.sort(Comparator.comparing(premium -> premium.getCoin().getCoinId()));
+        snapshot = List.copyOf(sorted);
+    }
+
+    private static List<ResponseKimchiPremium> page(List<ResponseKimchiPremium> premiums, int offset, int limit) {
+        int from = Math.min(offset, premiums.size());
+        int to = (int) Math.min((long) from + limit, premiums.size());
+        return premiums.subList(from, to);
+    }
+
+    // 김치 프리미엄 ID 가 큰(나중에 저장된) 쪽
+    private static ResponseKimchiPremium newer(ResponseKimchiPremium current, ResponseKimchiPremium candidate) {
+        if (current.getPremiumId() == null || candidate.getPremiumId() == null) return candidate;
+        return candidate.getPremiumId() >= current.getPremiumId() ? candidate : current;
+    }
+}
@@ -0,0 +1,128 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service;
+
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.TickerRepository;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.LatestTickerEntity;
+import _1danhebojo.coalarm.coalarm_service.global.properties.TickerProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// (거래소, 기준 심볼, 호가 심볼)별 최신 티커 캐시
+// 시작 시 latest_tickers 를 한 번 불러오고, 이후에는 마지막으로 본 timestamp 이후 갱신된 행만 주기적으로 조회해 반영한다.
+// 최신 가격 조회는 모두 이 캐시를 읽으므로 DB 를 거치지 않는다.
+@Component
+@DependsOn("latestTickerProjectionVerifier")
+@RequiredArgsConstructor
+@Slf4j
+public class TickerSnapshotCache {
+    // 트리거 트랜잭션 커밋 지연을 감안해 워터마크보다 조금 앞에서부터 조회
+    private static final long WATERMARK_OVERLAP_MILLIS = 5000;
+
+    private final TickerRepository tickerRepository;
+    private final TickerProperties tickerProperties;
+
+    private final Map<TickerKey, LatestTickerEntity> snapshots = new ConcurrentHashMap<>();
+    // (기준 심볼, 호가 심볼) → 거래소와 무관하게 가장 최근 티커
+    private final Map<PairKey, LatestTickerEntity> latestByPair = new ConcurrentHashMap<>();
+    private volatile Instant watermark;
+    private volatile long lastFullReload = 0L;
+
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("최신 티커 캐시 초기 적재 실패 (다음 갱신 때 재시도): {}", e.getMessage());
+        }
+    }
+
+    // 특정 거래소의 최신 티커
+    public Optional<LatestTickerEntity> get(String exchange, String baseSymbol, String quoteSymbol) {
+        return Optional.ofNullable(snapshots.get(new TickerKey(exchange, baseSymbol, quoteSymbol)));
+    }
+
+    // 거래소와 무관하게 가장 최근 티커
+    public Optional<LatestTickerEntity> getLatest(String baseSymbol, String quoteSymbol) {
+        return Optional.ofNullable(latestByPair.get(new PairKey(baseSymbol, quoteSymbol)));
+    }
+
+    // 여러 심볼의 최신 티커 (캐시에 없는 심볼은 제외)
+    public List<LatestTickerEntity> getLatest(Collection<String> baseSymbols, String quoteSymbol) {
+        List<LatestTickerEntity> tickers = new ArrayList<>(baseSymbols.size());
+        for (String baseSymbol : baseSymbols) {
+            LatestTickerEntity ticker = latestByPair.get(new PairKey(baseSymbol, quoteSymbol));
+            if (ticker != null) tickers.add(ticker);
+        }
+        return tickers;
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    // 워터마크 이후 티커만 반영 (주기적으로 전체 재적재)
+    @Scheduled(fixedDelayString = "#{@tickerProperties.snapshotPollInterval}")
+    public void refresh() {
+        try {
+            Instant from = watermark;
+            if (from == null || System.currentTimeMillis() - lastFullReload >= tickerProperties.getSnapshotFullReload()) {
+                reload();
+                return;
+            }
+
+            List<LatestTickerEntity> tickers = tickerRepository.findLatestTickersSince(from.minusMillis(WATERMARK_OVERLAP_MILLIS));
+            tickers.forEach(this::apply);
+        } catch (Exception e) {
+            log.warn("최신 티커 캐시 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 키별 최신 티커 전체 재적재
+    private void reload() {
+        List<LatestTickerEntity> tickers = tickerRepository.findAllLatestTickers();
+        tickers.forEach(this::apply);
+        lastFullReload = System.currentTimeMillis();
+        if (watermark == null) {
+            watermark = Instant.EPOCH;
+            tickers.forEach(this::advanceWatermark);
+        }
+        log.info("최신 티커 캐시 적재 완료: {}건", snapshots.size());
+    }
+
+    // 더 최신 티커일 때만 교체
+    private void apply(LatestTickerEntity ticker) {
+        if (ticker.getId() == null || ticker.getTimestamp() == null) return;
+
+        snapshots.merge(key(ticker), ticker, TickerSnapshotCache::newer);
+        latestByPair.merge(new PairKey(ticker.getId().getBaseSymbol(), ticker.getId().getQuoteSymbol()), ticker, TickerSnapshotCache::newer);
+        advanceWatermark(ticker);
+    }
+
+    private void advanceWatermark(LatestTickerEntity ticker) {
+        Instant timestamp = ticker.getTimestamp();
+        if (watermark == null || timestamp.isAfter(watermark)) {
+            watermark = timestamp;
+        }
+    }
+
+    private static LatestTickerEntity newer(LatestTickerEntity current, LatestTickerEntity candidate) {
+        return candidate.getTimestamp().isAfter(current.getTimestamp()) ? candidate : current;
+    }
+
+    private static TickerKey key(LatestTickerEntity ticker) {
+        return new TickerKey(ticker.getId().getExchange(), ticker.getId().getBaseSymbol(), ticker.getId().getQuoteSymbol());
+    }
+
+    private record TickerKey(String exchange, String baseSymbol, String quoteSymbol) {
+    }
+
+    private record PairKey(String baseSymbol, String quoteSymbol) {
+    }
+}
@@ -0,0 +1,43 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.fx;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.FxProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+// exchangerate-api 환율 조회 (연결/응답 타임아웃 적용)
+@Component
+@ConditionalOnProperty(prefix = "fx", name = "source", havingValue = "exchangerate-api", matchIfMissing = true)
+public class ExchangeRateApiSource implements FxRateSource {
+    private final FxProperties fxProperties;
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ExchangeRateApiSource(FxProperties fxProperties) {
+        this.fxProperties = fxProperties;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(fxProperties.getConnectTimeout()))
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(fxProperties.getReadTimeout()));
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @Override
+    public BigDecimal fetchUsdKrw() throws Exception {
+        String response = restTemplate.getForObject(fxProperties.getUrl(), String.class);
+        JsonNode rate = objectMapper.readTree(response).path("rates").path("KRW");
+        if (!rate.isNumber()) {
+            throw new IllegalStateException("KRW 환율이 응답에 없습니다.");
+        }
+        return rate.decimalValue();
+    }
+}
@@ -0,0 +1,116 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.fx;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.FxProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// USD/KRW 환율 캐시
+// 조회는 항상 메모리 값을 바로 돌려주고, TTL 이 지났으면 백그라운드에서 갱신한다 (stale-while-revalidate).
+// 갱신이 계속 실패해도 maxStaleness 까지는 마지막 환율을 쓰고, 그보다 오래되면 환율 없음으로 본다.
+@Component
+@Slf4j
+public class FxRateProvider {
+    private final FxRateSource fxRateSource;
+    private final FxProperties fxProperties;
+    private final ExecutorService refresher;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    private volatile CachedRate cached;
+
+    public FxRateProvider(FxRateSource fxRateSource, FxProperties fxProperties) {
+        this.fxRateSource = fxRateSource;
+        this.fxProperties = fxProperties;
+        this.refresher = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "fx-rate-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void init() {
+        refreshAsync();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        refresher.shutdownNow();
+    }
+
+    // 현재 USD/KRW 환율 (최대 허용 시간보다 오래됐거나 아직 한 번도 못 가져왔으면 empty)
+    public Optional<BigDecimal> getUsdKrwRate() {
+        CachedRate current = cached;
+        if (current == null) {
+            refreshAsync();
+            return Optional.empty();
+        }
+
+        long age = System.currentTimeMillis() - current.fetchedAt().toEpochMilli();
+        if (age > fxProperties.getTtl()) {
+            refreshAsync();
+        }
+        if (age > fxProperties.getMaxStaleness()) {
+            log.warn("환율이 {}ms 동안 갱신되지 않아 사용하지 않습니다.", age);
+            return Optional.empty();
+        }
+        return Optional.of(current.rate());
+    }
+
+    // 마지막으로 환율을 가져온 시각
+    public Optional<Instant> getFetchedAt() {
+        CachedRate current = cached;
+        return current == null ? Optional.empty() : Optional.of(current.fetchedAt());
+    }
+
+    // 요청이 없어도 TTL 주기로 미리 갱신
+    @Scheduled(fixedDelayString = "#{@fxProperties.ttl}")
+    public void scheduledRefresh() {
+        refreshAsync();
+    }
+
+    // 갱신은 한 번에 하나만 (진행 중이면 무시)
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) return;
+
+        try {
+            refresher.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.set(false);
+        }
+    }
+
+    private void refresh() {
+        try {
+            BigDecimal rate = fxRateSource.fetchUsdKrw();
+            if (rate == null || rate.signum() <= 0) {
+                log.warn("유효하지 않은 환율 응답: {}", rate);
+                return;
+            }
+
+            cached = new CachedRate(rate, Instant.now());
+            log.info("USD/KRW 환율 갱신: {}", rate);
+        } catch (Exception e) {
+            log.warn("환율 데이터를 가져오는 중 오류 발생 (기존 환율 유지): {}", e.getMessage());
+        }
+    }
+
+    private record CachedRate(BigDecimal rate, Instant fetchedAt) {
+    }
+}
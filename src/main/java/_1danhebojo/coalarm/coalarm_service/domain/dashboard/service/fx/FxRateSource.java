@@ -0,0 +1,8 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.fx;
+
+import java.math.BigDecimal;
+
+// USD/KRW 환율 조회 소스 (fx.source 로 구현 선택)
+public interface FxRateSource {
+    BigDecimal fetchUsdKrw() throws Exception;
+}
@@ -0,0 +1,21 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.fx;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.FxProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+// 외부 호출 없이 고정 환율을 돌려주는 로컬/테스트용 소스 (fx.source=stub)
+@Component
+@ConditionalOnProperty(prefix = "fx", name = "source", havingValue = "stub")
+@RequiredArgsConstructor
+public class StubFxRateSource implements FxRateSource {
+    private final FxProperties fxProperties;
+
+    @Override
+    public BigDecimal fetchUsdKrw() {
+        return fxProperties.getStubRate();
+    }
+}
@@ -0,0 +1,44 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.indicator;
+
+// 고정 크기 double 링 버퍼 (가장 오래된 값부터 덮어쓴다)
+public final class DoubleRingBuffer {
+    private final double[] values;
+    private int head = -1;
+    private int size = 0;
+
+    public DoubleRingBuffer(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        this.values = new double[capacity];
+    }
+
+    public void add(double value) {
+        head = (head + 1) % values.length;
+        values[head] = value;
+        if (size < values.length) size++;
+    }
+
+    // 마지막 값 교체 (진행 중인 봉의 종가 갱신)
+    public void replaceLast(double value) {
+        if (size == 0) throw new IllegalStateException("buffer is empty");
+        values[head] = value;
+    }
+
+    // ago 번째 이전 값 (0 = 가장 최근)
+    public double get(int ago) {
+        if (ago < 0 || ago >= size) throw new IndexOutOfBoundsException(ago);
+        return values[Math.floorMod(head - ago, values.length)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    public void clear() {
+        head = -1;
+        size = 0;
+    }
+}
@@ -0,0 +1,66 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.indicator;
+
+// 증분 EMA
+// 처음 period 개 값의 단순 평균으로 시작하고, 이후 EMA = 값 * k + 직전 EMA * (1 - k), k = 2 / (period + 1)
+// 마지막 값 교체(amend)를 위해 직전 봉 반영 전 상태를 한 벌 더 들고 있다.
+final class Ema {
+    private final int period;
+    private final double k;
+
+    private int count;
+    private double seedSum;
+    private double value = Double.NaN;
+
+    private int savedCount;
+    private double savedSeedSum;
+    private double savedValue = Double.NaN;
+
+    Ema(int period) {
+        if (period < 1) throw new IllegalArgumentException("period must be positive");
+        this.period = period;
+        this.k = 2.0 / (period + 1);
+    }
+
+    // 새 봉 반영
+    double update(double x) {
+        savedCount = count;
+        savedSeedSum = seedSum;
+        savedValue = value;
+        return apply(x);
+    }
+
+    // 마지막 봉 값 교체
+    double amend(double x) {
+        count = savedCount;
+        seedSum = savedSeedSum;
+        value = savedValue;
+        return apply(x);
+    }
+
+    boolean isReady() {
+        return count >= period;
+    }
+
+    double value() {
+        return value;
+    }
+
+    void reset() {
+        count = savedCount = 0;
+        seedSum = savedSeedSum = 0;
+        value = savedValue = Double.NaN;
+    }
+
+    private double apply(double x) {
+        if (count < period) {
+            seedSum += x;
+            count++;
+            if (count == period) {
+                value = seedSum / period;
+            }
+        } else {
+            value = x * k + value * (1 - k);
+        }
+        return value;
+    }
+}
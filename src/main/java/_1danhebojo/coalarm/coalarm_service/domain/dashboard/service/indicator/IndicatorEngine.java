@@ -0,0 +1,33 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.indicator;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// (심볼, 타임프레임)별 기술 지표 증분 상태 보관소
+// 매번 캔들을 다시 읽어 BigDecimal 로 재계산하지 않고, 마지막으로 반영한 봉 이후의 봉만 IndicatorSeries 에 넣는다.
+@Component
+public class IndicatorEngine {
+    public static final int MACD_FAST = 12;
+    public static final int MACD_SLOW = 26;
+    public static final int MACD_SIGNAL = 9;
+    public static final int RSI_PERIOD = 14;
+    // 심볼/타임프레임당 보관하는 최근 종가 수
+    private static final int CAPACITY = 256;
+
+    private final Map<SeriesKey, IndicatorSeries> series = new ConcurrentHashMap<>();
+
+    public IndicatorSeries series(String symbol, String timeframe) {
+        return series.computeIfAbsent(new SeriesKey(symbol, timeframe),
+                k -> new IndicatorSeries(CAPACITY, MACD_FAST, MACD_SLOW, MACD_SIGNAL, RSI_PERIOD));
+    }
+
+    // 목록에 없는(상장 폐지된) 심볼의 상태 제거
+    public void retainSymbols(Set<String> symbols) {
+        series.keySet().removeIf(key -> !symbols.contains(key.symbol()));
+    }
+
+    private record SeriesKey(String symbol, String timeframe) {}
+}
@@ -0,0 +1,78 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.indicator;
+
+// (심볼, 타임프레임) 하나의 종가 링 버퍼와 MACD / RSI 증분 상태
+// 새 봉은 O(1)로 반영하고, 같은 시각의 봉이 다시 들어오면(진행 중인 봉) 마지막 봉만 교체한다.
+// 반영 과정에서 객체를 만들지 않는다.
+public class IndicatorSeries {
+    private final DoubleRingBuffer closes;
+    private final Macd macd;
+    private final WilderRsi rsi;
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    public IndicatorSeries(int capacity, int macdFast, int macdSlow, int macdSignal, int rsiPeriod) {
+        this.closes = new DoubleRingBuffer(capacity);
+        this.macd = new Macd(macdFast, macdSlow, macdSignal);
+        this.rsi = new WilderRsi(rsiPeriod);
+    }
+
+    // 봉 반영 (timestamp 는 epoch millis, 이미 지난 봉이면 무시하고 false)
+    public synchronized boolean onCandle(long timestamp, double close) {
+        if (timestamp > lastTimestamp) {
+            double previous = closes.size() > 0 ? closes.get(0) : Double.NaN;
+            closes.add(close);
+            macd.update(close);
+            rsi.update(previous, close);
+            lastTimestamp = timestamp;
+            return true;
+        }
+
+        if (timestamp == lastTimestamp) {
+            double previous = closes.size() > 1 ? closes.get(1) : Double.NaN;
+            closes.replaceLast(close);
+            macd.amend(close);
+            rsi.amend(previous, close);
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized boolean isMacdReady() {
+        return macd.isReady();
+    }
+
+    public synchronized boolean isRsiReady() {
+        return rsi.isReady();
+    }
+
+    public synchronized double macd() {
+        return macd.macd();
+    }
+
+    public synchronized double signal() {
+        return macd.signal();
+    }
+
+    public synchronized double histogram() {
+        return macd.histogram();
+    }
+
+    public synchronized double rsi() {
+        return rsi.value();
+    }
+
+    // 마지막으로 반영한 봉 시각 (없으면 Long.MIN_VALUE)
+    public synchronized long lastTimestamp() {
+        return lastTimestamp;
+    }
+
+    public synchronized int size() {
+        return closes.size();
+    }
+
+    public synchronized void reset() {
+        closes.clear();
+        macd.reset();
+        rsi.reset();
+        lastTimestamp = Long.MIN_VALUE;
+    }
+}
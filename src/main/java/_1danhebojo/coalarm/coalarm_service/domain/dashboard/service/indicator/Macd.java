@@ -0,0 +1,64 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.indicator;
+
+// 증분 MACD (MACD = 단기 EMA - 장기 EMA, Signal = MACD 의 EMA)
+// Signal 은 장기 EMA 가 준비된 봉부터 MACD 값을 받는다.
+final class Macd {
+    private final Ema fast;
+    private final Ema slow;
+    private final Ema signal;
+    private double macd = Double.NaN;
+    private double savedMacd = Double.NaN;
+    // 마지막 봉이 Signal 에 반영됐는지 (amend 시 같은 방식으로 되돌리기 위해)
+    private boolean signalUpdated;
+
+    Macd(int fastPeriod, int slowPeriod, int signalPeriod) {
+        this.fast = new Ema(fastPeriod);
+        this.slow = new Ema(slowPeriod);
+        this.signal = new Ema(signalPeriod);
+    }
+
+    void update(double close) {
+        savedMacd = macd;
+        fast.update(close);
+        slow.update(close);
+        signalUpdated = slow.isReady();
+        if (signalUpdated) {
+            macd = fast.value() - slow.value();
+            signal.update(macd);
+        }
+    }
+
+    void amend(double close) {
+        macd = savedMacd;
+        fast.amend(close);
+        slow.amend(close);
+        if (signalUpdated) {
+            macd = fast.value() - slow.value();
+            signal.amend(macd);
+        }
+    }
+
+    boolean isReady() {
+        return signal.isReady();
+    }
+
+    double macd() {
+        return macd;
+    }
+
+    double signal() {
+        return signal.value();
+    }
+
+    double histogram() {
+        return macd - signal.value();
+    }
+
+    void reset() {
+        fast.reset();
+        slow.reset();
+        signal.reset();
+        macd = savedMacd = Double.NaN;
+        signalUpdated = false;
+    }
+}
@@ -0,0 +1,78 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.indicator;
+
+// 증분 Wilder RSI
+// 처음 period 개 변화량의 평균 상승/하락폭으로 시작하고, 이후 평균 = (직전 평균 * (period - 1) + 이번 값) / period
+// 직전 종가는 호출 측이 넘겨준다 (첫 봉은 변화량이 없으므로 previous = NaN).
+final class WilderRsi {
+    private final int period;
+
+    private int count;
+    private double avgGain;
+    private double avgLoss;
+
+    private int savedCount;
+    private double savedAvgGain;
+    private double savedAvgLoss;
+
+    WilderRsi(int period) {
+        if (period < 1) throw new IllegalArgumentException("period must be positive");
+        this.period = period;
+    }
+
+    // 새 봉 반영
+    void update(double previous, double close) {
+        savedCount = count;
+        savedAvgGain = avgGain;
+        savedAvgLoss = avgLoss;
+        apply(previous, close);
+    }
+
+    // 마지막 봉 종가 교체
+    void amend(double previous, double close) {
+        count = savedCount;
+        avgGain = savedAvgGain;
+        avgLoss = savedAvgLoss;
+        apply(previous, close);
+    }
+
+    boolean isReady() {
+        return count >= period;
+    }
+
+    // 기존 구현과 같이 하락이 전혀 없으면 RS = 100 으로 계산
+    double value() {
+        if (!isReady()) return Double.NaN;
+
+        double rs = avgLoss == 0 ? 100 : avgGain / avgLoss;
+        return 100 - 100 / (1 + rs);
+    }
+
+    void reset() {
+        count = savedCount = 0;
+        avgGain = savedAvgGain = 0;
+        avgLoss = savedAvgLoss = 0;
+    }
+
+    private void apply(double previous, double close) {
+        if (Double.isNaN(previous)) return;
+
+        double change = close - previous;
+        double gain = change > 0 ? change : 0;
+        double loss = change > 0 ? 0 : -change;
+
+        if (count < period) {
+            // 시드 구간은 합계를 모았다가 period 번째에 평균으로 바꾼다
+            avgGain += gain;
+            avgLoss += loss;
+            count++;
+            if (count == period) {
+                avgGain /= period;
+                avgLoss /= period;
+            }
+        } else {
+            avgGain = (avgGain * (period - 1) + gain) / period;
+            avgLoss = (avgLoss * (period - 1) + loss) / period;
+            count++;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.kimchi;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.BinanceProperties;
+import _1danhebojo.coalarm.coalarm_service.global.websocket.ReconnectingWebSocket;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketMessage;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+// 바이낸스 형식의 USDT 마켓 miniTicker 스트림
+// <symbol>usdt@miniTicker 스트림을 SUBSCRIBE / UNSUBSCRIBE 로 관리하고, 재연결 시 전체 목록을 다시 구독한다.
+// 단일 객체 / 배열(!miniTicker@arr) / combined stream({"stream", "data"}) 형식을 모두 받아 (심볼, 종가)로 전달한다.
+// 첫 구독 요청이 들어올 때 연결하며, 연결/재연결은 ReconnectingWebSocket 이 담당한다.
+@Component
+@Slf4j
+public class BinanceTickerFeed implements GlobalPriceFeed {
+    private static final String QUOTE_SUFFIX = "USDT";
+    private static final String STREAM_SUFFIX = "usdt@miniTicker";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ScheduledExecutorService scheduler;
+    private final ReconnectingWebSocket connection;
+    private final AtomicInteger requestId = new AtomicInteger();
+    private final List<BiConsumer<String, BigDecimal>> listeners = new CopyOnWriteArrayList<>();
+
+    private final Set<String> symbols = new TreeSet<>();
+    private boolean started = false;
+
+    public BinanceTickerFeed(BinanceProperties binanceProperties) {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "binance-ticker-feed");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.connection = new ReconnectingWebSocket(
+                "바이낸스 ticker",
+                binanceProperties.getWebsocketUrl(),
+                binanceProperties.getReconnectDelay(),
+                scheduler,
+                this::resubscribe,
+                this::handleMessage);
+    }
+
+    @PreDestroy
+    public void close() {
+        connection.close();
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public void addListener(BiConsumer<String, BigDecimal> listener) {
+        listeners.add(listener);
+    }
+
+    // 구독 심볼 추가 (기준 심볼, e.g. BTC)
+    @Override
+    public synchronized void subscribe(Collection<String> added) {
+        List<String> newSymbols = added.stream().filter(symbols::add).toList();
+        if (newSymbols.isEmpty()) return;
+
+        // 연결되면 resubscribe 에서 전체 목록을 구독
+        if (!started) {
+            started = true;
+            connection.connect();
+            return;
+        }
+        send("SUBSCRIBE", newSymbols);
+    }
+
+    // 구독 심볼 해제
+    @Override
+    public synchronized void unsubscribe(Collection<String> removed) {
+        List<String> oldSymbols = removed.stream().filter(symbols::remove).toList();
+        send("UNSUBSCRIBE", oldSymbols);
+    }
+
+    public boolean isConnected() {
+        return connection.isOpen();
+    }
+
+    // 연결(재연결)될 때마다 전체 목록 다시 구독
+    private synchronized void resubscribe() {
+        send("SUBSCRIBE", symbols);
+    }
+
+    // 호출 측에서 feed 락 보유 (연결 전이면 다음 resubscribe 에서 보냄)
+    private void send(String method, Collection<String> targets) {
+        if (targets.isEmpty() || !connection.isOpen()) return;
+
+        try {
+            List<String> params = targets.stream()
+                    .map(symbol -> symbol.toLowerCase() + STREAM_SUFFIX)
+                    .toList();
+            Map<String, Object> request = Map.of(
+                    "method", method,
+                    "params", params,
+                    "id", requestId.incrementAndGet()
+            );
+            if (connection.send(objectMapper.writeValueAsString(request))) {
+                log.info("✅ 바이낸스 ticker {}: {}개 심볼", method, params.size());
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("바이낸스 ticker {} 요청 생성 실패: {}", method, e.getMessage());
+        }
+    }
+
+    private void handleMessage(WebSocketMessage<?> message) {
+        try {
+            handlePayload(message);
+        } catch (IOException e) {
+            log.warn("바이낸스 ticker 메시지 파싱 실패: {}", e.getMessage());
+        }
+    }
+
+    private void handlePayload(WebSocketMessage<?> message) throws IOException {
+        JsonNode node;
+        if (message.getPayload() instanceof ByteBuffer byteBuffer) {
+            byte[] bytes = new byte[byteBuffer.remaining()];
+            byteBuffer.get(bytes);
+            node = objectMapper.readTree(bytes);
+        } else {
+            node = objectMapper.readTree(message.getPayload().toString());
+        }
+
+        // combined stream 형식이면 data 만 사용
+        if (node.has("data")) {
+            node = node.get("data");
+        }
+
+        if (node.isArray()) {
+            for (JsonNode ticker : node) {
+                handleTicker(ticker);
+            }
+        } else {
+            handleTicker(node);
+        }
+    }
+
+    // miniTicker 하나 처리 (구독 응답 {"result", "id"} 등은 무시)
+    private void handleTicker(JsonNode ticker) {
+        JsonNode market = ticker.get("s");
+        JsonNode close = ticker.get("c");
+        if (market == null || close == null) return;
+
+        String pair = market.asText(); // 예: "BTCUSDT"
+        if (!pair.endsWith(QUOTE_SUFFIX)) return;
+
+        String symbol = pair.substring(0, pair.length() - QUOTE_SUFFIX.length());
+        BigDecimal price = new BigDecimal(close.asText());
+        for (BiConsumer<String, BigDecimal> listener : listeners) {
+            listener.accept(symbol, price);
+        }
+    }
+}
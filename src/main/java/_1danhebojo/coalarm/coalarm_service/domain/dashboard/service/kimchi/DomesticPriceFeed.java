@@ -0,0 +1,5 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.kimchi;
+
+// 국내 거래소 KRW 마켓 가격 피드
+public interface DomesticPriceFeed extends PriceFeed {
+}
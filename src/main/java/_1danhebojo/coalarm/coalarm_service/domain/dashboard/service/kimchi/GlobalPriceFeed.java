@@ -0,0 +1,5 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.kimchi;
+
+// 해외 거래소 USDT 마켓 가격 피드
+public interface GlobalPriceFeed extends PriceFeed {
+}
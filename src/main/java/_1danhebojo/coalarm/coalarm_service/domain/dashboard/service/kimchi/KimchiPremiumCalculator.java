@@ -0,0 +1,50 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.kimchi;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// 김치 프리미엄 / 일별 변동률 계산
+// 일괄 계산(KimchiPremiumServiceImpl)과 실시간 계산(LiveKimchiPremiumService)이 같은 식을 쓰도록 분리했다.
+public final class KimchiPremiumCalculator {
+    // 계산 시 사용할 스케일 상수 정의
+    private static final int CALCULATION_SCALE = 16;
+    private static final int DISPLAY_SCALE = 8;
+
+    private KimchiPremiumCalculator() {}
+
+    // 김치프리미엄 = ((한국가격 - 글로벌가격) / 글로벌가격) * 100
+    public static BigDecimal premium(BigDecimal krwPrice, BigDecimal usdtPrice, BigDecimal exchangeRate) {
+        // 정확도를 위해 높은 스케일 사용
+        BigDecimal globalPriceInKrw = usdtPrice.multiply(exchangeRate).setScale(CALCULATION_SCALE, RoundingMode.HALF_UP);
+
+        if (globalPriceInKrw.compareTo(BigDecimal.ZERO) == 0) {
+            // 분모가 0인 경우 방지
+            return BigDecimal.ZERO;
+        }
+
+        return krwPrice.subtract(globalPriceInKrw)
+                .divide(globalPriceInKrw, CALCULATION_SCALE, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .setScale(DISPLAY_SCALE, RoundingMode.HALF_UP);
+    }
+
+    // 변동률 = (오늘값 - 어제값) / |어제값| * 100
+    public static BigDecimal dailyChange(BigDecimal currentValue, BigDecimal yesterdayValue) {
+        if (yesterdayValue == null) {
+            return BigDecimal.ZERO; // 어제 데이터가 없으면 변동률 0
+        }
+
+        // 분모가 0인 경우를 방지하기 위한 처리
+        if (yesterdayValue.compareTo(BigDecimal.ZERO) == 0) {
+            // 어제 값이 0인 경우 (변동률 계산 불가)
+            return currentValue.compareTo(BigDecimal.ZERO) > 0 ?
+                    new BigDecimal("100") : new BigDecimal("-100");
+        }
+
+        // 정확한 계산을 위해 높은 스케일 사용
+        return currentValue.subtract(yesterdayValue)
+                .divide(yesterdayValue.abs(), CALCULATION_SCALE, RoundingMode.HALF_UP)
+                .multiply(BigDecimal.valueOf(100))
+                .setScale(DISPLAY_SCALE, RoundingMode.HALF_UP);
+    }
+}
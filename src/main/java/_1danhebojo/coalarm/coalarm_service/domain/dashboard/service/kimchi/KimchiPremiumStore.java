@@ -0,0 +1,63 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.kimchi;
+
+import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.jpa.CoinJpaRepository;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller.response.ResponseKimchiPremium;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.KimchiPremiumRepository;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.KimchiPremiumEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.KimchiPremiumReadModel;
+import _1danhebojo.coalarm.coalarm_service.global.api.ApiException;
+import _1danhebojo.coalarm.coalarm_service.global.api.AppHttpStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 김치 프리미엄 계산에 필요한 조회/저장 (5분 주기 일괄 계산과 실시간 계산이 같이 사용)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KimchiPremiumStore {
+    private static final String USDT_QUOTE_SYMBOL = "USDT";
+
+    private final KimchiPremiumRepository kimchiPremiumRepository;
+    private final CoinJpaRepository coinJpaRepository;
+    private final KimchiPremiumReadModel kimchiPremiumReadModel;
+
+    // 김치 프리미엄 대상 코인 (USDT 제외)
+    public List<CoinEntity> loadSupportedCoins() {
+        return coinJpaRepository.findAllBy().stream()
+                .filter(coin -> !USDT_QUOTE_SYMBOL.equals(coin.getSymbol()))
+                .toList();
+    }
+
+    // 어제(어제 자정 ~ 오늘 자정) 코인별 마지막 김치 프리미엄
+    public Map<Long, BigDecimal> getYesterdayPremiums() {
+        LocalDateTime yesterday = LocalDate.now().minusDays(1).atStartOfDay();
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        return kimchiPremiumRepository.findLastPremiumsBetween(yesterday, today);
+    }
+
+    // 김치 프리미엄 일괄 저장 후 읽기 모델 반영
+    public void save(List<KimchiPremiumEntity> premiums) {
+        if (premiums.isEmpty()) return;
+
+        Map<Long, Long> premiumIds;
+        try {
+            premiumIds = kimchiPremiumRepository.saveAll(premiums);
+        } catch (Exception e) {
+            log.warn("김치프리미엄 데이터 저장중 에러가 발생했습니다. ->" + e);
+            throw new ApiException(AppHttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        // 저장이 끝난 결과로 읽기 모델 교체
+        kimchiPremiumReadModel.update(premiums.stream()
+                .map(premium -> new ResponseKimchiPremium(premiumIds.get(premium.getCoin().getId()), premium))
+                .toList());
+    }
+}
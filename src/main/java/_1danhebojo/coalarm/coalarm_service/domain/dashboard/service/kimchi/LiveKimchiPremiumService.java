@@ -0,0 +1,249 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.kimchi;
+
+import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller.response.LiveKimchiPremiumResponse;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.KimchiPremiumEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.fx.FxRateProvider;
+import _1danhebojo.coalarm.coalarm_service.global.api.ApiException;
+import _1danhebojo.coalarm.coalarm_service.global.api.AppHttpStatus;
+import _1danhebojo.coalarm.coalarm_service.global.properties.KimchiProperties;
+import _1danhebojo.coalarm.coalarm_service.global.sse.SseBroadcaster;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 실시간 김치 프리미엄
+// 국내(KRW) / 해외(USDT) 가격 피드를 구독해 코인별 최신 가격을 들고 있다가,
+// publishInterval 마다 가격(또는 환율)이 바뀐 코인만 다시 계산해 SSE 로 보낸다.
+// DB 에는 persistInterval 마다 최신 값만 저장한다 (다운샘플링).
+// 국내 피드는 알람 평가와 같은 업비트 ticker 연결을 공유하고, 두 피드 모두 인터페이스로 주입받아 교체할 수 있다.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LiveKimchiPremiumService {
+    private static final String TOPIC_PREFIX = "kimchi-live:";
+
+    private final KimchiProperties kimchiProperties;
+    private final DomesticPriceFeed domesticFeed;
+    private final GlobalPriceFeed globalFeed;
+    private final KimchiPremiumStore kimchiPremiumStore;
+    private final FxRateProvider fxRateProvider;
+    private final SseBroadcaster sseBroadcaster;
+
+    private final Map<String, BigDecimal> krwPrices = new ConcurrentHashMap<>();
+    private final Map<String, BigDecimal> usdtPrices = new ConcurrentHashMap<>();
+    // 마지막 계산 이후 가격이 바뀐 코인
+    private final Set<String> dirtySymbols = ConcurrentHashMap.newKeySet();
+    private final Map<String, LiveKimchiPremiumResponse> latestPremiums = new ConcurrentHashMap<>();
+    // 연결별 SSE 토픽 (새 연결에는 전체 스냅샷을 먼저 보내기 위해 연결마다 토픽을 둔다)
+    private final Set<String> liveTopics = ConcurrentHashMap.newKeySet();
+
+    private volatile Map<String, CoinEntity> coins = Map.of();
+    private volatile Map<Long, BigDecimal> yesterdayPremiums = Map.of();
+    private volatile LocalDate yesterdayPremiumsDate;
+    private volatile BigDecimal lastExchangeRate;
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void init() {
+        if (!kimchiProperties.isStreamEnabled()) {
+            log.info("실시간 김치 프리미엄 비활성화 - 5분 주기 일괄 계산 사용");
+            return;
+        }
+
+        domesticFeed.addListener((symbol, price) -> onPrice(krwPrices, symbol, price));
+        globalFeed.addListener((symbol, price) -> onPrice(usdtPrices, symbol, price));
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "kimchi-live");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.execute(this::refreshCoins);
+
+        long publishInterval = Math.max(100, kimchiProperties.getPublishInterval());
+        long persistInterval = Math.max(1000, kimchiProperties.getPersistInterval());
+        scheduler.scheduleAtFixedRate(this::publish, publishInterval, publishInterval, TimeUnit.MILLISECONDS);
+        scheduler.scheduleAtFixedRate(this::persist, persistInterval, persistInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (scheduler == null) return;
+
+        scheduler.shutdownNow();
+        // 공유 피드는 닫지 않고 이 서비스의 구독만 해제
+        domesticFeed.unsubscribe(coins.keySet());
+        globalFeed.unsubscribe(coins.keySet());
+    }
+
+    // 실시간 김치 프리미엄 구독 (첫 이벤트 snapshot 으로 현재 전체 값, 이후 premium 으로 바뀐 코인만)
+    public SseEmitter addEmitter() {
+        if (!kimchiProperties.isStreamEnabled()) {
+            throw new ApiException(AppHttpStatus.KIMCHI_STREAM_DISABLED);
+        }
+
+        String topic = TOPIC_PREFIX + UUID.randomUUID();
+        SseEmitter emitter = sseBroadcaster.subscribe(topic, () -> liveTopics.remove(topic));
+        liveTopics.add(topic);
+
+        sseBroadcaster.publish(topic, "snapshot", getSnapshot());
+        return emitter;
+    }
+
+    // 현재 코인별 실시간 김치 프리미엄 (코인 ID 순)
+    public List<LiveKimchiPremiumResponse> getSnapshot() {
+        List<LiveKimchiPremiumResponse> snapshot = new ArrayList<>(latestPremiums.values());
+        snapshot.sort(Comparator.comparing(LiveKimchiPremiumResponse::getCoinId));
+        return snapshot;
+    }
+
+    private void onPrice(Map<String, BigDecimal> prices, String symbol, BigDecimal price) {
+        if (!coins.containsKey(symbol)) return;
+
+        BigDecimal previous = prices.put(symbol, price);
+        if (previous == null || previous.compareTo(price) != 0) {
+            dirtySymbols.add(symbol);
+        }
+    }
+
+    // 바뀐 코인만 다시 계산해 전체 연결에 한 번에 전송
+    private void publish() {
+        try {
+            Optional<BigDecimal> cachedRate = fxRateProvider.getUsdKrwRate();
+            if (cachedRate.isEmpty()) return;
+            BigDecimal exchangeRate = cachedRate.get();
+
+            // 환율이 바뀌면 전체 코인 재계산
+            if (lastExchangeRate == null || lastExchangeRate.compareTo(exchangeRate) != 0) {
+                lastExchangeRate = exchangeRate;
+                dirtySymbols.addAll(coins.keySet());
+            }
+            refreshYesterdayPremiums();
+
+            Instant now = Instant.now();
+            List<LiveKimchiPremiumResponse> updates = new ArrayList<>();
+            for (String symbol : dirtySymbols) {
+                dirtySymbols.remove(symbol);
+
+                LiveKimchiPremiumResponse premium = calculate(symbol, exchangeRate, now);
+                if (premium != null) {
+                    latestPremiums.put(symbol, premium);
+                    updates.add(premium);
+                }
+            }
+
+            if (!updates.isEmpty() && !liveTopics.isEmpty()) {
+                sseBroadcaster.publishAll(liveTopics, "premium", updates);
+            }
+        } catch (Exception e) {
+            log.error("❌ 실시간 김치 프리미엄 전송 중 오류", e);
+        }
+    }
+
+    // 코인 하나의 김치 프리미엄 계산 (두 거래소 가격이 모두 있어야 계산)
+    private LiveKimchiPremiumResponse calculate(String symbol, BigDecimal exchangeRate, Instant now) {
+        CoinEntity coin = coins.get(symbol);
+        BigDecimal krwPrice = krwPrices.get(symbol);
+        BigDecimal usdtPrice = usdtPrices.get(symbol);
+        if (coin == null || krwPrice == null || usdtPrice == null) return null;
+
+        BigDecimal kimchiPremium = KimchiPremiumCalculator.premium(krwPrice, usdtPrice, exchangeRate);
+        BigDecimal dailyChange = KimchiPremiumCalculator.dailyChange(kimchiPremium, yesterdayPremiums.get(coin.getId()));
+
+        return new LiveKimchiPremiumResponse(
+                coin.getId(),
+                symbol,
+                krwPrice,
+                usdtPrice,
+                exchangeRate,
+                kimchiPremium,
+                dailyChange,
+                now
+        );
+    }
+
+    // 최신 값만 DB 에 저장 (다운샘플링) 후 대상 코인 목록 갱신
+    private void persist() {
+        try {
+            List<KimchiPremiumEntity> premiums = new ArrayList<>(latestPremiums.size());
+            Instant now = Instant.now();
+            for (LiveKimchiPremiumResponse premium : latestPremiums.values()) {
+                CoinEntity coin = coins.get(premium.getSymbol());
+                if (coin == null) continue;
+
+                premiums.add(KimchiPremiumEntity.builder()
+                        .coin(coin)
+                        .domesticPrice(premium.getDomesticPrice())
+                        .globalPrice(premium.getGlobalPrice())
+                        .exchangeRate(premium.getExchangeRate())
+                        .kimchiPremium(premium.getKimchiPremium())
+                        .dailyChange(premium.getDailyChange())
+                        .regDt(now)
+                        .build());
+            }
+
+            kimchiPremiumStore.save(premiums);
+            log.info("실시간 김치프리미엄 {}개 코인 저장 완료", premiums.size());
+        } catch (Exception e) {
+            log.warn("실시간 김치프리미엄 저장 실패: {}", e.getMessage());
+        }
+
+        refreshCoins();
+    }
+
+    // 대상 코인 목록을 다시 읽어 양쪽 피드 구독을 맞춘다
+    private void refreshCoins() {
+        try {
+            Map<String, CoinEntity> next = new HashMap<>();
+            for (CoinEntity coin : kimchiPremiumStore.loadSupportedCoins()) {
+                next.put(coin.getSymbol(), coin);
+            }
+
+            Set<String> added = new HashSet<>(next.keySet());
+            added.removeAll(coins.keySet());
+            Set<String> removed = new HashSet<>(coins.keySet());
+            removed.removeAll(next.keySet());
+
+            coins = Map.copyOf(next);
+            domesticFeed.subscribe(added);
+            domesticFeed.unsubscribe(removed);
+            globalFeed.subscribe(added);
+            globalFeed.unsubscribe(removed);
+
+            removed.forEach(symbol -> {
+                krwPrices.remove(symbol);
+                usdtPrices.remove(symbol);
+                latestPremiums.remove(symbol);
+            });
+        } catch (Exception e) {
+            log.warn("실시간 김치프리미엄 대상 코인 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    // 날짜가 바뀌면 어제 마지막 김치 프리미엄을 다시 조회 (하루 한 번)
+    private void refreshYesterdayPremiums() {
+        LocalDate today = LocalDate.now();
+        if (today.equals(yesterdayPremiumsDate)) return;
+
+        try {
+            yesterdayPremiums = kimchiPremiumStore.getYesterdayPremiums();
+            yesterdayPremiumsDate = today;
+            dirtySymbols.addAll(coins.keySet());
+        } catch (Exception e) {
+            log.warn("어제 김치프리미엄 조회 실패: {}", e.getMessage());
+        }
+    }
+}
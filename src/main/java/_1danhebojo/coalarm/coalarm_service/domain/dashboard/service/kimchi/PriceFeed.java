@@ -0,0 +1,12 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.kimchi;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+// 실시간 김치 프리미엄이 구독하는 가격 피드 (기준 심볼 e.g. BTC 단위로 구독, 가격은 (심볼, 현재가)로 전달)
+public interface PriceFeed {
+    void addListener(BiConsumer<String, BigDecimal> listener);
+    void subscribe(Collection<String> symbols);
+    void unsubscribe(Collection<String> symbols);
+}
@@ -0,0 +1,31 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.kimchi;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit.UpbitTickerStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+// 업비트 KRW 가격 피드 (알람 평가와 같은 UpbitTickerStream 연결을 공유)
+@Component
+@RequiredArgsConstructor
+public class UpbitKrwPriceFeed implements DomesticPriceFeed {
+    private final UpbitTickerStream upbitTickerStream;
+
+    @Override
+    public void addListener(BiConsumer<String, BigDecimal> listener) {
+        upbitTickerStream.addListener(listener);
+    }
+
+    @Override
+    public void subscribe(Collection<String> symbols) {
+        upbitTickerStream.subscribe(symbols);
+    }
+
+    @Override
+    public void unsubscribe(Collection<String> symbols) {
+        upbitTickerStream.unsubscribe(symbols);
+    }
+}
@@ -84,8 +84,6 @@ public class UserServiceImpl implements UserService {
 
         UserEntity savedUser = userRepository.save(newUser);
 
-        alertSSEService.subscribe(savedUser.getId());
-
         return UserDTO.fromEntity(savedUser);
     }
 
@@ -26,6 +26,10 @@ public enum AppHttpStatus {
     EMPTY_DISCORD_WEBHOOK(HttpStatus.BAD_REQUEST, "웹훅 URL이 비어있습니다."),
     INVALID_DISCORD_WEBHOOK(HttpStatus.BAD_REQUEST, "유효하지 않은 디스코드 웹훅 URL입니다."),
     INVALID_NICKNAME_LENGTH(HttpStatus.BAD_REQUEST, "닉네임은 2자 이상 10자 이하여야 합니다."),
+    INVALID_TRIGGER_MODE(HttpStatus.BAD_REQUEST, "유효하지 않은 알람 발동 방식입니다."),
+    INVALID_EXPIRE_DT(HttpStatus.BAD_REQUEST, "만료 시각은 현재 이후여야 합니다."),
+    INVALID_SYMBOL(HttpStatus.BAD_REQUEST, "유효하지 않은 코인 심볼입니다."),
+    TOO_MANY_STREAM_SYMBOLS(HttpStatus.BAD_REQUEST, "한 스트림에서 구독할 수 있는 심볼 수를 초과했습니다."),
 
 
     /**
@@ -44,6 +48,7 @@ public enum AppHttpStatus {
      * 403 : 접근 권한이 없음
      */
     FORBIDDEN(HttpStatus.FORBIDDEN, "권한이 없습니다."),
+    FORBIDDEN_TRADE_STREAM(HttpStatus.FORBIDDEN, "스트림 토큰이 일치하지 않아 체결 스트림을 변경할 수 없습니다."),
 
     /**
      * 404 : 응답할 리소스가 없음
@@ -54,6 +59,7 @@ public enum AppHttpStatus {
     NOT_FOUND_COIN(HttpStatus.NOT_FOUND, "존재하지 않는 코인입니다."),
     NOT_FOUND_ALERT(HttpStatus.NOT_FOUND, "존재하지 않는 알람입니다.."),
     NOT_FOUND_ALERT_HISTORY(HttpStatus.INTERNAL_SERVER_ERROR, "존재하지 않는 알람 히스토리입니다."),
+    NOT_FOUND_TRADE_STREAM(HttpStatus.NOT_FOUND, "존재하지 않는 체결 스트림입니다."),
 
     /**
      * 415 : 미디어 타입 에러
@@ -78,7 +84,12 @@ public enum AppHttpStatus {
     /**
      * 502: 게이트웨이, 프록시 역할을 하는 서버가 다른 서버로부터 유효하지 않은 응답을 받았을 때
      */
-    KAKAO_API_ERROR(HttpStatus.BAD_GATEWAY, "카카오 API 호출 중 오류가 발생했습니다.");
+    KAKAO_API_ERROR(HttpStatus.BAD_GATEWAY, "카카오 API 호출 중 오류가 발생했습니다."),
+
+    /**
+     * 503: 서버가 일시적으로 요청을 처리할 수 없음
+     */
+    KIMCHI_STREAM_DISABLED(HttpStatus.SERVICE_UNAVAILABLE, "실시간 김치 프리미엄 스트림이 비활성화되어 있습니다.");
 
 
     private final HttpStatus httpStatus;
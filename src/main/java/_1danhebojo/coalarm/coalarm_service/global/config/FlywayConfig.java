@@ -0,0 +1,18 @@
+package _1danhebojo.coalarm.coalarm_service.global.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 스키마 마이그레이션 (src/main/resources/db/migration)
+// 이미 운영 중인 DB 는 마이그레이션 이력이 없으므로 version 0 으로 기준점을 잡고 V1 부터 적용한다.
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+}
@@ -2,7 +2,6 @@ package _1danhebojo.coalarm.coalarm_service.global.oauth;
 
 import java.io.IOException;
 
-import _1danhebojo.coalarm.coalarm_service.domain.alert.service.AlertSSEService;
 import _1danhebojo.coalarm.coalarm_service.global.api.AppCookie;
 import _1danhebojo.coalarm.coalarm_service.global.properties.OAuthProperties;
 import _1danhebojo.coalarm.coalarm_service.global.jwt.JwtRepositoryImpl;
@@ -27,7 +26,6 @@ public class OAuthSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     private final String COOKIE_HEADER = "Set-Cookie";
 	private final JwtRepositoryImpl jwtRepositoryImpl;
 	private final OAuthProperties oAuthProperties;
-    private final AlertSSEService alertSSEService;
     private final AppCookie appCookie;
 
 	@Override
@@ -36,8 +34,6 @@ public class OAuthSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 		CoalarmOAuth2User oAuthUser = (CoalarmOAuth2User) authentication.getPrincipal();
         log.info("카카오 ID : {} 인증 성공, 액세스 토큰 발급... ", oAuthUser.getKakaoId());
 
-        alertSSEService.subscribe(oAuthUser.getId());
-        
         Token token = jwtRepositoryImpl.generateTokenDto(oAuthUser.getId(), oAuthUser.getKakaoId());
 
         response.addHeader(COOKIE_HEADER, appCookie.createCookie(AUTHORIZATION_HEADER, BEARER_PREFIX + token.getAccessToken()));
@@ -20,4 +20,25 @@ public class AlarmProperties {
     private long sendHeartClient;
     private long sendSubscription;
     private long alarmCountLimit;
+    // true면 업비트 WebSocket 대신 DB 티커 폴링으로 알람 평가
+    private boolean pollingEvaluation = false;
+    // true면 refreshActive 주기마다 변경된 알람만 반영하고, 전체 재로딩은 refreshFull 주기로만 수행
+    private boolean deltaRefresh = true;
+    private long refreshFull = 3600000;
+    // 알람 종류별 재발송 대기 시간 (ms)
+    private long cooldownTargetPrice = 30000;
+    private long cooldownGoldenCross = 30000;
+    private long cooldownVolumeSpike = 30000;
+    // SSE 발송 대기함: 주기당 사용자별 최대 발송 개수, 사용자별 최대 대기 개수, 여러 건을 alert-batch 로 묶을지 여부
+    private int sendBurstSize = 5;
+    private int outboxCapacity = 100;
+    private boolean coalesceBatch = true;
+    // 알람 히스토리 write-behind: 한 번에 저장할 개수, 최대 대기 시간(ms), 버퍼 크기
+    private int historyBatchSize = 500;
+    private long historyFlushInterval = 1000;
+    private int historyBufferCapacity = 10000;
+    // DB 장애 등 일시적 오류로 저장하지 못한 히스토리를 다시 넣는 최대 횟수
+    private int historyMaxRetries = 5;
+    // 디스코드 채널 전용 재발송 대기 시간 (ms)
+    private long discordCooldown = 60000;
 }
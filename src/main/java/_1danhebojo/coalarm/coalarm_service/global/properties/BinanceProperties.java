@@ -0,0 +1,16 @@
+package _1danhebojo.coalarm.coalarm_service.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "binance")
+@Getter
+@Setter
+public class BinanceProperties {
+    // 테스트 시 로컬 WebSocket 서버로 교체 가능
+    private String websocketUrl = "wss://stream.binance.com:9443/ws";
+    private long reconnectDelay = 3000;
+}
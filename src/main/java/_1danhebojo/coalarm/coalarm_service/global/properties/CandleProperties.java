@@ -0,0 +1,19 @@
+package _1danhebojo.coalarm.coalarm_service.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "candle")
+@Getter
+@Setter
+public class CandleProperties {
+    // 1분봉을 상위 봉(5m, 1h, 4h, 1d)으로 롤업하는 주기 (ms)
+    private long rollupInterval = 60000;
+    // 직전 롤업 시작 시각보다 이만큼 앞에서부터 다시 집계 (늦게 들어온 1분봉 반영, ms)
+    private long rollupOverlap = 300000;
+    // 상위 봉이 하나도 없을 때 처음 채우는 기간 (일)
+    private int backfillDays = 60;
+}
@@ -0,0 +1,15 @@
+package _1danhebojo.coalarm.coalarm_service.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "coin")
+@Getter
+@Setter
+public class CoinProperties {
+    // 코인 검색 인덱스 변경 확인 주기 (ms, 코인 목록이 바뀐 경우에만 재구성)
+    private long searchIndexRefresh = 300000;
+}
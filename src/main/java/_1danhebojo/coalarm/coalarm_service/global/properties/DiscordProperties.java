@@ -0,0 +1,27 @@
+package _1danhebojo.coalarm.coalarm_service.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "discord")
+@Getter
+@Setter
+public class DiscordProperties {
+    // HTTP 연결/응답 대기 시간 (ms)
+    private long connectTimeout = 3000;
+    private long readTimeout = 5000;
+    // 동시에 웹훅을 호출하는 스레드 수
+    private int parallelism = 4;
+    // 웹훅별 최대 대기 요청 수
+    private int queueCapacity = 100;
+    // 웹훅별 토큰 버킷 (refillPeriod 동안 rateLimitCapacity 회 호출)
+    private int rateLimitCapacity = 5;
+    private long rateLimitRefillPeriod = 2000;
+    // 한 웹훅을 연속으로 처리할 최대 요청 수 (다른 웹훅에 차례 양보)
+    private int maxBatchesPerDrain = 5;
+    // 이 시간(ms) 동안 전송이 없고 대기 요청도 없는 웹훅의 대기열/버킷 정리
+    private long channelIdleTimeout = 600000;
+}
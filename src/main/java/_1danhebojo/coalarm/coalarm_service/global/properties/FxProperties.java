@@ -0,0 +1,26 @@
+package _1danhebojo.coalarm.coalarm_service.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+@Component
+@ConfigurationProperties(prefix = "fx")
+@Getter
+@Setter
+public class FxProperties {
+    // 환율 조회 소스 (exchangerate-api / stub)
+    private String source = "exchangerate-api";
+    private String url = "https://api.exchangerate-api.com/v4/latest/USD";
+    private long connectTimeout = 3000;
+    private long readTimeout = 5000;
+    // 캐시된 환율을 그대로 쓰는 시간 (ms, 지나면 백그라운드 갱신)
+    private long ttl = 600000;
+    // 갱신이 계속 실패해도 캐시된 환율을 쓸 수 있는 최대 시간 (ms)
+    private long maxStaleness = 86400000;
+    // stub 소스가 돌려주는 USD/KRW 환율 (로컬/테스트용)
+    private BigDecimal stubRate = new BigDecimal("1350");
+}
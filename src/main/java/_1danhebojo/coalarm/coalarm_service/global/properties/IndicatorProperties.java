@@ -0,0 +1,22 @@
+package _1danhebojo.coalarm.coalarm_service.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "indicator")
+@Getter
+@Setter
+public class IndicatorProperties {
+    // 코인지표 계산 스레드 수 (DB 커넥션 풀 크기보다 작게)
+    private int parallelism = 4;
+    // 한 번의 전체 계산에 허용하는 최대 시간 (ms, 스케줄 주기 60초 안에서 끝나도록)
+    private long runTimeout = 45000;
+    // 롱/숏 강도 캐시 유지 시간 (ms, 바이낸스 데이터가 1시간 단위라 매분 조회할 필요 없음)
+    private long longStrengthTtl = 300000;
+    // 바이낸스 선물 API 타임아웃 (ms)
+    private long connectTimeout = 3000;
+    private long readTimeout = 5000;
+}
@@ -0,0 +1,21 @@
+package _1danhebojo.coalarm.coalarm_service.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "kimchi")
+@Getter
+@Setter
+public class KimchiProperties {
+    // 실시간 스트림으로 김치 프리미엄 계산 (true 면 5분 주기 일괄 계산 대신 사용)
+    private boolean streamEnabled = false;
+    // 바뀐 코인의 김치 프리미엄을 SSE 로 보내는 주기 (ms)
+    private long publishInterval = 1000;
+    // 실시간 김치 프리미엄을 DB 에 저장하는 주기 (ms, 다운샘플링)
+    private long persistInterval = 300000;
+    // 다른 인스턴스가 저장한 김치 프리미엄을 읽기 모델에 반영하는 주기 (ms)
+    private long readModelRefresh = 60000;
+}
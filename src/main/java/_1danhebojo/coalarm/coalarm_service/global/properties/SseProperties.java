@@ -0,0 +1,17 @@
+package _1danhebojo.coalarm.coalarm_service.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "sse")
+@Getter
+@Setter
+public class SseProperties {
+    // SSE 전송 전용 스레드 수
+    private int ioThreads = 8;
+    // 연결별 최대 대기 이벤트 수 (초과하면 느린 클라이언트로 보고 연결 종료)
+    private int bufferSize = 256;
+}
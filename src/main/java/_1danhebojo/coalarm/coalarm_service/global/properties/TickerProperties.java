@@ -0,0 +1,17 @@
+package _1danhebojo.coalarm.coalarm_service.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "ticker")
+@Getter
+@Setter
+public class TickerProperties {
+    // 최신 티커 캐시 갱신 주기 (ms, 마지막으로 본 timestamp 이후 티커만 조회)
+    private long snapshotPollInterval = 1000;
+    // 최신 티커 캐시 전체 재적재 주기 (ms, 늦게 들어온 티커 보정용)
+    private long snapshotFullReload = 600000;
+}
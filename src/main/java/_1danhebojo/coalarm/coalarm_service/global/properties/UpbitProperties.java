@@ -0,0 +1,24 @@
+package _1danhebojo.coalarm.coalarm_service.global.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "upbit")
+@Getter
+@Setter
+public class UpbitProperties {
+    // 테스트 시 로컬 WebSocket 서버로 교체 가능
+    private String websocketUrl = "wss://api.upbit.com/websocket/v1";
+    private long reconnectDelay = 3000;
+    // 구독 변경을 모아서 보내는 대기 시간 (ms)
+    private long subscribeDebounce = 200;
+    // WebSocket 세션 하나당 최대 구독 코드 수 (넘으면 세션 추가)
+    private int maxCodesPerSession = 100;
+    // 체결 SSE 전송 주기 (ms, 심볼별 마지막 체결 + 누적 거래량만 전송)
+    private long tradeConflateInterval = 200;
+    // 다중 심볼 체결 스트림 하나에서 구독할 수 있는 최대 심볼 수
+    private int maxStreamSymbols = 50;
+}
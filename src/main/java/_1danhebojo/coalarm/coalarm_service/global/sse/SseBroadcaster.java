@@ -0,0 +1,265 @@
+package _1danhebojo.coalarm.coalarm_service.global.sse;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.SseProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 토픽 단위 SSE 브로드캐스터
+// 이벤트는 한 번만 직렬화해서 모든 구독자가 공유하고, 연결별 제한된 버퍼에 넣은 뒤 전용 I/O 스레드에서 전송한다.
+// 버퍼가 가득 찬(따라오지 못하는) 클라이언트는 연결을 끊고 퇴출 건수를 센다.
+@Component
+@Slf4j
+public class SseBroadcaster {
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    private final SseProperties sseProperties;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService ioExecutor;
+
+    private final Map<String, Set<Subscriber>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public SseBroadcaster(SseProperties sseProperties, ObjectMapper objectMapper) {
+        this.sseProperties = sseProperties;
+        this.objectMapper = objectMapper;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.ioExecutor = Executors.newFixedThreadPool(Math.max(1, sseProperties.getIoThreads()), r -> {
+            Thread thread = new Thread(r, "sse-io-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        new ArrayList<>(topics.keySet()).forEach(this::complete);
+        ioExecutor.shutdownNow();
+    }
+
+    // 토픽 구독 (새 emitter 생성)
+    public SseEmitter subscribe(String topic) {
+        return subscribe(topic, null);
+    }
+
+    // 토픽 구독 + 연결이 끊길 때 한 번 실행할 콜백
+    public SseEmitter subscribe(String topic, Runnable onClose) {
+        SseEmitter emitter = new SseEmitter(0L);
+        Subscriber subscriber = new Subscriber(topic, emitter, Math.max(1, sseProperties.getBufferSize()), onClose);
+
+        // 추가도 compute 안에서 해야 마지막 구독자 해제(computeIfPresent 로 빈 집합 제거)와 겹쳐도 사라진 집합에 들어가지 않는다
+        topics.compute(topic, (k, subscribers) -> {
+            Set<Subscriber> target = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            target.add(subscriber);
+            return target;
+        });
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+
+        return emitter;
+    }
+
+    // 토픽 구독자에게 이벤트 전송 (eventName 이 null 이면 이름 없는 이벤트, 반환값은 전송 대상 수)
+    public int publish(String topic, String eventName, Object data) {
+        Set<Subscriber> subscribers = topics.get(topic);
+        if (subscribers == null || subscribers.isEmpty()) return 0;
+
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = encode(eventName, data);
+        if (frame == null) return 0;
+
+        subscribers.forEach(subscriber -> offer(subscriber, frame));
+        return subscribers.size();
+    }
+
+    // 여러 토픽에 같은 이벤트 전송 (직렬화는 한 번)
+    public void publishAll(Collection<String> targetTopics, String eventName, Object data) {
+        Set<ResponseBodyEmitter.DataWithMediaType> frame = null;
+
+        for (String topic : targetTopics) {
+            Set<Subscriber> subscribers = topics.get(topic);
+            if (subscribers == null || subscribers.isEmpty()) continue;
+
+            if (frame == null) {
+                frame = encode(eventName, data);
+                if (frame == null) return;
+            }
+            for (Subscriber subscriber : subscribers) {
+                offer(subscriber, frame);
+            }
+        }
+    }
+
+    // 토픽의 모든 연결 종료
+    public void complete(String topic) {
+        Set<Subscriber> subscribers = topics.get(topic);
+        if (subscribers == null) return;
+
+        for (Subscriber subscriber : new ArrayList<>(subscribers)) {
+            if (unregister(subscriber)) {
+                completeQuietly(subscriber.emitter);
+            }
+        }
+    }
+
+    public boolean hasSubscribers(String topic) {
+        Set<Subscriber> subscribers = topics.get(topic);
+        return subscribers != null && !subscribers.isEmpty();
+    }
+
+    // 현재 구독 중인 토픽 목록
+    public Set<String> getTopics() {
+        return Collections.unmodifiableSet(topics.keySet());
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public int getSubscriberCount(String topic) {
+        Set<Subscriber> subscribers = topics.get(topic);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> encode(String eventName, Object data) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event();
+        if (eventName != null) {
+            event.name(eventName);
+        }
+
+        // 구독자마다 다시 변환하지 않도록 페이로드는 여기서 UTF-8 바이트로 한 번만 만든다
+        if (data instanceof String text) {
+            event.data(text.getBytes(StandardCharsets.UTF_8), TEXT_PLAIN_UTF8);
+        } else if (data instanceof byte[] bytes) {
+            // 미리 인코딩된 JSON 바이트는 그대로 전송
+            event.data(bytes, MediaType.APPLICATION_JSON);
+        } else {
+            try {
+                event.data(objectMapper.writeValueAsBytes(data), MediaType.APPLICATION_JSON);
+            } catch (JsonProcessingException e) {
+                log.error("SSE 이벤트 직렬화 실패: {}", eventName, e);
+                return null;
+            }
+        }
+        return event.build();
+    }
+
+    private void offer(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+        if (subscriber.closed) return;
+
+        if (!subscriber.buffer.offer(frame)) {
+            evict(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) return;
+
+        try {
+            ioExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    // 연결 하나의 버퍼를 비우며 전송 (전송 실패 시 연결 정리)
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> frame;
+            while (!subscriber.closed && (frame = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(frame);
+            }
+        } catch (Exception e) {
+            if (unregister(subscriber)) {
+                completeQuietly(subscriber.emitter);
+            }
+        } finally {
+            subscriber.draining.set(false);
+            if (!subscriber.closed && !subscriber.buffer.isEmpty()) {
+                scheduleDrain(subscriber);
+            }
+        }
+    }
+
+    // 느린 클라이언트 퇴출
+    private void evict(Subscriber subscriber) {
+        if (!unregister(subscriber)) return;
+
+        evictionCount.incrementAndGet();
+        log.warn("SSE 버퍼 초과로 연결 종료: topic={}", subscriber.topic);
+
+        // complete() 는 전송 중인 I/O 스레드와 같은 락을 잡으므로 발행 스레드에서 직접 호출하지 않는다
+        try {
+            ioExecutor.execute(() -> completeQuietly(subscriber.emitter));
+        } catch (RejectedExecutionException e) {
+            completeQuietly(subscriber.emitter);
+        }
+    }
+
+    private boolean unregister(Subscriber subscriber) {
+        synchronized (subscriber) {
+            if (subscriber.closed) return false;
+            subscriber.closed = true;
+        }
+
+        topics.computeIfPresent(subscriber.topic, (k, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscriber.buffer.clear();
+        subscriberCount.decrementAndGet();
+
+        if (subscriber.onClose != null) {
+            try {
+                subscriber.onClose.run();
+            } catch (Exception e) {
+                log.warn("SSE 연결 종료 콜백 실패: {}", e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void completeQuietly(SseEmitter emitter) {
+        try {
+            emitter.complete();
+        } catch (Exception ignored) {}
+    }
+
+    private static final class Subscriber {
+        private final String topic;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+        private final Runnable onClose;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile boolean closed = false;
+
+        private Subscriber(String topic, SseEmitter emitter, int bufferSize, Runnable onClose) {
+            this.topic = topic;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+            this.onClose = onClose;
+        }
+    }
+}
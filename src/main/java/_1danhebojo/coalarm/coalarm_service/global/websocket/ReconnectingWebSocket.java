@@ -0,0 +1,137 @@
+package _1danhebojo.coalarm.coalarm_service.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.*;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 끊기면 reconnectDelay 후 다시 연결하는 클라이언트 WebSocket 연결 하나
+// 재연결 예약은 소유자가 넘겨준 스케줄러를 사용한다 (연결마다 스레드/타이머를 만들지 않음, 종료는 소유자 책임).
+// 연결될 때마다 onOpen 을 호출하므로 구독 요청은 onOpen 에서 다시 보내면 된다.
+@Slf4j
+public class ReconnectingWebSocket {
+    private final String name;
+    private final String url;
+    private final long reconnectDelay;
+    private final ScheduledExecutorService scheduler;
+    private final Runnable onOpen;
+    private final Consumer<WebSocketMessage<?>> messageHandler;
+    private final WebSocketClient client = new StandardWebSocketClient();
+
+    private volatile WebSocketSession session;
+    private volatile boolean closed = false;
+
+    public ReconnectingWebSocket(String name, String url, long reconnectDelay, ScheduledExecutorService scheduler,
+                                 Runnable onOpen, Consumer<WebSocketMessage<?>> messageHandler) {
+        this.name = name;
+        this.url = url;
+        this.reconnectDelay = reconnectDelay;
+        this.scheduler = scheduler;
+        this.onOpen = onOpen;
+        this.messageHandler = messageHandler;
+    }
+
+    public void connect() {
+        if (closed) return;
+
+        client.execute(new WebSocketHandler() {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) {
+                if (closed) {
+                    closeQuietly(session);
+                    return;
+                }
+                ReconnectingWebSocket.this.session = session;
+                log.info("✅ {} WebSocket 연결 성공", name);
+                onOpen.run();
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) {
+                try {
+                    messageHandler.accept(message);
+                } catch (Exception e) {
+                    log.error("❌ {} WebSocket 메시지 처리 중 오류", name, e);
+                }
+            }
+
+            @Override
+            public void handleTransportError(WebSocketSession session, Throwable exception) {
+                log.warn("{} WebSocket 전송 오류: {}", name, exception.getMessage());
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) {
+                log.warn("❌ {} WebSocket 연결 종료: {}", name, closeStatus);
+                ReconnectingWebSocket.this.session = null;
+                scheduleReconnect();
+            }
+
+            @Override
+            public boolean supportsPartialMessages() {
+                return false;
+            }
+        }, url).whenComplete((result, e) -> {
+            if (e != null) {
+                log.warn("{} WebSocket 연결 실패: {}", name, e.getMessage());
+                scheduleReconnect();
+            }
+        });
+    }
+
+    public boolean isOpen() {
+        WebSocketSession current = session;
+        return current != null && current.isOpen();
+    }
+
+    // 텍스트 메시지 전송 (연결되어 있지 않거나 실패하면 false, 다음 onOpen 에서 다시 보내면 됨)
+    public boolean send(String text) {
+        WebSocketSession current = session;
+        if (current == null || !current.isOpen()) return false;
+
+        try {
+            synchronized (current) {
+                current.sendMessage(new TextMessage(text));
+            }
+            return true;
+        } catch (IOException e) {
+            log.warn("{} WebSocket 전송 실패: {}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    public void close() {
+        closed = true;
+        WebSocketSession current = session;
+        if (current != null) {
+            closeQuietly(current);
+        }
+    }
+
+    private void scheduleReconnect() {
+        if (closed) return;
+
+        try {
+            scheduler.schedule(() -> {
+                if (closed) return;
+                log.info("🔁 {} WebSocket 재연결 시도", name);
+                connect();
+            }, reconnectDelay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // 소유자가 스케줄러를 종료한 경우
+        }
+    }
+
+    private void closeQuietly(WebSocketSession session) {
+        if (!session.isOpen()) return;
+        try {
+            session.close();
+        } catch (IOException ignored) {}
+    }
+}
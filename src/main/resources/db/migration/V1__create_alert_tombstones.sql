@@ -0,0 +1,10 @@
+-- 삭제된 알람 기록 (활성 알람 변경분 동기화 시 메모리에서 제거하기 위해 사용)
+-- 전체 재로딩 주기의 두 배보다 오래된 기록은 애플리케이션이 정리한다.
+CREATE TABLE IF NOT EXISTS alert_tombstones (
+    id       BIGSERIAL PRIMARY KEY,
+    alert_id BIGINT                   NOT NULL,
+    user_id  BIGINT                   NOT NULL,
+    reg_dt   TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_alert_tombstones_reg_dt ON alert_tombstones (reg_dt);
@@ -0,0 +1,10 @@
+-- 알람 발동 방식(REPEAT / ONCE / REARM)과 만료 시각
+-- 기존 알람은 REPEAT(지정가 알람은 목표가를 교차할 때마다, 그 외 알람은 조건을 만족하는 동안 쿨다운마다 발동), 만료 없음으로 유지된다.
+ALTER TABLE alerts ADD COLUMN IF NOT EXISTS trigger_mode VARCHAR(10) NOT NULL DEFAULT 'REPEAT';
+ALTER TABLE alerts ADD COLUMN IF NOT EXISTS expire_dt TIMESTAMP WITH TIME ZONE;
+
+-- REARM 모드: 발동 후 목표가 대비 이 비율(%)만큼 되돌아오면 재무장
+ALTER TABLE target_prices ADD COLUMN IF NOT EXISTS rearm_percentage NUMERIC(5, 2);
+
+-- 만료된 활성 알람 비활성화 (deactivateExpiredAlerts) 용
+CREATE INDEX IF NOT EXISTS idx_alerts_expire_dt ON alerts (expire_dt) WHERE expire_dt IS NOT NULL AND active = true;
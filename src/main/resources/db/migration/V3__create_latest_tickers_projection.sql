@@ -0,0 +1,63 @@
+-- (거래소, 기준 심볼, 호가 심볼)별 최신 티커 프로젝션
+-- tickers 는 외부 수집기가 적재하므로, tickers INSERT 트리거가 키별 최신 행을 upsert 한다.
+CREATE TABLE IF NOT EXISTS latest_tickers (
+    exchange       VARCHAR(255)             NOT NULL,
+    base_symbol    VARCHAR(255)             NOT NULL,
+    quote_symbol   VARCHAR(255)             NOT NULL,
+    timestamp      TIMESTAMP WITH TIME ZONE NOT NULL,
+    open           NUMERIC(20, 8)           NOT NULL,
+    high           NUMERIC(20, 8)           NOT NULL,
+    low            NUMERIC(20, 8)           NOT NULL,
+    close          NUMERIC(20, 8)           NOT NULL,
+    last           NUMERIC(20, 8)           NOT NULL,
+    previous_close NUMERIC(20, 8)           NOT NULL,
+    change         NUMERIC(20, 8)           NOT NULL,
+    percentage     NUMERIC(10, 8)           NOT NULL,
+    base_volume    NUMERIC(30, 12)          NOT NULL,
+    quote_volume   NUMERIC(30, 8)           NOT NULL,
+    PRIMARY KEY (exchange, base_symbol, quote_symbol)
+);
+
+-- 더 최신 티커일 때만 덮어쓴다 (늦게 들어온 과거 티커는 무시)
+-- 프로젝션 갱신이 실패해도 수집기의 tickers INSERT 는 실패시키지 않는다 (경고만 남김)
+CREATE OR REPLACE FUNCTION upsert_latest_ticker() RETURNS TRIGGER AS $$
+BEGIN
+    BEGIN
+        INSERT INTO latest_tickers (exchange, base_symbol, quote_symbol, timestamp, open, high, low, close, last,
+                                    previous_close, change, percentage, base_volume, quote_volume)
+        VALUES (NEW.exchange, NEW.base_symbol, NEW.quote_symbol, NEW.timestamp, NEW.open, NEW.high, NEW.low,
+                NEW.close, NEW.last, NEW.previous_close, NEW.change, NEW.percentage, NEW.base_volume, NEW.quote_volume)
+        ON CONFLICT (exchange, base_symbol, quote_symbol) DO UPDATE SET
+            timestamp = EXCLUDED.timestamp,
+            open = EXCLUDED.open,
+            high = EXCLUDED.high,
+            low = EXCLUDED.low,
+            close = EXCLUDED.close,
+            last = EXCLUDED.last,
+            previous_close = EXCLUDED.previous_close,
+            change = EXCLUDED.change,
+            percentage = EXCLUDED.percentage,
+            base_volume = EXCLUDED.base_volume,
+            quote_volume = EXCLUDED.quote_volume
+        WHERE latest_tickers.timestamp < EXCLUDED.timestamp;
+    EXCEPTION WHEN OTHERS THEN
+        RAISE WARNING 'latest_tickers 갱신 실패 (%, %, %): %', NEW.exchange, NEW.base_symbol, NEW.quote_symbol, SQLERRM;
+    END;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_tickers_latest_tickers ON tickers;
+CREATE TRIGGER trg_tickers_latest_tickers
+    AFTER INSERT ON tickers
+    FOR EACH ROW EXECUTE FUNCTION upsert_latest_ticker();
+
+-- 기존 tickers 에서 키별 최신 행으로 초기 적재
+INSERT INTO latest_tickers (exchange, base_symbol, quote_symbol, timestamp, open, high, low, close, last,
+                            previous_close, change, percentage, base_volume, quote_volume)
+SELECT DISTINCT ON (exchange, base_symbol, quote_symbol)
+       exchange, base_symbol, quote_symbol, timestamp, open, high, low, close, last,
+       previous_close, change, percentage, base_volume, quote_volume
+FROM tickers
+ORDER BY exchange, base_symbol, quote_symbol, timestamp DESC
+ON CONFLICT (exchange, base_symbol, quote_symbol) DO NOTHING;
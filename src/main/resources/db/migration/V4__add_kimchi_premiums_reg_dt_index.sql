@@ -0,0 +1,2 @@
+-- 어제 코인별 마지막 김치 프리미엄 조회 (reg_dt 범위 + max(id) 서브쿼리) 용
+CREATE INDEX IF NOT EXISTS idx_kimchi_premiums_reg_dt ON kimchi_premiums (reg_dt);
@@ -0,0 +1,2 @@
+-- 롱 강도를 계산하지 못한 코인은 0(균형) 대신 null 로 저장
+ALTER TABLE coin_indicators ALTER COLUMN long_strength DROP NOT NULL;
@@ -0,0 +1,171 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.AlarmProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가짜 JdbcTemplate 으로 AlertHistoryWriter 의 배치 분할/재시도 동작 확인
+class AlertHistoryWriterTest {
+
+	private FakeJdbcTemplate jdbcTemplate;
+	private AlarmProperties properties;
+	private AlertHistoryWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new FakeJdbcTemplate();
+		properties = new AlarmProperties();
+		properties.setHistoryBatchSize(100);
+		properties.setHistoryBufferCapacity(100);
+		properties.setHistoryMaxRetries(2);
+		writer = new AlertHistoryWriter(properties, jdbcTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.failure = alertIds -> null;
+		writer.destroy();
+	}
+
+	@Test
+	void writesBufferedHistoriesInOneInsert() {
+		writer.enqueue(1L, 10L);
+		writer.enqueue(2L, 10L);
+		writer.enqueue(3L, 20L);
+
+		writer.flush();
+
+		assertThat(jdbcTemplate.inserts).containsExactly(List.of(1L, 2L, 3L));
+		assertThat(writer.getWrittenCount()).isEqualTo(3);
+		assertThat(writer.getBufferedCount()).isZero();
+	}
+
+	@Test
+	void splitsBatchAndDropsOnlyRowsViolatingConstraints() {
+		// 삭제된 알람(2) 이 들어간 INSERT 는 제약 조건 위반
+		jdbcTemplate.failure = alertIds -> alertIds.contains(2L)
+				? new DataIntegrityViolationException("fk_alert_histories_alert") : null;
+		writer.enqueue(1L, 10L);
+		writer.enqueue(2L, 10L);
+		writer.enqueue(3L, 10L);
+
+		writer.flush();
+
+		assertThat(jdbcTemplate.inserts).containsExactly(List.of(1L), List.of(3L));
+		assertThat(writer.getWrittenCount()).isEqualTo(2);
+		assertThat(writer.getFailedCount()).isEqualTo(1);
+		assertThat(writer.getBufferedCount()).isZero();
+	}
+
+	@Test
+	void requeuesBatchOnTransientErrorAndWritesOnNextFlush() {
+		jdbcTemplate.failure = alertIds -> new TransientDataAccessResourceException("connection reset");
+		writer.enqueue(1L, 10L);
+		writer.enqueue(2L, 10L);
+
+		writer.flush();
+
+		assertThat(jdbcTemplate.inserts).isEmpty();
+		assertThat(writer.getBufferedCount()).isEqualTo(2);
+		assertThat(writer.getRetriedCount()).isEqualTo(2);
+
+		// DB 가 돌아오면 다음 flush 때 저장
+		jdbcTemplate.failure = alertIds -> null;
+		writer.flush();
+
+		assertThat(jdbcTemplate.inserts).containsExactly(List.of(1L, 2L));
+		assertThat(writer.getWrittenCount()).isEqualTo(2);
+		assertThat(writer.getFailedCount()).isZero();
+	}
+
+	@Test
+	void requeuesRemainingRowsWhenTransientErrorHitsDuringSplit() {
+		// 일괄 저장은 제약 조건 위반, 한 건씩 저장하다가 2 에서 일시적인 오류
+		jdbcTemplate.failure = alertIds -> {
+			if (alertIds.size() > 1) return new DataIntegrityViolationException("fk_alert_histories_alert");
+			if (alertIds.contains(2L)) return new TransientDataAccessResourceException("connection reset");
+			return null;
+		};
+		writer.enqueue(1L, 10L);
+		writer.enqueue(2L, 10L);
+		writer.enqueue(3L, 10L);
+
+		writer.flush();
+
+		// 1 은 저장, 2/3 은 버퍼로 되돌아감 (3 은 시도 전이므로 버리지 않음)
+		assertThat(jdbcTemplate.inserts).containsExactly(List.of(1L));
+		assertThat(writer.getWrittenCount()).isEqualTo(1);
+		assertThat(writer.getBufferedCount()).isEqualTo(2);
+		assertThat(writer.getFailedCount()).isZero();
+
+		jdbcTemplate.failure = alertIds -> null;
+		writer.flush();
+
+		assertThat(jdbcTemplate.inserts).containsExactly(List.of(1L), List.of(2L, 3L));
+		assertThat(writer.getWrittenCount()).isEqualTo(3);
+	}
+
+	@Test
+	void dropsHistoryAfterMaxRetries() {
+		jdbcTemplate.failure = alertIds -> new TransientDataAccessResourceException("connection reset");
+		writer.enqueue(1L, 10L);
+
+		// historyMaxRetries = 2 → 두 번까지 되돌리고 세 번째 실패에서 제외
+		writer.flush();
+		writer.flush();
+		assertThat(writer.getBufferedCount()).isEqualTo(1);
+		assertThat(writer.getFailedCount()).isZero();
+
+		writer.flush();
+		assertThat(writer.getBufferedCount()).isZero();
+		assertThat(writer.getRetriedCount()).isEqualTo(2);
+		assertThat(writer.getFailedCount()).isEqualTo(1);
+		assertThat(jdbcTemplate.inserts).isEmpty();
+	}
+
+	@Test
+	void flushesInlineWhenBufferIsFull() {
+		properties.setHistoryBufferCapacity(2);
+		writer.enqueue(1L, 10L);
+		writer.enqueue(2L, 10L);
+
+		// 버퍼가 가득 차면 호출 스레드에서 비운 뒤 적재
+		writer.enqueue(3L, 10L);
+
+		assertThat(jdbcTemplate.inserts).containsExactly(List.of(1L, 2L));
+		assertThat(writer.getBackpressureCount()).isEqualTo(1);
+		assertThat(writer.getDroppedCount()).isZero();
+		assertThat(writer.getBufferedCount()).isEqualTo(1);
+	}
+
+	// INSERT 파라미터(reg_dt, user_id, alert_id 반복)에서 alert_id 만 모아 기록하는 가짜 JdbcTemplate
+	private static class FakeJdbcTemplate extends JdbcTemplate {
+		private final List<List<Long>> inserts = new ArrayList<>();
+		// alert_id 목록 → 던질 예외 (null 이면 성공)
+		private volatile Function<List<Long>, RuntimeException> failure = alertIds -> null;
+
+		@Override
+		public synchronized int update(String sql, Object... args) {
+			List<Long> alertIds = new ArrayList<>();
+			for (int i = 2; i < args.length; i += 3) {
+				alertIds.add((Long) args[i]);
+			}
+
+			RuntimeException exception = failure.apply(alertIds);
+			if (exception != null) throw exception;
+
+			inserts.add(alertIds);
+			return alertIds.size();
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertEntity;
+import _1danhebojo.coalarm.coalarm_service.global.properties.AlarmProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// AlertOutbox 의 레인 우선순위, 중복 제거, 용량 초과 시 퇴출 순서 확인
+class AlertOutboxTest {
+
+	private static final Long USER_ID = 1L;
+
+	private AlarmProperties properties;
+	private AlertOutbox outbox;
+
+	@BeforeEach
+	void setUp() {
+		properties = new AlarmProperties();
+		outbox = new AlertOutbox(properties);
+	}
+
+	@Test
+	void drainsByLanePriorityThenArrivalOrder() {
+		outbox.offer(USER_ID, volumeSpike(1L));
+		outbox.offer(USER_ID, targetPrice(2L));
+		outbox.offer(USER_ID, goldenCross(3L));
+		outbox.offer(USER_ID, targetPrice(4L));
+
+		assertThat(ids(outbox.drain(USER_ID, 10))).containsExactly(2L, 4L, 3L, 1L);
+	}
+
+	@Test
+	void ignoresAlertAlreadyQueued() {
+		assertThat(outbox.offer(USER_ID, targetPrice(1L))).isTrue();
+		assertThat(outbox.offer(USER_ID, targetPrice(1L))).isFalse();
+
+		assertThat(ids(outbox.pending(USER_ID))).containsExactly(1L);
+	}
+
+	@Test
+	void evictsOldestAlertOfLowestLaneWhenFull() {
+		properties.setOutboxCapacity(3);
+		outbox.offer(USER_ID, goldenCross(1L));
+		outbox.offer(USER_ID, volumeSpike(2L));
+		outbox.offer(USER_ID, volumeSpike(3L));
+
+		// 가장 낮은 레인(거래량 급등)의 오래된 것부터
+		assertThat(outbox.offer(USER_ID, targetPrice(4L))).isTrue();
+		assertThat(ids(outbox.pending(USER_ID))).containsExactly(4L, 1L, 3L);
+
+		assertThat(outbox.offer(USER_ID, targetPrice(5L))).isTrue();
+		assertThat(ids(outbox.pending(USER_ID))).containsExactly(4L, 5L, 1L);
+
+		// 거래량 급등 레인이 비면 골든 크로스 레인에서 퇴출
+		assertThat(outbox.offer(USER_ID, targetPrice(6L))).isTrue();
+		assertThat(ids(outbox.pending(USER_ID))).containsExactly(4L, 5L, 6L);
+		assertThat(outbox.getDroppedCount()).isEqualTo(3);
+	}
+
+	@Test
+	void dropsNewAlertWhenOnlyHigherPriorityAlertsQueued() {
+		properties.setOutboxCapacity(2);
+		outbox.offer(USER_ID, targetPrice(1L));
+		outbox.offer(USER_ID, goldenCross(2L));
+
+		// 새 알람보다 낮거나 같은 레인에 퇴출할 알람이 없으면 새 알람을 버린다
+		assertThat(outbox.offer(USER_ID, volumeSpike(3L))).isFalse();
+		assertThat(ids(outbox.pending(USER_ID))).containsExactly(1L, 2L);
+		assertThat(outbox.getDroppedCount()).isEqualTo(1);
+
+		// 같은 레인이면 오래된 알람을 퇴출
+		assertThat(outbox.offer(USER_ID, goldenCross(4L))).isTrue();
+		assertThat(ids(outbox.pending(USER_ID))).containsExactly(1L, 4L);
+		assertThat(outbox.getDroppedCount()).isEqualTo(2);
+	}
+
+	@Test
+	void removesUserOutboxOnceDrained() {
+		outbox.offer(USER_ID, targetPrice(1L));
+		outbox.offer(USER_ID, goldenCross(2L));
+
+		assertThat(ids(outbox.drain(USER_ID, 1))).containsExactly(1L);
+		assertThat(outbox.userIds()).containsExactly(USER_ID);
+
+		assertThat(ids(outbox.drain(USER_ID, 1))).containsExactly(2L);
+		assertThat(outbox.userIds()).isEmpty();
+		assertThat(outbox.drain(USER_ID, 1)).isEmpty();
+	}
+
+	private List<Long> ids(List<AlertEntity> alerts) {
+		return alerts.stream().map(AlertEntity::getId).toList();
+	}
+
+	private AlertEntity targetPrice(Long id) {
+		return AlertEntity.builder().id(id).isTargetPrice(true).build();
+	}
+
+	private AlertEntity goldenCross(Long id) {
+		return AlertEntity.builder().id(id).isGoldenCross(true).build();
+	}
+
+	private AlertEntity volumeSpike(Long id) {
+		return AlertEntity.builder().id(id).isVolumeSpike(true).build();
+	}
+}
@@ -0,0 +1,144 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.delivery;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.DiscordProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 가짜 웹훅 서버로 DiscordDispatcher 동작 확인
+class DiscordDispatcherTest {
+
+	private HttpServer server;
+	private DiscordDispatcher dispatcher;
+	private final AtomicInteger received = new AtomicInteger();
+	private final AtomicInteger rateLimitedResponses = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/webhook", exchange -> {
+			exchange.getRequestBody().readAllBytes();
+			// 첫 요청만 429 로 응답
+			if (rateLimitedResponses.get() == 0) {
+				rateLimitedResponses.incrementAndGet();
+				respond(exchange, 429, "{\"message\":\"You are being rate limited.\",\"retry_after\":0.2,\"global\":false}");
+				return;
+			}
+			received.incrementAndGet();
+			respond(exchange, 204, null);
+		});
+		server.start();
+
+		DiscordProperties properties = new DiscordProperties();
+		properties.setParallelism(2);
+		dispatcher = new DiscordDispatcher(properties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		dispatcher.destroy();
+		server.stop(0);
+	}
+
+	@Test
+	void retriesAfterRateLimitAndSplitsEmbeds() throws InterruptedException {
+		String webhookUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/webhook";
+		List<Map<String, Object>> embeds = IntStream.range(0, 15)
+				.<Map<String, Object>>mapToObj(i -> Map.of("title", "alert-" + i))
+				.toList();
+
+		long start = System.currentTimeMillis();
+		dispatcher.dispatch(webhookUrl, embeds);
+
+		waitUntil(() -> received.get() == 2, 5000);
+
+		// 15개 embed → 요청 2건, 429 후 retry_after 이상 대기 후 재전송
+		assertThat(received.get()).isEqualTo(2);
+		assertThat(dispatcher.getSentCount()).isEqualTo(2);
+		assertThat(dispatcher.getRateLimitedCount()).isEqualTo(1);
+		assertThat(dispatcher.getFailedCount()).isZero();
+		assertThat(dispatcher.getQueueDepth()).isZero();
+		assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(200);
+	}
+
+	@Test
+	void dropsWhenWebhookQueueIsFull() {
+		DiscordProperties properties = new DiscordProperties();
+		properties.setQueueCapacity(1);
+		properties.setRateLimitCapacity(1);
+		properties.setRateLimitRefillPeriod(60000);
+		DiscordDispatcher limited = new DiscordDispatcher(properties);
+		try {
+			String webhookUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/webhook";
+			List<Map<String, Object>> embeds = IntStream.range(0, 50)
+					.<Map<String, Object>>mapToObj(i -> Map.of("title", "alert-" + i))
+					.toList();
+
+			limited.dispatch(webhookUrl, embeds);
+
+			assertThat(limited.getDroppedCount()).isGreaterThan(0);
+		} finally {
+			limited.destroy();
+		}
+	}
+
+	@Test
+	void evictsIdleChannels() throws InterruptedException {
+		DiscordProperties properties = new DiscordProperties();
+		properties.setChannelIdleTimeout(1);
+		DiscordDispatcher idle = new DiscordDispatcher(properties);
+		try {
+			String webhookUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/webhook";
+			idle.dispatch(webhookUrl, List.of(Map.of("title", "alert")));
+			assertThat(idle.getChannelCount()).isEqualTo(1);
+
+			// 429 후 재전송까지 끝나면 대기 요청이 없는 웹훅
+			waitUntil(() -> received.get() == 1 && idle.getQueueDepth() == 0, 5000);
+			Thread.sleep(10);
+			waitUntil(() -> {
+				idle.evictIdleChannels();
+				return idle.getChannelCount() == 0;
+			}, 5000);
+
+			assertThat(idle.getChannelCount()).isZero();
+			assertThat(idle.getSentCount()).isEqualTo(1);
+		} finally {
+			idle.destroy();
+		}
+	}
+
+	private void respond(HttpExchange exchange, int status, String body) throws IOException {
+		if (body == null) {
+			exchange.sendResponseHeaders(status, -1);
+			exchange.close();
+			return;
+		}
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream os = exchange.getResponseBody()) {
+			os.write(bytes);
+		}
+	}
+
+	private void waitUntil(BooleanSupplier condition, long timeoutMillis) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+	}
+}
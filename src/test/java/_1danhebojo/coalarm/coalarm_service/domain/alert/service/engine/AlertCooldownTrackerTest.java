@@ -0,0 +1,110 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.AlertHistoryRepository;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertHistoryEntity;
+import _1danhebojo.coalarm.coalarm_service.global.properties.AlarmProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// AlertCooldownTracker 의 종류별 쿨다운, 만료 큐 정리, 히스토리 복원 확인
+class AlertCooldownTrackerTest {
+
+	private AlarmProperties properties;
+	private AlertHistoryRepository alertHistoryRepository;
+	private AlertCooldownTracker tracker;
+
+	@BeforeEach
+	void setUp() {
+		properties = new AlarmProperties();
+		properties.setCooldownTargetPrice(200);
+		properties.setCooldownGoldenCross(10_000);
+		properties.setCooldownVolumeSpike(10_000);
+		alertHistoryRepository = mock(AlertHistoryRepository.class);
+		tracker = new AlertCooldownTracker(properties, alertHistoryRepository);
+	}
+
+	@Test
+	void coolsDownUntilCooldownOfAlertTypeExpires() throws InterruptedException {
+		AlertEntity alert = targetPrice(1L);
+		assertThat(tracker.isCoolingDown(1L)).isFalse();
+
+		tracker.recordFire(alert);
+		assertThat(tracker.isCoolingDown(1L)).isTrue();
+
+		Thread.sleep(250);
+		assertThat(tracker.isCoolingDown(1L)).isFalse();
+		assertThat(tracker.size()).isZero();
+	}
+
+	@Test
+	void usesLongestCooldownForAlertWithSeveralConditions() throws InterruptedException {
+		AlertEntity alert = AlertEntity.builder().id(1L).isTargetPrice(true).isGoldenCross(true).build();
+		tracker.recordFire(alert);
+
+		Thread.sleep(250);
+		assertThat(tracker.isCoolingDown(1L)).isTrue();
+	}
+
+	@Test
+	void purgeSkipsStaleExpiryOfExtendedCooldown() throws InterruptedException {
+		properties.setCooldownTargetPrice(400);
+		AlertEntity alert = targetPrice(1L);
+		tracker.recordFire(alert);
+		Thread.sleep(200);
+		// 다시 발송되어 만료 시각이 늘어남 → 큐에는 이전 만료 시각 항목이 남아 있다
+		tracker.recordFire(alert);
+		Thread.sleep(300);
+
+		// 이전 항목은 만료되었지만 늘어난 쿨다운은 지우지 않는다
+		tracker.purgeExpired();
+		assertThat(tracker.size()).isEqualTo(1);
+		assertThat(tracker.isCoolingDown(1L)).isTrue();
+
+		Thread.sleep(200);
+		tracker.purgeExpired();
+		assertThat(tracker.size()).isZero();
+	}
+
+	@Test
+	void purgeRemovesOnlyExpiredEntries() throws InterruptedException {
+		tracker.recordFire(targetPrice(1L));
+		tracker.recordFire(AlertEntity.builder().id(2L).isVolumeSpike(true).build());
+
+		Thread.sleep(250);
+		tracker.purgeExpired();
+
+		assertThat(tracker.size()).isEqualTo(1);
+		assertThat(tracker.isCoolingDown(2L)).isTrue();
+	}
+
+	@Test
+	void restoresCooldownFromRecentHistories() {
+		Instant now = Instant.now();
+		AlertEntity recent = targetPrice(1L);
+		AlertEntity old = targetPrice(2L);
+		when(alertHistoryRepository.findRecentHistoriesWithAlert(any())).thenReturn(List.of(
+				AlertHistoryEntity.builder().alert(recent).regDt(now.minusMillis(50)).build(),
+				AlertHistoryEntity.builder().alert(old).regDt(now.minusMillis(5_000)).build(),
+				// 같은 알람의 더 오래된 히스토리는 최근 만료 시각을 덮어쓰지 않음
+				AlertHistoryEntity.builder().alert(recent).regDt(now.minusMillis(5_000)).build()
+		));
+
+		tracker.init();
+
+		assertThat(tracker.isCoolingDown(1L)).isTrue();
+		assertThat(tracker.isCoolingDown(2L)).isFalse();
+	}
+
+	private AlertEntity targetPrice(Long id) {
+		return AlertEntity.builder().id(id).isTargetPrice(true).build();
+	}
+}
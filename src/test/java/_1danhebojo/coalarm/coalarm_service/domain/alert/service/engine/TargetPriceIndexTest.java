@@ -0,0 +1,213 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.engine;
+
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.AlertTriggerMode;
+import _1danhebojo.coalarm.coalarm_service.domain.alert.repository.entity.TargetPriceEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.user.repository.entity.UserEntity;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// TargetPriceIndex 교차 판정 / 재무장 / 재구성 중 변경 반영 / 전달 실패 보류 확인
+class TargetPriceIndexTest {
+
+	private static final CoinEntity BTC = CoinEntity.builder().id(1L).symbol("BTC").name("비트코인").build();
+	private static final UserEntity USER = UserEntity.builder().id(1L).build();
+
+	private final TargetPriceIndex index = new TargetPriceIndex();
+
+	@Test
+	void firesUpwardAlertOnlyWhenCrossing() {
+		index.add(alert(1L, "100", 5));
+
+		assertThat(ids(price("90"))).isEmpty();
+		assertThat(ids(price("101"))).containsExactly(1L);
+		// 목표가 위에서 움직이는 동안에는 다시 발동하지 않음
+		assertThat(ids(price("105"))).isEmpty();
+		assertThat(ids(price("102"))).isEmpty();
+	}
+
+	@Test
+	void firesDownwardAlertOnlyWhenCrossing() {
+		index.add(alert(1L, "100", -5));
+
+		assertThat(ids(price("110"))).isEmpty();
+		assertThat(ids(price("100"))).containsExactly(1L);
+		assertThat(ids(price("95"))).isEmpty();
+	}
+
+	@Test
+	void firesEveryLevelJumpedOverInOneTick() {
+		index.add(alert(1L, "100", 5));
+		index.add(alert(2L, "110", 5));
+		index.add(alert(3L, "120", 5));
+		index.add(alert(4L, "130", 5));
+		index.add(alert(5L, "105", -5));
+
+		price("95");
+		// 95 → 125 사이의 상승 목표가만, 하락 알람은 제외
+		assertThat(ids(price("125"))).containsExactlyInAnyOrder(1L, 2L, 3L);
+		// 125 → 100 하락 시 105 하락 목표가만
+		assertThat(ids(price("100"))).containsExactly(5L);
+	}
+
+	@Test
+	void doesNotFireWithoutCrossing() {
+		index.add(alert(1L, "100", 5));
+		index.add(alert(2L, "50", -5));
+
+		price("80");
+		assertThat(ids(price("99.99"))).isEmpty();
+		assertThat(ids(price("60"))).isEmpty();
+		assertThat(ids(price("80"))).isEmpty();
+	}
+
+	@Test
+	void firesAlreadyReachedAlertOnceAfterAdd() {
+		price("120");
+		index.add(alert(1L, "100", 5));
+
+		assertThat(ids(price("121"))).containsExactly(1L);
+		assertThat(ids(price("122"))).isEmpty();
+	}
+
+	@Test
+	void rearmAlertWaitsForPullbackBeforeFiringAgain() {
+		AlertEntity alert = alert(1L, "100", 5, AlertTriggerMode.REARM, "5");
+		index.add(alert);
+		price("90");
+
+		assertThat(ids(price("101"))).containsExactly(1L);
+		index.disarm(alert);
+
+		// 재무장 가격(95) 위에서 다시 넘어도 발동하지 않음
+		price("99");
+		assertThat(ids(price("101"))).isEmpty();
+
+		// 95 이하로 내려간 뒤 다시 넘으면 발동
+		price("94");
+		assertThat(ids(price("101"))).containsExactly(1L);
+	}
+
+	@Test
+	void rearmAlertWithoutPercentageIsNotDisarmed() {
+		AlertEntity alert = alert(1L, "100", 5, AlertTriggerMode.REARM, null);
+		index.add(alert);
+		price("90");
+
+		assertThat(ids(price("101"))).containsExactly(1L);
+		index.disarm(alert);
+
+		// 재무장 대기 없이 다음 교차에서 다시 발동
+		price("99");
+		assertThat(ids(price("101"))).containsExactly(1L);
+	}
+
+	@Test
+	void keepsChangesMadeDuringRebuild() {
+		AlertEntity kept = alert(1L, "100", 5);
+		AlertEntity removedDuringRebuild = alert(2L, "110", 5);
+		AlertEntity addedDuringRebuild = alert(3L, "120", 5);
+		index.add(kept);
+		index.add(removedDuringRebuild);
+		price("90");
+
+		// 활성 알람 조회 결과는 조회 시작 시점 기준 (2 는 조회 후 삭제, 3 은 조회 후 추가)
+		index.beginRebuild();
+		List<AlertEntity> loaded = List.of(kept, removedDuringRebuild);
+		index.remove(removedDuringRebuild);
+		index.add(addedDuringRebuild);
+		index.rebuild(loaded);
+
+		// 직전 가격(90)이 유지되어 교차로 판정
+		assertThat(ids(price("130"))).containsExactlyInAnyOrder(1L, 3L);
+	}
+
+	@Test
+	void rebuildKeepsDisarmedState() {
+		AlertEntity alert = alert(1L, "100", 5, AlertTriggerMode.REARM, "5");
+		index.add(alert);
+		price("90");
+		price("101");
+		index.disarm(alert);
+
+		index.beginRebuild();
+		index.rebuild(List.of(alert));
+
+		price("99");
+		assertThat(ids(price("101"))).isEmpty();
+	}
+
+	@Test
+	void parkedAlertIsNotReturnedOnEveryTick() {
+		AlertEntity alert = alert(1L, "100", 5);
+		index.add(alert);
+		price("90");
+		assertThat(ids(price("101"))).containsExactly(1L);
+
+		// 전달 실패로 보류 → 이후 가격 갱신에서는 다시 반환하지 않음
+		index.park(alert);
+		assertThat(ids(price("102"))).isEmpty();
+		assertThat(ids(price("103"))).isEmpty();
+
+		// 접속 시 아직 목표가 위라면 한 번 반환
+		assertThat(index.unpark(USER.getId())).extracting(AlertEntity::getId).containsExactly(1L);
+		assertThat(index.unpark(USER.getId())).isEmpty();
+	}
+
+	@Test
+	void parkedAlertIsDroppedWhenPriceMovesBackOrAlertIsRemoved() {
+		AlertEntity first = alert(1L, "100", 5);
+		AlertEntity second = alert(2L, "100", -5);
+		index.add(first);
+		index.add(second);
+		price("90");
+		price("101");
+		index.park(first);
+
+		// 가격이 되돌아가면 다음 교차를 기다림
+		price("99");
+		assertThat(index.unpark(USER.getId())).isEmpty();
+
+		price("101");
+		index.park(first);
+		index.remove(first);
+		assertThat(index.unpark(USER.getId())).isEmpty();
+	}
+
+	private List<AlertEntity> price(String price) {
+		return index.onPrice("BTC", new BigDecimal(price));
+	}
+
+	private List<Long> ids(List<AlertEntity> alerts) {
+		return alerts.stream().map(AlertEntity::getId).toList();
+	}
+
+	private AlertEntity alert(Long id, String price, int percentage) {
+		return alert(id, price, percentage, AlertTriggerMode.REPEAT, null);
+	}
+
+	private AlertEntity alert(Long id, String price, int percentage, AlertTriggerMode triggerMode, String rearmPercentage) {
+		TargetPriceEntity targetPrice = TargetPriceEntity.builder()
+				.price(new BigDecimal(price))
+				.percentage(percentage)
+				.rearmPercentage(rearmPercentage == null ? null : new BigDecimal(rearmPercentage))
+				.build();
+		return AlertEntity.builder()
+				.id(id)
+				.active(true)
+				.title("알람 " + id)
+				.isGoldenCross(false)
+				.isTargetPrice(true)
+				.isVolumeSpike(false)
+				.triggerMode(triggerMode)
+				.user(USER)
+				.coin(BTC)
+				.targetPrice(targetPrice)
+				.build();
+	}
+}
@@ -0,0 +1,235 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 테스트용 최소 WebSocket 서버 (업비트 서버 대역)
+// RFC 6455 핸드셰이크와 텍스트/바이너리 메시지만 지원한다 (확장, 서브프로토콜 없음).
+// 클라이언트가 보낸 텍스트 메시지를 모아두고, 모든 연결에 바이너리 메시지를 보내거나 연결을 강제로 끊을 수 있다.
+class LocalWebSocketServer implements AutoCloseable {
+	private static final String ACCEPT_GUID = "258EAFA5-E914-47DA-95CA-C5AB0DC85B11";
+
+	private final ServerSocket serverSocket;
+	private final ExecutorService executor;
+	private final List<Socket> clients = new CopyOnWriteArrayList<>();
+	private final List<String> received = new CopyOnWriteArrayList<>();
+	private final AtomicInteger connectionCount = new AtomicInteger();
+	private volatile boolean closed = false;
+
+	LocalWebSocketServer() throws IOException {
+		serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		executor = Executors.newCachedThreadPool(r -> {
+			Thread thread = new Thread(r, "local-websocket-server");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.execute(this::acceptLoop);
+	}
+
+	String url() {
+		return "ws://127.0.0.1:" + serverSocket.getLocalPort() + "/websocket/v1";
+	}
+
+	// 지금까지 연결을 맺은 횟수 (재연결 포함)
+	int getConnectionCount() {
+		return connectionCount.get();
+	}
+
+	int getOpenConnections() {
+		return clients.size();
+	}
+
+	List<String> getReceived() {
+		return received;
+	}
+
+	// 업비트처럼 바이너리 프레임으로 전송
+	void broadcast(String message) throws IOException {
+		byte[] payload = message.getBytes(StandardCharsets.UTF_8);
+		for (Socket client : clients) {
+			writeFrame(client, 0x2, payload);
+		}
+	}
+
+	// 닫기 프레임 없이 모든 연결을 끊는다 (네트워크 단절 흉내)
+	void dropConnections() {
+		for (Socket client : clients) {
+			closeQuietly(client);
+		}
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		try {
+			serverSocket.close();
+		} catch (IOException ignored) {}
+		dropConnections();
+		executor.shutdownNow();
+	}
+
+	private void acceptLoop() {
+		while (!closed) {
+			try {
+				Socket socket = serverSocket.accept();
+				executor.execute(() -> handle(socket));
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void handle(Socket socket) {
+		try {
+			InputStream in = socket.getInputStream();
+			handshake(socket, in);
+			clients.add(socket);
+			connectionCount.incrementAndGet();
+			readFrames(socket, in);
+		} catch (IOException ignored) {
+			// 연결 종료
+		} finally {
+			clients.remove(socket);
+			closeQuietly(socket);
+		}
+	}
+
+	private void handshake(Socket socket, InputStream in) throws IOException {
+		String key = null;
+		String line;
+		while (!(line = readLine(in)).isEmpty()) {
+			int colon = line.indexOf(':');
+			if (colon > 0 && line.substring(0, colon).trim().equalsIgnoreCase("Sec-WebSocket-Key")) {
+				key = line.substring(colon + 1).trim();
+			}
+		}
+		if (key == null) throw new IOException("Sec-WebSocket-Key 없음");
+
+		String response = "HTTP/1.1 101 Switching Protocols\r\n"
+				+ "Upgrade: websocket\r\n"
+				+ "Connection: Upgrade\r\n"
+				+ "Sec-WebSocket-Accept: " + acceptKey(key) + "\r\n\r\n";
+		OutputStream out = socket.getOutputStream();
+		synchronized (socket) {
+			out.write(response.getBytes(StandardCharsets.ISO_8859_1));
+			out.flush();
+		}
+	}
+
+	private void readFrames(Socket socket, InputStream in) throws IOException {
+		// 조각난 텍스트 메시지 (continuation 프레임)
+		ByteArrayOutputStream text = new ByteArrayOutputStream();
+		while (true) {
+			int first = in.read();
+			int second = in.read();
+			if (first < 0 || second < 0) return;
+
+			boolean fin = (first & 0x80) != 0;
+			int opcode = first & 0x0F;
+			long length = second & 0x7F;
+			if (length == 126) {
+				length = ((long) readByte(in) << 8) | readByte(in);
+			} else if (length == 127) {
+				length = 0;
+				for (int i = 0; i < 8; i++) {
+					length = (length << 8) | readByte(in);
+				}
+			}
+
+			byte[] mask = (second & 0x80) != 0 ? in.readNBytes(4) : null;
+			byte[] payload = in.readNBytes((int) length);
+			if (mask != null) {
+				for (int i = 0; i < payload.length; i++) {
+					payload[i] ^= mask[i % 4];
+				}
+			}
+
+			switch (opcode) {
+				case 0x0, 0x1 -> {
+					text.write(payload);
+					if (fin) {
+						received.add(text.toString(StandardCharsets.UTF_8));
+						text.reset();
+					}
+				}
+				case 0x8 -> {
+					writeFrame(socket, 0x8, payload);
+					return;
+				}
+				case 0x9 -> writeFrame(socket, 0xA, payload);
+				default -> {}
+			}
+		}
+	}
+
+	private void writeFrame(Socket socket, int opcode, byte[] payload) throws IOException {
+		ByteArrayOutputStream frame = new ByteArrayOutputStream(payload.length + 10);
+		frame.write(0x80 | opcode);
+		if (payload.length < 126) {
+			frame.write(payload.length);
+		} else if (payload.length < 65536) {
+			frame.write(126);
+			frame.write(payload.length >>> 8);
+			frame.write(payload.length & 0xFF);
+		} else {
+			frame.write(127);
+			for (int i = 7; i >= 0; i--) {
+				frame.write((int) ((long) payload.length >>> (i * 8)) & 0xFF);
+			}
+		}
+		frame.write(payload);
+
+		synchronized (socket) {
+			OutputStream out = socket.getOutputStream();
+			out.write(frame.toByteArray());
+			out.flush();
+		}
+	}
+
+	private String readLine(InputStream in) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		int b;
+		while ((b = in.read()) != -1) {
+			if (b == '\n') break;
+			if (b != '\r') line.write(b);
+		}
+		if (b == -1 && line.size() == 0) throw new IOException("연결 종료");
+		return line.toString(StandardCharsets.ISO_8859_1);
+	}
+
+	private int readByte(InputStream in) throws IOException {
+		int b = in.read();
+		if (b < 0) throw new IOException("연결 종료");
+		return b;
+	}
+
+	private String acceptKey(String key) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-1")
+					.digest((key + ACCEPT_GUID).getBytes(StandardCharsets.ISO_8859_1));
+			return Base64.getEncoder().encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void closeQuietly(Socket socket) {
+		try {
+			socket.close();
+		} catch (IOException ignored) {}
+	}
+}
@@ -0,0 +1,61 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// TradeFrameCodec 이 업비트 원본 키 이름을 유지하고 원본 프레임을 그대로 돌려주는지 확인
+class TradeFrameCodecTest {
+
+	private static final String TRADE = "{\"type\":\"trade\",\"code\":\"KRW-BTC\",\"timestamp\":1700000000100,"
+			+ "\"trade_date\":\"2023-11-14\",\"trade_price\":51234000.5,\"trade_volume\":0.0123,\"ask_bid\":\"BID\","
+			+ "\"trade_timestamp\":1700000000000,\"change\":\"RISE\",\"change_price\":120000,\"sequential_id\":1700000000000001,"
+			+ "\"stream_type\":\"REALTIME\"}";
+
+	private final TradeFrameCodec codec = new TradeFrameCodec();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void parsesBinaryTradeMessage() throws Exception {
+		TradeTick tick = codec.parse(new BinaryMessage(TRADE.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(tick.code()).isEqualTo("KRW-BTC");
+		assertThat(tick.symbol()).isEqualTo("BTC");
+		assertThat(tick.price()).isEqualByComparingTo("51234000.5");
+		assertThat(tick.volume()).isEqualByComparingTo("0.0123");
+		assertThat(tick.side()).isEqualTo("BID");
+		assertThat(tick.timestamp()).isEqualTo(1700000000000L);
+	}
+
+	@Test
+	void encodesSummaryWithUpbitFieldNames() throws Exception {
+		TradeTick tick = codec.parse(new TextMessage(TRADE));
+		JsonNode frame = objectMapper.readTree(codec.encode(tick, new BigDecimal("1.5"), 3));
+
+		assertThat(frame.get("type").asText()).isEqualTo("trade");
+		assertThat(frame.get("code").asText()).isEqualTo("KRW-BTC");
+		assertThat(frame.get("trade_price").decimalValue()).isEqualByComparingTo("51234000.5");
+		assertThat(frame.get("trade_volume").decimalValue()).isEqualByComparingTo("0.0123");
+		assertThat(frame.get("ask_bid").asText()).isEqualTo("BID");
+		assertThat(frame.get("trade_timestamp").asLong()).isEqualTo(1700000000000L);
+		assertThat(frame.get("change").asText()).isEqualTo("RISE");
+		assertThat(frame.get("change_price").decimalValue()).isEqualByComparingTo("120000");
+		assertThat(frame.get("agg_volume").decimalValue()).isEqualByComparingTo("1.5");
+		assertThat(frame.get("agg_count").asInt()).isEqualTo(3);
+	}
+
+	@Test
+	void returnsOriginalPayloadBytes() {
+		byte[] original = TRADE.getBytes(StandardCharsets.UTF_8);
+
+		assertThat(codec.payloadBytes(new BinaryMessage(original))).isEqualTo(original);
+		assertThat(codec.payloadBytes(new TextMessage(TRADE))).isEqualTo(original);
+	}
+}
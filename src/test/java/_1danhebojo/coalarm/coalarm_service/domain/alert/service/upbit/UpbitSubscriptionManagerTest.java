@@ -0,0 +1,163 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.UpbitProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 WebSocket 서버로 UpbitSubscriptionManager 구독자 수 / debounce / 세션 분할 확인
+class UpbitSubscriptionManagerTest {
+
+	private static final Pattern CODE_PATTERN = Pattern.compile("KRW-([A-Z0-9]+)");
+
+	private LocalWebSocketServer server;
+	private UpbitProperties upbitProperties;
+	private UpbitSubscriptionManager manager;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = new LocalWebSocketServer();
+
+		upbitProperties = new UpbitProperties();
+		upbitProperties.setWebsocketUrl(server.url());
+		upbitProperties.setReconnectDelay(100);
+		upbitProperties.setSubscribeDebounce(100);
+	}
+
+	@AfterEach
+	void tearDown() {
+		manager.close();
+		server.close();
+	}
+
+	@Test
+	void keepsSymbolUntilLastSubscriberReleases() {
+		manager = newManager();
+		manager.acquire("BTC");
+		manager.acquire("BTC");
+		waitUntil(() -> codes(lastSubscription()).contains("BTC"), 5000);
+
+		manager.release("BTC");
+		assertThat(manager.isSubscribed("BTC")).isTrue();
+
+		// 마지막 구독자가 빠지면 심볼이 빠지고, 담당 심볼이 없는 세션은 닫는다
+		manager.release("BTC");
+		assertThat(manager.isSubscribed("BTC")).isFalse();
+		waitUntil(() -> manager.getSessionCount() == 0 && server.getOpenConnections() == 0, 5000);
+		assertThat(manager.getSessionCount()).isZero();
+		assertThat(server.getOpenConnections()).isZero();
+	}
+
+	@Test
+	void debouncesBurstIntoFinalCodes() throws InterruptedException {
+		manager = newManager();
+		manager.acquire("BTC");
+		manager.acquire("ETH");
+		manager.acquire("XRP");
+		manager.release("XRP");
+
+		waitUntil(() -> !server.getReceived().isEmpty(), 5000);
+		Thread.sleep(300);
+
+		// 몰린 변경은 중간 상태 없이 최종 codes 전체 목록으로만 전송
+		assertThat(server.getReceived()).isNotEmpty()
+				.allSatisfy(subscription -> assertThat(codes(subscription)).containsExactly("BTC", "ETH"));
+		assertThat(lastSubscription()).contains("\"type\":\"trade\"", "\"ticket\":\"test\"");
+		assertThat(server.getConnectionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void splitsSymbolsAcrossSessionsByMaxCodes() {
+		upbitProperties.setMaxCodesPerSession(2);
+		manager = newManager();
+		manager.acquire("BTC");
+		manager.acquire("ETH");
+		manager.acquire("XRP");
+
+		waitUntil(() -> receivedCodes().size() == 3 && server.getOpenConnections() == 2, 5000);
+		assertThat(manager.getSessionCount()).isEqualTo(2);
+		assertThat(server.getConnectionCount()).isEqualTo(2);
+
+		// 세션별로 자기 codes 만 전송 (세션당 최대 2개, 합치면 전체 심볼)
+		assertThat(server.getReceived()).allSatisfy(subscription -> assertThat(codes(subscription)).hasSizeBetween(1, 2));
+		assertThat(receivedCodes()).containsExactly("BTC", "ETH", "XRP");
+	}
+
+	@Test
+	void resendsOnlyToSessionWhoseSymbolsChanged() throws InterruptedException {
+		upbitProperties.setMaxCodesPerSession(2);
+		manager = newManager();
+		manager.acquire("BTC");
+		manager.acquire("ETH");
+		manager.acquire("XRP");
+		waitUntil(() -> receivedCodes().size() == 3 && server.getOpenConnections() == 2, 5000);
+		Thread.sleep(300);
+
+		Set<String> fullSession = server.getReceived().stream()
+				.map(this::codes)
+				.filter(codes -> codes.size() == 2)
+				.findFirst()
+				.orElseThrow();
+		String released = fullSession.iterator().next();
+		Set<String> expected = new TreeSet<>(fullSession);
+		expected.remove(released);
+
+		int receivedBefore = server.getReceived().size();
+		manager.release(released);
+		waitUntil(() -> server.getReceived().size() > receivedBefore, 5000);
+		Thread.sleep(300);
+
+		// 심볼이 빠진 세션에만 남은 codes 를 다시 보내고, 다른 세션은 그대로 둔다
+		List<String> resent = server.getReceived().subList(receivedBefore, server.getReceived().size());
+		assertThat(resent).hasSize(1);
+		assertThat(codes(resent.get(0))).containsExactlyElementsOf(expected);
+		assertThat(manager.getSessionCount()).isEqualTo(2);
+	}
+
+	private UpbitSubscriptionManager newManager() {
+		return new UpbitSubscriptionManager("trade", "test", upbitProperties, message -> {});
+	}
+
+	private String lastSubscription() {
+		List<String> received = server.getReceived();
+		return received.isEmpty() ? "" : received.get(received.size() - 1);
+	}
+
+	private Set<String> codes(String subscription) {
+		Set<String> codes = new TreeSet<>();
+		Matcher matcher = CODE_PATTERN.matcher(subscription);
+		while (matcher.find()) {
+			codes.add(matcher.group(1));
+		}
+		return codes;
+	}
+
+	// 지금까지 보낸 구독 요청의 codes 합집합
+	private Set<String> receivedCodes() {
+		Set<String> codes = new TreeSet<>();
+		server.getReceived().forEach(subscription -> codes.addAll(codes(subscription)));
+		return codes;
+	}
+
+	private void waitUntil(BooleanSupplier condition, long timeoutMillis) {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+}
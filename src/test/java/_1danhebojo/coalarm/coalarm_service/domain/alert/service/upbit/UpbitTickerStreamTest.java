@@ -0,0 +1,136 @@
+package _1danhebojo.coalarm.coalarm_service.domain.alert.service.upbit;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.UpbitProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로컬 WebSocket 서버로 UpbitTickerStream 구독 / 가격 전달 / 재연결 확인
+class UpbitTickerStreamTest {
+
+	private LocalWebSocketServer server;
+	private UpbitTickerStream stream;
+	private final Map<String, BigDecimal> prices = new ConcurrentHashMap<>();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = new LocalWebSocketServer();
+
+		UpbitProperties upbitProperties = new UpbitProperties();
+		upbitProperties.setWebsocketUrl(server.url());
+		upbitProperties.setReconnectDelay(100);
+		upbitProperties.setSubscribeDebounce(10);
+
+		stream = new UpbitTickerStream(upbitProperties);
+		stream.init();
+		stream.addListener(prices::put);
+	}
+
+	@AfterEach
+	void tearDown() {
+		stream.destroy();
+		server.close();
+	}
+
+	@Test
+	void subscribesAndDeliversPrices() throws Exception {
+		stream.updateSymbols(List.of("BTC", "ETH"));
+
+		waitUntil(() -> lastSubscription().contains("KRW-BTC") && lastSubscription().contains("KRW-ETH"), 5000);
+		assertThat(lastSubscription()).contains("\"type\":\"ticker\"");
+		assertThat(stream.isConnected()).isTrue();
+
+		server.broadcast("{\"type\":\"ticker\",\"code\":\"KRW-BTC\",\"trade_price\":123456789.5}");
+		waitUntil(() -> prices.containsKey("BTC"), 5000);
+
+		assertThat(prices.get("BTC")).isEqualByComparingTo("123456789.5");
+		assertThat(stream.getLatestPrices(List.of("BTC", "ETH"))).containsOnlyKeys("BTC");
+	}
+
+	@Test
+	void releasesRemovedSymbols() {
+		stream.updateSymbols(List.of("BTC", "ETH"));
+		waitUntil(() -> lastSubscription().contains("KRW-ETH"), 5000);
+
+		stream.updateSymbols(List.of("BTC"));
+		waitUntil(() -> !lastSubscription().contains("KRW-ETH"), 5000);
+
+		assertThat(lastSubscription()).contains("KRW-BTC").doesNotContain("KRW-ETH");
+	}
+
+	@Test
+	void keepsSymbolSharedWithOtherSubscriber() {
+		// 알람 평가와 실시간 김치 프리미엄이 같은 심볼을 구독
+		stream.updateSymbols(List.of("BTC", "ETH"));
+		stream.subscribe(List.of("BTC", "XRP"));
+		waitUntil(() -> lastSubscription().contains("KRW-XRP") && lastSubscription().contains("KRW-ETH"), 5000);
+		assertThat(server.getConnectionCount()).isEqualTo(1);
+
+		// 알람 쪽에서 빠져도 다른 구독자가 쓰는 심볼은 유지
+		stream.updateSymbols(List.of());
+		waitUntil(() -> !lastSubscription().contains("KRW-ETH"), 5000);
+		assertThat(lastSubscription()).contains("KRW-BTC", "KRW-XRP").doesNotContain("KRW-ETH");
+
+		stream.unsubscribe(List.of("XRP"));
+		waitUntil(() -> !lastSubscription().contains("KRW-XRP"), 5000);
+		assertThat(lastSubscription()).contains("KRW-BTC").doesNotContain("KRW-XRP");
+	}
+
+	@Test
+	void reconnectsAndResubscribesWithoutLeakingThreads() throws Exception {
+		stream.addSymbol("BTC");
+		waitUntil(() -> server.getOpenConnections() == 1 && lastSubscription().contains("KRW-BTC"), 5000);
+
+		for (int i = 2; i <= 4; i++) {
+			int expectedConnections = i;
+			int receivedBefore = server.getReceived().size();
+			server.dropConnections();
+
+			waitUntil(() -> server.getConnectionCount() == expectedConnections
+					&& server.getReceived().size() > receivedBefore, 5000);
+			assertThat(server.getConnectionCount()).isEqualTo(expectedConnections);
+			assertThat(lastSubscription()).contains("KRW-BTC");
+		}
+
+		waitUntil(() -> stream.isConnected(), 5000);
+		server.broadcast("{\"type\":\"ticker\",\"code\":\"KRW-BTC\",\"trade_price\":100}");
+		waitUntil(() -> prices.containsKey("BTC"), 5000);
+		assertThat(prices.get("BTC")).isEqualByComparingTo("100");
+
+		// 재연결마다 타이머/스레드를 새로 만들지 않고 스케줄러 하나를 재사용 (이전 테스트의 스레드 종료 대기)
+		waitUntil(() -> threadCount("upbit-ticker-subscription") == 1, 1000);
+		assertThat(threadCount("upbit-ticker-subscription")).isEqualTo(1);
+	}
+
+	private String lastSubscription() {
+		List<String> received = server.getReceived();
+		return received.isEmpty() ? "" : received.get(received.size() - 1);
+	}
+
+	private long threadCount(String name) {
+		return Thread.getAllStackTraces().keySet().stream()
+				.filter(thread -> thread.getName().equals(name))
+				.count();
+	}
+
+	private void waitUntil(BooleanSupplier condition, long timeoutMillis) {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+}
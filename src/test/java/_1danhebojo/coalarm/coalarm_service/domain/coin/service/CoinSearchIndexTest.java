@@ -0,0 +1,81 @@
+package _1danhebojo.coalarm.coalarm_service.domain.coin.service;
+
+import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.jpa.CoinJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 한글/영문 혼합 검색어, 초성 검색, 동점 정렬 확인
+class CoinSearchIndexTest {
+
+	private CoinSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		CoinJpaRepository coinJpaRepository = mock(CoinJpaRepository.class);
+		when(coinJpaRepository.findAll()).thenReturn(List.of(
+				coin(1L, "BTC", "비트코인"),
+				coin(2L, "BSV", "비트코인 SV"),
+				coin(3L, "WBTC", "랩드비트코인"),
+				coin(4L, "ETH", "이더리움"),
+				coin(5L, "ETC", "이더리움클래식"),
+				coin(6L, "ABD", "에이비디"),
+				coin(7L, "ABC", "에이비씨")
+		));
+
+		index = new CoinSearchIndex(coinJpaRepository);
+		index.refresh();
+	}
+
+	@Test
+	void matchesMixedHangulAndLatinIgnoringCaseAndSpaces() {
+		assertThat(symbols(index.search("비트코인 sv"))).containsExactly("BSV");
+		assertThat(symbols(index.search("비트코인SV"))).containsExactly("BSV");
+		assertThat(symbols(index.search(" Btc "))).containsExactly("BTC", "WBTC");
+	}
+
+	@Test
+	void matchesChosungOnlyQuery() {
+		// 초성 접두어 일치가 초성 부분 일치보다 앞, 같은 점수면 이름이 짧은 순
+		assertThat(symbols(index.search("ㅂㅌㅋㅇ"))).containsExactly("BTC", "BSV", "WBTC");
+		assertThat(symbols(index.search("ㅇㄷㄹㅇ"))).containsExactly("ETH", "ETC");
+		assertThat(index.search("ㅋㄹㅅ")).extracting(CoinEntity::getSymbol).containsExactly("ETC");
+	}
+
+	@Test
+	void chosungIsNotMatchedForFullSyllableQuery() {
+		// 완성형 음절이 섞인 검색어는 초성 키로 비교하지 않는다
+		assertThat(index.search("ㅂ트")).isEmpty();
+	}
+
+	@Test
+	void ranksByMatchTypeThenNameLengthThenId() {
+		// 심볼 정확 일치 > 이름 정확 일치 > 심볼 접두어 > 이름 접두어 > 부분 문자열
+		assertThat(symbols(index.search("비트코인"))).containsExactly("BTC", "BSV", "WBTC");
+		assertThat(symbols(index.search("et"))).containsExactly("ETH", "ETC");
+
+		// 점수와 이름 길이가 같으면 id 순
+		assertThat(symbols(index.search("ab"))).containsExactly("ABD", "ABC");
+		assertThat(symbols(index.search("에이비"))).containsExactly("ABD", "ABC");
+	}
+
+	@Test
+	void returnsAllCoinsInIdOrderForBlankKeyword() {
+		assertThat(index.search("  ")).extracting(CoinEntity::getId)
+				.containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+	}
+
+	private static CoinEntity coin(Long id, String symbol, String name) {
+		return CoinEntity.builder().id(id).symbol(symbol).name(name).build();
+	}
+
+	private static List<String> symbols(List<CoinEntity> coins) {
+		return coins.stream().map(CoinEntity::getSymbol).toList();
+	}
+}
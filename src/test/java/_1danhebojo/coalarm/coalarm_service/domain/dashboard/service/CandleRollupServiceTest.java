@@ -0,0 +1,198 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service;
+
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.CandleRepository;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.CandleEntity;
+import _1danhebojo.coalarm.coalarm_service.global.properties.CandleProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기록용 저장소로 CandleRollupService 의 버킷 경계 / 백필 구간 / watermark 진행 확인
+class CandleRollupServiceTest {
+
+	private static final long OVERLAP = 300000;
+
+	private RecordingCandleRepository repository;
+	private CandleProperties candleProperties;
+	private CandleRollupService service;
+
+	@BeforeEach
+	void setUp() {
+		candleProperties = new CandleProperties();
+		candleProperties.setRollupOverlap(OVERLAP);
+		candleProperties.setBackfillDays(2);
+
+		repository = new RecordingCandleRepository();
+		service = new CandleRollupService(repository, candleProperties);
+		service.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.destroy();
+	}
+
+	@Test
+	void backfillsInDayWindowsAlignedToBuckets() {
+		Instant before = Instant.now();
+		service.rollup();
+
+		List<RollupCall> calls = repository.calls;
+		assertThat(calls).isNotEmpty();
+		assertThat(calls.size() % 4).isEqualTo(0);
+
+		// 모든 구간 시작은 각 봉의 버킷 경계 (UTC)
+		for (RollupCall call : calls) {
+			assertThat(call.from().toEpochMilli() % call.interval().toMillis()).isEqualTo(0);
+		}
+
+		// 하위 봉 -> 상위 봉 순서, 일봉은 1시간봉으로 집계
+		assertThat(calls.subList(0, 4)).extracting(RollupCall::target).containsExactly("5m", "1h", "4h", "1d");
+		assertThat(calls.get(3).source()).isEqualTo("1h");
+
+		// 하루 이하 구간으로 끊김 없이 이어지고 진행 중인 1분봉까지 포함
+		List<RollupCall> windows = fiveMinuteCalls();
+		Instant backfillFrom = windows.get(0).from();
+		assertThat(backfillFrom).isEqualTo(backfillFrom.truncatedTo(ChronoUnit.DAYS));
+		assertThat(backfillFrom).isBetween(before.minus(Duration.ofDays(3)), before.minus(Duration.ofDays(2)));
+		for (int i = 0; i < windows.size(); i++) {
+			RollupCall window = windows.get(i);
+			assertThat(Duration.between(window.from(), window.to())).isLessThanOrEqualTo(Duration.ofDays(1));
+			if (i > 0) assertThat(window.from()).isEqualTo(windows.get(i - 1).to());
+		}
+		assertThat(windows.get(windows.size() - 1).to()).isAfter(before);
+		assertThat(service.isDailyReady()).isTrue();
+	}
+
+	@Test
+	void resumesFromLatestRollupMinusOverlap() {
+		Instant yesterday = Instant.now().truncatedTo(ChronoUnit.DAYS).minus(Duration.ofDays(1));
+		repository.latest = yesterday.plus(Duration.ofHours(10)).plus(Duration.ofSeconds(450)); // 10:07:30
+
+		service.rollup();
+
+		// 10:07:30 - 5분 = 10:02:30 을 봉 단위로 내림
+		assertThat(repository.calls.subList(0, 4)).extracting(RollupCall::from).containsExactly(
+				yesterday.plus(Duration.ofHours(10)),
+				yesterday.plus(Duration.ofHours(10)),
+				yesterday.plus(Duration.ofHours(8)),
+				yesterday);
+	}
+
+	@Test
+	void nextRunStartsFromWatermark() {
+		Instant before = Instant.now();
+		service.rollup();
+		Instant after = Instant.now();
+		repository.calls.clear();
+
+		service.rollup();
+
+		// 직전 실행 시각 - overlap 부터 한 구간만 다시 집계하고, 기존 봉 조회는 처음 한 번만
+		assertThat(repository.calls).hasSize(4);
+		Instant from = repository.calls.get(0).from();
+		assertThat(from).isBetween(before.minusMillis(OVERLAP).minus(Duration.ofMinutes(5)), after.minusMillis(OVERLAP));
+		assertThat(repository.latestLookups).isEqualTo(1);
+	}
+
+	@Test
+	void keepsWatermarkWhenRollupFails() {
+		service.rollup();
+		repository.failNext = true;
+		repository.calls.clear();
+
+		service.rollup();
+		Instant failedFrom = repository.calls.get(0).from();
+		repository.calls.clear();
+
+		// 실패한 구간부터 다시 시도
+		service.rollup();
+		assertThat(repository.calls.get(0).from()).isEqualTo(failedFrom);
+	}
+
+	@Test
+	void dailyNotReadyUntilFirstRollupSucceeds() {
+		assertThat(service.isDailyReady()).isFalse();
+
+		repository.failNext = true;
+		service.rollup();
+		assertThat(service.isDailyReady()).isFalse();
+
+		service.rollup();
+		assertThat(service.isDailyReady()).isTrue();
+	}
+
+	@Test
+	void runsOnDedicatedThread() {
+		service.rollupCandles();
+
+		waitUntil(() -> service.isDailyReady(), 5000);
+		assertThat(service.isDailyReady()).isTrue();
+		assertThat(repository.threads).containsOnly("candle-rollup");
+	}
+
+	private List<RollupCall> fiveMinuteCalls() {
+		return repository.calls.stream().filter(call -> call.target().equals("5m")).toList();
+	}
+
+	private void waitUntil(BooleanSupplier condition, long timeoutMillis) {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private record RollupCall(String source, String target, Duration interval, Instant from, Instant to) {}
+
+	// rollup 호출을 기록하고 failNext 이면 한 번 실패하는 저장소
+	private static class RecordingCandleRepository implements CandleRepository {
+		private final List<RollupCall> calls = new CopyOnWriteArrayList<>();
+		private final List<String> threads = new CopyOnWriteArrayList<>();
+		private volatile Instant latest;
+		private volatile boolean failNext;
+		private volatile int latestLookups;
+
+		@Override
+		public List<CandleEntity> findRecentCandles(String symbol, int limit) {
+			return List.of();
+		}
+
+		@Override
+		public List<CandleEntity> findDailyCandles(String symbol, int limit) {
+			return List.of();
+		}
+
+		@Override
+		public Optional<Instant> findLatestTimestamp(String timeframe) {
+			latestLookups++;
+			return Optional.ofNullable(latest);
+		}
+
+		@Override
+		public int rollup(String sourceTimeframe, String targetTimeframe, Duration interval, Instant from, Instant to) {
+			calls.add(new RollupCall(sourceTimeframe, targetTimeframe, interval, from, to));
+			threads.add(Thread.currentThread().getName());
+			if (failNext) {
+				failNext = false;
+				throw new DataAccessResourceFailureException("down");
+			}
+			return 1;
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.fx;
+
+import _1danhebojo.coalarm.coalarm_service.global.properties.FxProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// StubFxRateSource 를 감싼 소스로 FxRateProvider 의 stale-while-revalidate / 실패 시 기존 환율 유지 확인
+class FxRateProviderTest {
+
+	private FxProperties fxProperties;
+	private ControlledSource source;
+	private FxRateProvider provider;
+
+	@BeforeEach
+	void setUp() {
+		fxProperties = new FxProperties();
+		fxProperties.setStubRate(new BigDecimal("1350"));
+		fxProperties.setTtl(100);
+		fxProperties.setMaxStaleness(600);
+
+		source = new ControlledSource(new StubFxRateSource(fxProperties));
+		provider = new FxRateProvider(source, fxProperties);
+	}
+
+	@AfterEach
+	void tearDown() {
+		source.release();
+		provider.destroy();
+	}
+
+	@Test
+	void returnsEmptyUntilFirstFetchCompletes() {
+		assertThat(provider.getUsdKrwRate()).isEmpty();
+
+		waitUntil(() -> provider.getUsdKrwRate().isPresent(), 2000);
+		assertThat(provider.getUsdKrwRate()).contains(new BigDecimal("1350"));
+		assertThat(provider.getFetchedAt()).isPresent();
+	}
+
+	@Test
+	void servesStaleRateWhileRevalidating() throws Exception {
+		provider.init();
+		waitUntil(() -> provider.getUsdKrwRate().isPresent(), 2000);
+
+		// TTL 이 지난 뒤의 갱신은 소스에서 멈춰 있게 한다
+		fxProperties.setStubRate(new BigDecimal("1400"));
+		source.block();
+		Thread.sleep(fxProperties.getTtl() + 50);
+
+		int callsBefore = source.getCalls();
+		long startedAt = System.nanoTime();
+		Optional<BigDecimal> rate = provider.getUsdKrwRate();
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+		// 갱신을 기다리지 않고 이전 환율을 바로 돌려준다
+		assertThat(rate).contains(new BigDecimal("1350"));
+		assertThat(elapsedMillis).isLessThan(100);
+		waitUntil(() -> source.getCalls() > callsBefore, 2000);
+
+		// 갱신 중에 다시 조회해도 소스를 중복 호출하지 않는다
+		provider.getUsdKrwRate();
+		provider.getUsdKrwRate();
+		assertThat(source.getCalls()).isEqualTo(callsBefore + 1);
+
+		source.release();
+		waitUntil(() -> provider.getUsdKrwRate().filter(r -> r.compareTo(new BigDecimal("1400")) == 0).isPresent(), 2000);
+		assertThat(provider.getUsdKrwRate()).contains(new BigDecimal("1400"));
+	}
+
+	@Test
+	void keepsLastRateWhenSourceFails() throws Exception {
+		provider.init();
+		waitUntil(() -> provider.getUsdKrwRate().isPresent(), 2000);
+
+		source.failWith(new IllegalStateException("환율 API 응답 없음"));
+		Thread.sleep(fxProperties.getTtl() + 50);
+
+		int callsBefore = source.getCalls();
+		assertThat(provider.getUsdKrwRate()).contains(new BigDecimal("1350"));
+		waitUntil(() -> source.getCalls() > callsBefore, 2000);
+		assertThat(provider.getUsdKrwRate()).contains(new BigDecimal("1350"));
+	}
+
+	@Test
+	void ignoresInvalidRateFromSource() throws Exception {
+		provider.init();
+		waitUntil(() -> provider.getUsdKrwRate().isPresent(), 2000);
+
+		fxProperties.setStubRate(BigDecimal.ZERO);
+		Thread.sleep(fxProperties.getTtl() + 50);
+
+		int callsBefore = source.getCalls();
+		provider.getUsdKrwRate();
+		waitUntil(() -> source.getCalls() > callsBefore, 2000);
+		assertThat(provider.getUsdKrwRate()).contains(new BigDecimal("1350"));
+	}
+
+	@Test
+	void dropsRateOlderThanMaxStaleness() throws Exception {
+		provider.init();
+		waitUntil(() -> provider.getUsdKrwRate().isPresent(), 2000);
+
+		source.failWith(new IllegalStateException("환율 API 응답 없음"));
+		Thread.sleep(fxProperties.getMaxStaleness() + 50);
+
+		// 갱신이 계속 실패해 maxStaleness 를 넘기면 환율 없음으로 본다
+		assertThat(provider.getUsdKrwRate()).isEmpty();
+		assertThat(provider.getFetchedAt()).isPresent();
+
+		// 소스가 복구되면 다시 환율을 쓴다
+		source.recover();
+		waitUntil(() -> provider.getUsdKrwRate().isPresent(), 2000);
+		assertThat(provider.getUsdKrwRate()).contains(new BigDecimal("1350"));
+	}
+
+	private void waitUntil(BooleanSupplier condition, long timeoutMillis) {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	// 호출 횟수를 세고, 필요하면 응답을 멈추거나 실패시키는 소스
+	private static class ControlledSource implements FxRateSource {
+		private final FxRateSource delegate;
+		private final AtomicInteger calls = new AtomicInteger();
+		private volatile CountDownLatch gate = new CountDownLatch(0);
+		private volatile Exception failure;
+
+		private ControlledSource(FxRateSource delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public BigDecimal fetchUsdKrw() throws Exception {
+			calls.incrementAndGet();
+			gate.await(5, TimeUnit.SECONDS);
+			if (failure != null) throw failure;
+			return delegate.fetchUsdKrw();
+		}
+
+		int getCalls() {
+			return calls.get();
+		}
+
+		void block() {
+			gate = new CountDownLatch(1);
+		}
+
+		void release() {
+			gate.countDown();
+		}
+
+		void failWith(Exception e) {
+			failure = e;
+		}
+
+		void recover() {
+			failure = null;
+		}
+	}
+}
@@ -0,0 +1,214 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.indicator;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+// double 증분 지표를 기존 BigDecimal(scale 8) 계산식과 비교
+// 기준 구현은 CoinIndicatorServiceImpl 의 calculateEMAList / calculateRSI 와 같은 식이다.
+// (RSI 는 입력을 뒤집지 않고 오래된 순으로, MACD 는 같은 봉의 단기/장기 EMA 를 맞춰서 계산)
+class IndicatorSeriesTest {
+
+	private static final double TOLERANCE = 1e-6;
+	private static final long MINUTE = 60_000L;
+
+	@Test
+	void emaMatchesBigDecimalImplementation() {
+		List<BigDecimal> prices = randomWalk(300, 1);
+		List<BigDecimal> expected = referenceEma(prices, 12);
+
+		Ema ema = new Ema(12);
+		for (int i = 0; i < prices.size(); i++) {
+			ema.update(prices.get(i).doubleValue());
+			if (i < 11) {
+				assertThat(ema.isReady()).isFalse();
+				continue;
+			}
+			assertThat(ema.value()).isCloseTo(expected.get(i - 11).doubleValue(), within(TOLERANCE));
+		}
+	}
+
+	@Test
+	void macdMatchesBigDecimalImplementation() {
+		List<BigDecimal> prices = randomWalk(120, 2);
+		IndicatorSeries series = newSeries();
+		for (int i = 0; i < prices.size(); i++) {
+			series.onCandle(i * MINUTE, prices.get(i).doubleValue());
+		}
+
+		List<BigDecimal> ema12 = referenceEma(prices, 12);
+		List<BigDecimal> ema26 = referenceEma(prices, 26);
+		List<BigDecimal> macdLine = new ArrayList<>();
+		for (int i = 0; i < ema26.size(); i++) {
+			// ema12 는 11번째 봉부터, ema26 은 25번째 봉부터 시작하므로 14칸 차이
+			macdLine.add(ema12.get(i + 14).subtract(ema26.get(i)));
+		}
+		List<BigDecimal> signalLine = referenceEma(macdLine, 9);
+
+		BigDecimal macd = macdLine.get(macdLine.size() - 1);
+		BigDecimal signal = signalLine.get(signalLine.size() - 1);
+
+		assertThat(series.isMacdReady()).isTrue();
+		assertThat(series.macd()).isCloseTo(macd.doubleValue(), within(TOLERANCE));
+		assertThat(series.signal()).isCloseTo(signal.doubleValue(), within(TOLERANCE));
+		assertThat(series.histogram()).isCloseTo(macd.subtract(signal).doubleValue(), within(TOLERANCE));
+	}
+
+	@Test
+	void rsiMatchesBigDecimalImplementation() {
+		for (int n = 15; n <= 200; n += 37) {
+			List<BigDecimal> prices = randomWalk(n, n);
+			IndicatorSeries series = newSeries();
+			for (int i = 0; i < prices.size(); i++) {
+				series.onCandle(i * MINUTE, prices.get(i).doubleValue());
+			}
+
+			assertThat(series.isRsiReady()).isTrue();
+			assertThat(series.rsi()).isCloseTo(referenceRsi(prices, 14).doubleValue(), within(TOLERANCE));
+		}
+	}
+
+	@Test
+	void rsiWithoutLossesMatchesBigDecimalImplementation() {
+		List<BigDecimal> prices = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			prices.add(BigDecimal.valueOf(100 + i));
+		}
+		IndicatorSeries series = newSeries();
+		for (int i = 0; i < prices.size(); i++) {
+			series.onCandle(i * MINUTE, prices.get(i).doubleValue());
+		}
+
+		assertThat(series.rsi()).isCloseTo(referenceRsi(prices, 14).doubleValue(), within(TOLERANCE));
+	}
+
+	@Test
+	void amendingLastCandleIsSameAsFeedingFinalClose() {
+		List<BigDecimal> prices = randomWalk(100, 3);
+		IndicatorSeries amended = newSeries();
+		IndicatorSeries direct = newSeries();
+
+		for (int i = 0; i < prices.size(); i++) {
+			double close = prices.get(i).doubleValue();
+			// 진행 중인 봉이 두 번 갱신된 뒤 확정되는 경우
+			amended.onCandle(i * MINUTE, close * 1.01);
+			amended.onCandle(i * MINUTE, close * 0.98);
+			amended.onCandle(i * MINUTE, close);
+			direct.onCandle(i * MINUTE, close);
+
+			assertThat(amended.macd()).isEqualTo(direct.macd());
+			assertThat(amended.signal()).isEqualTo(direct.signal());
+			assertThat(amended.rsi()).isEqualTo(direct.rsi());
+		}
+	}
+
+	@Test
+	void ignoresCandlesOlderThanLastOne() {
+		IndicatorSeries series = newSeries();
+		assertThat(series.onCandle(2 * MINUTE, 100)).isTrue();
+		assertThat(series.onCandle(MINUTE, 90)).isFalse();
+
+		assertThat(series.size()).isEqualTo(1);
+		assertThat(series.lastTimestamp()).isEqualTo(2 * MINUTE);
+	}
+
+	@Test
+	void ringBufferKeepsMostRecentValues() {
+		DoubleRingBuffer buffer = new DoubleRingBuffer(3);
+		for (int i = 1; i <= 5; i++) {
+			buffer.add(i);
+		}
+		buffer.replaceLast(50);
+
+		assertThat(buffer.size()).isEqualTo(3);
+		assertThat(buffer.get(0)).isEqualTo(50);
+		assertThat(buffer.get(1)).isEqualTo(4);
+		assertThat(buffer.get(2)).isEqualTo(3);
+	}
+
+	private IndicatorSeries newSeries() {
+		return new IndicatorSeries(256, IndicatorEngine.MACD_FAST, IndicatorEngine.MACD_SLOW,
+				IndicatorEngine.MACD_SIGNAL, IndicatorEngine.RSI_PERIOD);
+	}
+
+	// scale 8 가격 랜덤 워크
+	private List<BigDecimal> randomWalk(int size, long seed) {
+		Random random = new Random(seed);
+		List<BigDecimal> prices = new ArrayList<>(size);
+		double price = 1000;
+		for (int i = 0; i < size; i++) {
+			price = Math.max(1, price + random.nextGaussian() * 10);
+			prices.add(BigDecimal.valueOf(price).setScale(8, RoundingMode.HALF_UP));
+		}
+		return prices;
+	}
+
+	// CoinIndicatorServiceImpl.calculateEMAList 와 같은 식
+	private List<BigDecimal> referenceEma(List<BigDecimal> prices, int period) {
+		List<BigDecimal> emaList = new ArrayList<>();
+
+		BigDecimal sma = BigDecimal.ZERO;
+		for (int i = 0; i < period; i++) {
+			sma = sma.add(prices.get(i));
+		}
+		sma = sma.divide(BigDecimal.valueOf(period), 8, RoundingMode.HALF_UP);
+		emaList.add(sma);
+
+		BigDecimal multiplier = BigDecimal.valueOf(2.0).divide(BigDecimal.valueOf(period + 1), 8, RoundingMode.HALF_UP);
+		BigDecimal oneMinusMultiplier = BigDecimal.ONE.subtract(multiplier);
+
+		for (int i = period; i < prices.size(); i++) {
+			BigDecimal previousEma = emaList.get(emaList.size() - 1);
+			emaList.add(prices.get(i).multiply(multiplier).add(previousEma.multiply(oneMinusMultiplier)));
+		}
+		return emaList;
+	}
+
+	// CoinIndicatorServiceImpl.calculateRSI 와 같은 식 (입력은 오래된 순)
+	private BigDecimal referenceRsi(List<BigDecimal> prices, int period) {
+		List<BigDecimal> gains = new ArrayList<>();
+		List<BigDecimal> losses = new ArrayList<>();
+
+		for (int i = 1; i < prices.size(); i++) {
+			BigDecimal change = prices.get(i).subtract(prices.get(i - 1));
+			if (change.compareTo(BigDecimal.ZERO) > 0) {
+				gains.add(change);
+				losses.add(BigDecimal.ZERO);
+			} else {
+				gains.add(BigDecimal.ZERO);
+				losses.add(change.abs());
+			}
+		}
+
+		BigDecimal avgGain = BigDecimal.ZERO;
+		BigDecimal avgLoss = BigDecimal.ZERO;
+		for (int i = 0; i < period; i++) {
+			avgGain = avgGain.add(gains.get(i));
+			avgLoss = avgLoss.add(losses.get(i));
+		}
+		avgGain = avgGain.divide(BigDecimal.valueOf(period), 8, RoundingMode.HALF_UP);
+		avgLoss = avgLoss.divide(BigDecimal.valueOf(period), 8, RoundingMode.HALF_UP);
+
+		for (int i = period; i < gains.size(); i++) {
+			avgGain = avgGain.multiply(BigDecimal.valueOf(period - 1)).add(gains.get(i))
+					.divide(BigDecimal.valueOf(period), 8, RoundingMode.HALF_UP);
+			avgLoss = avgLoss.multiply(BigDecimal.valueOf(period - 1)).add(losses.get(i))
+					.divide(BigDecimal.valueOf(period), 8, RoundingMode.HALF_UP);
+		}
+
+		BigDecimal rs = avgLoss.compareTo(BigDecimal.ZERO) == 0
+				? BigDecimal.valueOf(100)
+				: avgGain.divide(avgLoss, 8, RoundingMode.HALF_UP);
+
+		return BigDecimal.valueOf(100).subtract(
+				BigDecimal.valueOf(100).divide(BigDecimal.ONE.add(rs), 8, RoundingMode.HALF_UP)
+		);
+	}
+}
@@ -0,0 +1,208 @@
+package _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.kimchi;
+
+import _1danhebojo.coalarm.coalarm_service.domain.coin.repository.entity.CoinEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.controller.response.LiveKimchiPremiumResponse;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.repository.entity.KimchiPremiumEntity;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.fx.FxRateProvider;
+import _1danhebojo.coalarm.coalarm_service.domain.dashboard.service.fx.StubFxRateSource;
+import _1danhebojo.coalarm.coalarm_service.global.properties.FxProperties;
+import _1danhebojo.coalarm.coalarm_service.global.properties.KimchiProperties;
+import _1danhebojo.coalarm.coalarm_service.global.properties.SseProperties;
+import _1danhebojo.coalarm.coalarm_service.global.sse.SseBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가짜 국내/해외 가격 피드와 저장소로 LiveKimchiPremiumService 계산 / 구독 / 저장 확인
+class LiveKimchiPremiumServiceTest {
+
+	private static final CoinEntity BTC = CoinEntity.builder().id(1L).symbol("BTC").name("비트코인").build();
+	private static final CoinEntity ETH = CoinEntity.builder().id(2L).symbol("ETH").name("이더리움").build();
+
+	private StandInFeed domesticFeed;
+	private StandInFeed globalFeed;
+	private StandInStore store;
+	private FxRateProvider fxRateProvider;
+	private SseBroadcaster sseBroadcaster;
+	private LiveKimchiPremiumService service;
+
+	@BeforeEach
+	void setUp() {
+		KimchiProperties kimchiProperties = new KimchiProperties();
+		kimchiProperties.setStreamEnabled(true);
+		kimchiProperties.setPublishInterval(100);
+		kimchiProperties.setPersistInterval(1000);
+
+		FxProperties fxProperties = new FxProperties();
+		fxProperties.setStubRate(new BigDecimal("1000"));
+		fxRateProvider = new FxRateProvider(new StubFxRateSource(fxProperties), fxProperties);
+		fxRateProvider.init();
+		waitUntil(() -> fxRateProvider.getUsdKrwRate().isPresent(), 2000);
+
+		domesticFeed = new StandInFeed();
+		globalFeed = new StandInFeed();
+		store = new StandInStore();
+		store.coins = List.of(BTC, ETH);
+		store.yesterdayPremiums = Map.of(1L, new BigDecimal("2"));
+
+		sseBroadcaster = new SseBroadcaster(new SseProperties(), new ObjectMapper());
+		service = new LiveKimchiPremiumService(kimchiProperties, domesticFeed, globalFeed, store, fxRateProvider,
+				sseBroadcaster);
+		service.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.destroy();
+		fxRateProvider.destroy();
+		sseBroadcaster.destroy();
+	}
+
+	@Test
+	void subscribesSupportedCoinsOnBothFeeds() {
+		waitUntil(() -> domesticFeed.subscribed.size() == 2 && globalFeed.subscribed.size() == 2, 2000);
+
+		assertThat(domesticFeed.subscribed).containsExactlyInAnyOrder("BTC", "ETH");
+		assertThat(globalFeed.subscribed).containsExactlyInAnyOrder("BTC", "ETH");
+	}
+
+	@Test
+	void calculatesPremiumFromBothFeeds() {
+		waitUntil(() -> domesticFeed.subscribed.contains("BTC"), 2000);
+
+		// 1000 USDT * 1000 원 = 1,000,000 원 대비 1,100,000 원 → 10%, 어제 2% 대비 +400%
+		domesticFeed.emit("BTC", new BigDecimal("1100000"));
+		globalFeed.emit("BTC", new BigDecimal("1000"));
+		// 한쪽 가격만 있는 코인과 대상이 아닌 코인은 계산하지 않는다
+		domesticFeed.emit("ETH", new BigDecimal("5000000"));
+		domesticFeed.emit("XRP", new BigDecimal("700"));
+		globalFeed.emit("XRP", new BigDecimal("0.5"));
+
+		waitUntil(() -> !service.getSnapshot().isEmpty(), 2000);
+		List<LiveKimchiPremiumResponse> snapshot = service.getSnapshot();
+
+		assertThat(snapshot).hasSize(1);
+		LiveKimchiPremiumResponse btc = snapshot.get(0);
+		assertThat(btc.getSymbol()).isEqualTo("BTC");
+		assertThat(btc.getKimchiPremium()).isEqualByComparingTo("10");
+		assertThat(btc.getDailyChange()).isEqualByComparingTo("400");
+		assertThat(btc.getExchangeRate()).isEqualByComparingTo("1000");
+	}
+
+	@Test
+	void recalculatesOnlyWhenPriceChanges() {
+		waitUntil(() -> domesticFeed.subscribed.contains("BTC"), 2000);
+		domesticFeed.emit("BTC", new BigDecimal("1100000"));
+		globalFeed.emit("BTC", new BigDecimal("1000"));
+		waitUntil(() -> !service.getSnapshot().isEmpty(), 2000);
+
+		domesticFeed.emit("BTC", new BigDecimal("1050000"));
+		waitUntil(() -> service.getSnapshot().get(0).getKimchiPremium().compareTo(new BigDecimal("5")) == 0, 2000);
+
+		assertThat(service.getSnapshot().get(0).getKimchiPremium()).isEqualByComparingTo("5");
+	}
+
+	@Test
+	void persistsLatestPremiumsThroughStore() {
+		waitUntil(() -> domesticFeed.subscribed.contains("BTC"), 2000);
+		domesticFeed.emit("BTC", new BigDecimal("1100000"));
+		globalFeed.emit("BTC", new BigDecimal("1000"));
+
+		waitUntil(() -> !store.saved.isEmpty(), 3000);
+
+		assertThat(store.saved).isNotEmpty();
+		KimchiPremiumEntity saved = store.saved.get(0);
+		assertThat(saved.getCoin().getSymbol()).isEqualTo("BTC");
+		assertThat(saved.getKimchiPremium()).isEqualByComparingTo("10");
+		assertThat(saved.getRegDt()).isNotNull();
+	}
+
+	@Test
+	void releasesDelistedCoinsAndAllSubscriptionsOnDestroy() {
+		waitUntil(() -> domesticFeed.subscribed.size() == 2, 2000);
+
+		// 다음 대상 코인 갱신(저장 주기)에서 ETH 가 빠짐
+		store.coins = List.of(BTC);
+		waitUntil(() -> !domesticFeed.subscribed.contains("ETH"), 3000);
+		assertThat(domesticFeed.subscribed).containsExactly("BTC");
+		assertThat(globalFeed.subscribed).containsExactly("BTC");
+
+		// 공유 피드는 닫지 않고 구독만 해제
+		service.destroy();
+		assertThat(domesticFeed.subscribed).isEmpty();
+		assertThat(globalFeed.subscribed).isEmpty();
+	}
+
+	private void waitUntil(BooleanSupplier condition, long timeoutMillis) {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	// 구독 심볼을 기록하고 테스트에서 가격을 직접 흘려보내는 피드
+	private static class StandInFeed implements DomesticPriceFeed, GlobalPriceFeed {
+		private final Set<String> subscribed = ConcurrentHashMap.newKeySet();
+		private final List<BiConsumer<String, BigDecimal>> listeners = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void addListener(BiConsumer<String, BigDecimal> listener) {
+			listeners.add(listener);
+		}
+
+		@Override
+		public void subscribe(Collection<String> symbols) {
+			subscribed.addAll(symbols);
+		}
+
+		@Override
+		public void unsubscribe(Collection<String> symbols) {
+			subscribed.removeAll(symbols);
+		}
+
+		void emit(String symbol, BigDecimal price) {
+			listeners.forEach(listener -> listener.accept(symbol, price));
+		}
+	}
+
+	// DB 대신 메모리에 저장하는 저장소
+	private static class StandInStore extends KimchiPremiumStore {
+		private volatile List<CoinEntity> coins = List.of();
+		private volatile Map<Long, BigDecimal> yesterdayPremiums = Map.of();
+		private final List<KimchiPremiumEntity> saved = new CopyOnWriteArrayList<>();
+
+		StandInStore() {
+			super(null, null, null);
+		}
+
+		@Override
+		public List<CoinEntity> loadSupportedCoins() {
+			return coins;
+		}
+
+		@Override
+		public Map<Long, BigDecimal> getYesterdayPremiums() {
+			return yesterdayPremiums;
+		}
+
+		@Override
+		public void save(List<KimchiPremiumEntity> premiums) {
+			saved.addAll(premiums);
+		}
+	}
+}